@@ -0,0 +1,34 @@
+package cn.xuming.erxing.lessif.benchmark;
+
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+
+/**
+ * 基准测试用异常枚举
+ *
+ * @author: 徐铭
+ * @since: 2024-05-08 21:40:12
+ **/
+public enum BenchmarkError implements ErxingExceptionAssert {
+
+    ACCOUNT_DB_NOT_EXISTS("E10001", "账套编码(不区分大小写)【{0}】不存在"),
+    REQUEST_FAILED("E10002", "请求失败"),
+    ;
+
+    private final String code;
+    private final String message;
+
+    BenchmarkError(String code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
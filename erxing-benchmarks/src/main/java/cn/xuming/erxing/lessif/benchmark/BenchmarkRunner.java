@@ -0,0 +1,49 @@
+package cn.xuming.erxing.lessif.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * 基准测试入口,在JMH命令行参数的基础上默认开启 <code>-prof gc</code> 并输出JSON结果
+ * <p>结果文件名带被测版本号(jmh-result-版本.json),不同版本的结果可用JMH Visualizer等工具直接对比</p>
+ * <pre>
+ *     java -jar target/benchmarks.jar                       全部基准测试
+ *     java -jar target/benchmarks.jar ErxingExceptionAssert  按正则筛选
+ * </pre>
+ *
+ * @author: 徐铭
+ * @since: 2024-05-14 20:11:37
+ **/
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListProfilers() || cli.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli).addProfiler(GCProfiler.class);
+        if (!cli.getResult().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON).result("jmh-result-" + erxingVersion() + ".json");
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static String erxingVersion() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = BenchmarkRunner.class.getResourceAsStream("/erxing-benchmarks.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        return properties.getProperty("erxing.version", "unknown");
+    }
+}
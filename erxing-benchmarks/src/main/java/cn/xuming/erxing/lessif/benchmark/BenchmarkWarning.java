@@ -0,0 +1,33 @@
+package cn.xuming.erxing.lessif.benchmark;
+
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+
+/**
+ * 基准测试用警告枚举
+ *
+ * @author: 徐铭
+ * @since: 2024-05-14 20:38:19
+ **/
+public enum BenchmarkWarning implements ErxingWarningAssert {
+
+    ITEM_NOT_EXISTS("W10002", "商品编码(不区分大小写)【{0}】不存在"),
+    ;
+
+    private final String code;
+    private final String message;
+
+    BenchmarkWarning(String code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
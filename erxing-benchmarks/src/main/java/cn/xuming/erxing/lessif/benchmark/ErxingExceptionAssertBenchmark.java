@@ -0,0 +1,396 @@
+package cn.xuming.erxing.lessif.benchmark;
+
+import cn.xuming.erxing.lessif.constant.CompareSymbolEnum;
+import cn.xuming.erxing.lessif.core.ErxingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static cn.xuming.erxing.lessif.benchmark.BenchmarkError.ACCOUNT_DB_NOT_EXISTS;
+
+/**
+ * {@link cn.xuming.erxing.lessif.core.ErxingExceptionAssert} 每个断言方法的通过(pass)与失败(fail)开销
+ * <p>失败路径包含创建、抛出、捕获异常,堆栈采集使用默认策略</p>
+ *
+ * @author: 徐铭
+ * @since: 2024-05-14 20:26:40
+ **/
+public class ErxingExceptionAssertBenchmark extends AbstractBenchmark {
+
+    private final Object obj = new Object();
+    private final String account = "kis001";
+    private final String missing = "jde001";
+    private final String emptyText = "";
+    private final String[] array = {"kis001", "kis002", "kis003"};
+    private final String[] emptyArray = {};
+    private final String[] arrayWithNull = {"kis001", null, "kis003"};
+    private final List<String> list = new ArrayList<>(Arrays.asList(array));
+    private final List<String> emptyList = new ArrayList<>();
+    private final List<String> listWithNull = new ArrayList<>(Arrays.asList(arrayWithNull));
+    private final Map<String, String> map = new HashMap<>();
+    private final Map<String, String> emptyMap = new HashMap<>();
+    private final BigDecimal price = new BigDecimal("99.90");
+    private final BigDecimal limit = new BigDecimal("100");
+    private final BigDecimal zero = BigDecimal.ZERO;
+
+    @Setup
+    public void setUp() {
+        map.put(account, "金蝶KIS");
+    }
+
+    @Benchmark
+    public void isNotNull_pass_varargs() {
+        ACCOUNT_DB_NOT_EXISTS.isNotNull(obj, account, account, account, account);
+    }
+
+    @Benchmark
+    public void isTrue_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isTrue(true, account);
+    }
+
+    @Benchmark
+    public ErxingException isTrue_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isTrue(false, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isFalse_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isFalse(false, account);
+    }
+
+    @Benchmark
+    public ErxingException isFalse_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isFalse(true, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isNull_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isNull(null, account);
+    }
+
+    @Benchmark
+    public ErxingException isNull_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isNull(obj, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isNotNull_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isNotNull(obj, account);
+    }
+
+    @Benchmark
+    public ErxingException isNotNull_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isNotNull(null, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isNotEmptyString_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isNotEmpty(account, account);
+    }
+
+    @Benchmark
+    public ErxingException isNotEmptyString_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isNotEmpty(emptyText, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isNotEmptyArray_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isNotEmpty(array, account);
+    }
+
+    @Benchmark
+    public ErxingException isNotEmptyArray_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isNotEmpty(emptyArray, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isNotEmptyCollection_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isNotEmpty(list, account);
+    }
+
+    @Benchmark
+    public ErxingException isNotEmptyCollection_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isNotEmpty(emptyList, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isNotEmptyMap_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isNotEmpty(map, account);
+    }
+
+    @Benchmark
+    public ErxingException isNotEmptyMap_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isNotEmpty(emptyMap, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isEmptyString_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isEmpty(emptyText, account);
+    }
+
+    @Benchmark
+    public ErxingException isEmptyString_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isEmpty(account, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isEmptyArray_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isEmpty(emptyArray, account);
+    }
+
+    @Benchmark
+    public ErxingException isEmptyArray_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isEmpty(array, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isEmptyCollection_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isEmpty(emptyList, account);
+    }
+
+    @Benchmark
+    public ErxingException isEmptyCollection_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isEmpty(list, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void isEmptyMap_pass() {
+        ACCOUNT_DB_NOT_EXISTS.isEmpty(emptyMap, account);
+    }
+
+    @Benchmark
+    public ErxingException isEmptyMap_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.isEmpty(map, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void containString_pass() {
+        ACCOUNT_DB_NOT_EXISTS.contain(account, "kis", account);
+    }
+
+    @Benchmark
+    public ErxingException containString_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.contain(account, "jde", account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void notContainString_pass() {
+        ACCOUNT_DB_NOT_EXISTS.notContain(account, "jde", account);
+    }
+
+    @Benchmark
+    public ErxingException notContainString_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.notContain(account, "kis", account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void containArray_pass() {
+        ACCOUNT_DB_NOT_EXISTS.contain(account, array, account);
+    }
+
+    @Benchmark
+    public ErxingException containArray_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.contain(missing, array, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void notContainArray_pass() {
+        ACCOUNT_DB_NOT_EXISTS.notContain(missing, array, account);
+    }
+
+    @Benchmark
+    public ErxingException notContainArray_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.notContain(account, array, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void containCollection_pass() {
+        ACCOUNT_DB_NOT_EXISTS.contain(account, list, account);
+    }
+
+    @Benchmark
+    public ErxingException containCollection_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.contain(missing, list, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void notContainCollection_pass() {
+        ACCOUNT_DB_NOT_EXISTS.notContain(missing, list, account);
+    }
+
+    @Benchmark
+    public ErxingException notContainCollection_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.notContain(account, list, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void containMap_pass() {
+        ACCOUNT_DB_NOT_EXISTS.contain(account, map, account);
+    }
+
+    @Benchmark
+    public ErxingException containMap_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.contain(missing, map, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void notContainMap_pass() {
+        ACCOUNT_DB_NOT_EXISTS.notContain(missing, map, account);
+    }
+
+    @Benchmark
+    public ErxingException notContainMap_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.notContain(account, map, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void noNullElementsArray_pass() {
+        ACCOUNT_DB_NOT_EXISTS.noNullElements(array, account);
+    }
+
+    @Benchmark
+    public ErxingException noNullElementsArray_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.noNullElements(arrayWithNull, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void noNullElementsCollection_pass() {
+        ACCOUNT_DB_NOT_EXISTS.noNullElements(list, account);
+    }
+
+    @Benchmark
+    public ErxingException noNullElementsCollection_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.noNullElements(listWithNull, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void compare_pass() {
+        ACCOUNT_DB_NOT_EXISTS.compare(price, limit, CompareSymbolEnum.LE, account);
+    }
+
+    @Benchmark
+    public ErxingException compare_fail() {
+        try {
+            ACCOUNT_DB_NOT_EXISTS.compare(price, limit, CompareSymbolEnum.GT, account);
+            return null;
+        } catch (ErxingException e) {
+            return e;
+        }
+    }
+}
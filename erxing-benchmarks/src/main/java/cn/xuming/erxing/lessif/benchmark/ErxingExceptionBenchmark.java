@@ -0,0 +1,43 @@
+package cn.xuming.erxing.lessif.benchmark;
+
+import cn.xuming.erxing.lessif.core.ErxingException;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static cn.xuming.erxing.lessif.benchmark.BenchmarkError.ACCOUNT_DB_NOT_EXISTS;
+import static cn.xuming.erxing.lessif.benchmark.BenchmarkError.REQUEST_FAILED;
+
+/**
+ * {@link ErxingException} 的创建开销(不抛出),以及创建后读取异常信息的开销
+ *
+ * @author: 徐铭
+ * @since: 2024-05-14 20:52:33
+ **/
+public class ErxingExceptionBenchmark extends AbstractBenchmark {
+
+    private final String account = "kis001";
+
+    @Benchmark
+    public ErxingException constructWithMessage() {
+        return new ErxingException("E10001", "账套编码(不区分大小写)【kis001】不存在");
+    }
+
+    @Benchmark
+    public ErxingException constructWithAssert() {
+        return new ErxingException(ACCOUNT_DB_NOT_EXISTS, account);
+    }
+
+    @Benchmark
+    public ErxingException newException() {
+        return ACCOUNT_DB_NOT_EXISTS.newException(account);
+    }
+
+    @Benchmark
+    public ErxingException newExceptionWithoutArgs() {
+        return REQUEST_FAILED.newException();
+    }
+
+    @Benchmark
+    public String newExceptionAndGetMessage() {
+        return ACCOUNT_DB_NOT_EXISTS.newException(account).getMessage();
+    }
+}
@@ -0,0 +1,105 @@
+package cn.xuming.erxing.lessif.benchmark;
+
+import cn.xuming.erxing.lessif.R;
+import cn.xuming.erxing.lessif.core.ErxingException;
+import cn.xuming.erxing.lessif.core.ErxingExceptionHandler;
+import cn.xuming.erxing.lessif.web.PreparedR;
+import cn.xuming.erxing.lessif.web.PreparedRHttpMessageConverter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static cn.xuming.erxing.lessif.benchmark.BenchmarkError.ACCOUNT_DB_NOT_EXISTS;
+import static cn.xuming.erxing.lessif.benchmark.BenchmarkError.REQUEST_FAILED;
+
+/**
+ * {@link ErxingExceptionHandler#handleCustomException(ErxingException)} 生成错误响应的开销
+ * <p>日志输出已在logback.xml中关闭,测试结果不包含日志I/O</p>
+ *
+ * @author: 徐铭
+ * @since: 2024-05-14 21:15:20
+ **/
+public class ErxingExceptionHandlerBenchmark extends AbstractBenchmark {
+
+    private final ErxingExceptionHandler handler = new ErxingExceptionHandler();
+
+    private ObjectMapper objectMapper;
+
+    private ErxingException withArgs;
+
+    private ErxingException withoutArgs;
+
+    private PreparedRHttpMessageConverter preparedConverter;
+
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+
+    private final HttpOutputMessage outputMessage = new HttpOutputMessage() {
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        withArgs = ACCOUNT_DB_NOT_EXISTS.newException("kis001");
+        withoutArgs = REQUEST_FAILED.newException();
+        preparedConverter = new PreparedRHttpMessageConverter(objectMapper);
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Benchmark
+    public R<Void> handle() {
+        return handler.handleCustomException(withArgs);
+    }
+
+    @Benchmark
+    public byte[] handleAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleCustomException(withArgs));
+    }
+
+    @Benchmark
+    public byte[] handleWithoutArgsAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleCustomException(withoutArgs));
+    }
+
+    /**
+     * 对照组:Spring MVC默认的Jackson消息转换器
+     */
+    @Benchmark
+    public int handleWithoutArgsAndWriteJackson() throws IOException {
+        body.reset();
+        jacksonConverter.write(handler.handleCustomException(withoutArgs), R.class, MediaType.APPLICATION_JSON, outputMessage);
+        return body.size();
+    }
+
+    /**
+     * 错误信息不含参数时,经 {@link PreparedRHttpMessageConverter} 直接输出缓存的JSON
+     */
+    @Benchmark
+    public int handleWithoutArgsAndWritePrepared() throws IOException {
+        body.reset();
+        preparedConverter.write((PreparedR) handler.handleCustomException(withoutArgs), MediaType.APPLICATION_JSON, outputMessage);
+        return body.size();
+    }
+}
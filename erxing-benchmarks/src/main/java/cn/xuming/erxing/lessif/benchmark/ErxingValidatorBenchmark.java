@@ -0,0 +1,138 @@
+package cn.xuming.erxing.lessif.benchmark;
+
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+import cn.xuming.erxing.lessif.validation.ErxingNotEmpty;
+import cn.xuming.erxing.lessif.validation.ErxingNotNull;
+import cn.xuming.erxing.lessif.validation.ErxingPositive;
+import cn.xuming.erxing.lessif.validation.ErxingValidated;
+import cn.xuming.erxing.lessif.validation.ErxingValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 注解校验:生成的 {@link ErxingValidator} 与反射校验、手写断言的对比(均为校验通过的路径)
+ * <p>反射校验已预先缓存字段与注解,只保留每次校验必须的 {@link Field#get(Object)} 与按注解类型分派,
+ * 相当于常见反射校验框架的最优情况</p>
+ *
+ * @author: 徐铭
+ * @since: 2024-06-08 21:05:48
+ **/
+public class ErxingValidatorBenchmark extends AbstractBenchmark {
+
+    private final OrderDTO order = new OrderDTO();
+
+    private ErxingValidator validator;
+
+    private List<ReflectiveCheck> reflectiveChecks;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        order.id = 1L;
+        order.name = "金蝶KIS";
+        order.account = "kis001";
+        order.lines = Collections.singletonList("明细1");
+        order.qty = 10;
+        order.price = 99.9d;
+        validator = ErxingValidator.of(OrderDTO.class);
+        reflectiveChecks = new ArrayList<>();
+        for (Field field : OrderDTO.class.getDeclaredFields()) {
+            field.setAccessible(true);
+            for (Annotation annotation : field.getDeclaredAnnotations()) {
+                reflectiveChecks.add(new ReflectiveCheck(field, annotation));
+            }
+        }
+    }
+
+    @Benchmark
+    public void generated() {
+        validator.check(order);
+    }
+
+    @Benchmark
+    public void generatedStatic() {
+        ErxingValidator.validate(order);
+    }
+
+    @Benchmark
+    public void reflection() throws IllegalAccessException {
+        for (ReflectiveCheck check : reflectiveChecks) {
+            check.check(order);
+        }
+    }
+
+    @Benchmark
+    public void handWritten() {
+        BenchmarkError.ACCOUNT_DB_NOT_EXISTS.isNotNull(order.id);
+        BenchmarkError.REQUEST_FAILED.isNotEmpty(order.name, "名称");
+        BenchmarkError.REQUEST_FAILED.isNotEmpty(order.account, "账套");
+        BenchmarkError.REQUEST_FAILED.isNotEmpty(order.lines, "明细");
+        BenchmarkError.REQUEST_FAILED.isPositive(order.qty, "数量");
+        BenchmarkError.REQUEST_FAILED.isPositive(order.price, "单价");
+    }
+
+    @ErxingValidated(BenchmarkError.class)
+    public static class OrderDTO {
+        @ErxingNotNull(code = "E10001")
+        Long id;
+        @ErxingNotEmpty(code = "E10002", args = "名称")
+        String name;
+        @ErxingNotEmpty(code = "E10002", args = "账套")
+        String account;
+        @ErxingNotEmpty(code = "E10002", args = "明细")
+        List<String> lines;
+        @ErxingPositive(code = "E10002", args = "数量")
+        int qty;
+        @ErxingPositive(code = "E10002", args = "单价")
+        double price;
+    }
+
+    private static final class ReflectiveCheck {
+
+        private final Field field;
+
+        private final Annotation annotation;
+
+        private final ErxingExceptionAssert error;
+
+        private final Object[] args;
+
+        private ReflectiveCheck(Field field, Annotation annotation) {
+            this.field = field;
+            this.annotation = annotation;
+            String code;
+            if (annotation instanceof ErxingNotNull) {
+                code = ((ErxingNotNull) annotation).code();
+                args = ((ErxingNotNull) annotation).args();
+            } else if (annotation instanceof ErxingNotEmpty) {
+                code = ((ErxingNotEmpty) annotation).code();
+                args = ((ErxingNotEmpty) annotation).args();
+            } else {
+                code = ((ErxingPositive) annotation).code();
+                args = ((ErxingPositive) annotation).args();
+            }
+            this.error = "E10001".equals(code) ? BenchmarkError.ACCOUNT_DB_NOT_EXISTS : BenchmarkError.REQUEST_FAILED;
+        }
+
+        private void check(Object dto) throws IllegalAccessException {
+            Object value = field.get(dto);
+            if (annotation instanceof ErxingNotNull) {
+                error.isNotNull(value, args);
+            } else if (annotation instanceof ErxingNotEmpty) {
+                if (value instanceof String) {
+                    error.isNotEmpty((String) value, args);
+                } else {
+                    error.isNotEmpty((Collection<?>) value, args);
+                }
+            } else {
+                error.isPositive((Number) value, args);
+            }
+        }
+    }
+}
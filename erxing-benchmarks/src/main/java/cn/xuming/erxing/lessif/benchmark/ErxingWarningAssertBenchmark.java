@@ -0,0 +1,288 @@
+package cn.xuming.erxing.lessif.benchmark;
+
+import cn.xuming.erxing.lessif.constant.CompareSymbolEnum;
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import static cn.xuming.erxing.lessif.benchmark.BenchmarkWarning.ITEM_NOT_EXISTS;
+
+/**
+ * {@link ErxingWarningAssert} 每个打印日志的断言方法的通过(pass)与失败(fail)开销
+ * <p>失败路径包含拼接警告信息,日志级别设为OFF以排除控制台输出的干扰</p>
+ *
+ * @author: 徐铭
+ * @since: 2024-05-14 20:41:05
+ **/
+public class ErxingWarningAssertBenchmark extends AbstractBenchmark {
+
+    private final Object obj = new Object();
+    private final String account = "kis001";
+    private final String missing = "jde001";
+    private final String emptyText = "";
+    private final String[] array = {"kis001", "kis002", "kis003"};
+    private final String[] emptyArray = {};
+    private final String[] arrayWithNull = {"kis001", null, "kis003"};
+    private final List<String> list = new ArrayList<>(Arrays.asList(array));
+    private final List<String> emptyList = new ArrayList<>();
+    private final List<String> listWithNull = new ArrayList<>(Arrays.asList(arrayWithNull));
+    private final Map<String, String> map = new HashMap<>();
+    private final Map<String, String> emptyMap = new HashMap<>();
+    private final BigDecimal price = new BigDecimal("99.90");
+    private final BigDecimal limit = new BigDecimal("100");
+    private final BigDecimal zero = BigDecimal.ZERO;
+
+    @Setup
+    public void setUp() {
+        map.put(account, "金蝶KIS");
+        ErxingWarningAssert.logger.setLevel(Level.OFF);
+    }
+
+    @Benchmark
+    public boolean isTrue_pass() {
+        return ITEM_NOT_EXISTS.isTrue(true, account);
+    }
+
+    @Benchmark
+    public boolean isTrue_fail() {
+        return ITEM_NOT_EXISTS.isTrue(false, account);
+    }
+
+    @Benchmark
+    public boolean isFalse_pass() {
+        return ITEM_NOT_EXISTS.isFalse(false, account);
+    }
+
+    @Benchmark
+    public boolean isFalse_fail() {
+        return ITEM_NOT_EXISTS.isFalse(true, account);
+    }
+
+    @Benchmark
+    public boolean isNull_pass() {
+        return ITEM_NOT_EXISTS.isNull(null, account);
+    }
+
+    @Benchmark
+    public boolean isNull_fail() {
+        return ITEM_NOT_EXISTS.isNull(obj, account);
+    }
+
+    @Benchmark
+    public boolean isNotNull_pass() {
+        return ITEM_NOT_EXISTS.isNotNull(obj, account);
+    }
+
+    @Benchmark
+    public boolean isNotNull_fail() {
+        return ITEM_NOT_EXISTS.isNotNull(null, account);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyString_pass() {
+        return ITEM_NOT_EXISTS.isNotEmpty(account, account);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyString_fail() {
+        return ITEM_NOT_EXISTS.isNotEmpty(emptyText, account);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyArray_pass() {
+        return ITEM_NOT_EXISTS.isNotEmpty(array, account);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyArray_fail() {
+        return ITEM_NOT_EXISTS.isNotEmpty(emptyArray, account);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyCollection_pass() {
+        return ITEM_NOT_EXISTS.isNotEmpty(list, account);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyCollection_fail() {
+        return ITEM_NOT_EXISTS.isNotEmpty(emptyList, account);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyMap_pass() {
+        return ITEM_NOT_EXISTS.isNotEmpty(map, account);
+    }
+
+    @Benchmark
+    public boolean isNotEmptyMap_fail() {
+        return ITEM_NOT_EXISTS.isNotEmpty(emptyMap, account);
+    }
+
+    @Benchmark
+    public boolean isEmptyString_pass() {
+        return ITEM_NOT_EXISTS.isEmpty(emptyText, account);
+    }
+
+    @Benchmark
+    public boolean isEmptyString_fail() {
+        return ITEM_NOT_EXISTS.isEmpty(account, account);
+    }
+
+    @Benchmark
+    public boolean isEmptyArray_pass() {
+        return ITEM_NOT_EXISTS.isEmpty(emptyArray, account);
+    }
+
+    @Benchmark
+    public boolean isEmptyArray_fail() {
+        return ITEM_NOT_EXISTS.isEmpty(array, account);
+    }
+
+    @Benchmark
+    public boolean isEmptyCollection_pass() {
+        return ITEM_NOT_EXISTS.isEmpty(emptyList, account);
+    }
+
+    @Benchmark
+    public boolean isEmptyCollection_fail() {
+        return ITEM_NOT_EXISTS.isEmpty(list, account);
+    }
+
+    @Benchmark
+    public boolean isEmptyMap_pass() {
+        return ITEM_NOT_EXISTS.isEmpty(emptyMap, account);
+    }
+
+    @Benchmark
+    public boolean isEmptyMap_fail() {
+        return ITEM_NOT_EXISTS.isEmpty(map, account);
+    }
+
+    @Benchmark
+    public boolean containString_pass() {
+        return ITEM_NOT_EXISTS.contain(account, "kis", account);
+    }
+
+    @Benchmark
+    public boolean containString_fail() {
+        return ITEM_NOT_EXISTS.contain(account, "jde", account);
+    }
+
+    @Benchmark
+    public boolean notContainString_pass() {
+        return ITEM_NOT_EXISTS.notContain(account, "jde", account);
+    }
+
+    @Benchmark
+    public boolean notContainString_fail() {
+        return ITEM_NOT_EXISTS.notContain(account, "kis", account);
+    }
+
+    @Benchmark
+    public boolean containArray_pass() {
+        return ITEM_NOT_EXISTS.contain(account, array, account);
+    }
+
+    @Benchmark
+    public boolean containArray_fail() {
+        return ITEM_NOT_EXISTS.contain(missing, array, account);
+    }
+
+    @Benchmark
+    public boolean notContainArray_pass() {
+        return ITEM_NOT_EXISTS.notContain(missing, array, account);
+    }
+
+    @Benchmark
+    public boolean notContainArray_fail() {
+        return ITEM_NOT_EXISTS.notContain(account, array, account);
+    }
+
+    @Benchmark
+    public boolean containCollection_pass() {
+        return ITEM_NOT_EXISTS.contain(account, list, account);
+    }
+
+    @Benchmark
+    public boolean containCollection_fail() {
+        return ITEM_NOT_EXISTS.contain(missing, list, account);
+    }
+
+    @Benchmark
+    public boolean notContainCollection_pass() {
+        return ITEM_NOT_EXISTS.notContain(missing, list, account);
+    }
+
+    @Benchmark
+    public boolean notContainCollection_fail() {
+        return ITEM_NOT_EXISTS.notContain(account, list, account);
+    }
+
+    @Benchmark
+    public boolean containMap_pass() {
+        return ITEM_NOT_EXISTS.contain(account, map, account);
+    }
+
+    @Benchmark
+    public boolean containMap_fail() {
+        return ITEM_NOT_EXISTS.contain(missing, map, account);
+    }
+
+    @Benchmark
+    public boolean notContainMap_pass() {
+        return ITEM_NOT_EXISTS.notContain(missing, map, account);
+    }
+
+    @Benchmark
+    public boolean notContainMap_fail() {
+        return ITEM_NOT_EXISTS.notContain(account, map, account);
+    }
+
+    @Benchmark
+    public boolean noNullElementsArray_pass() {
+        return ITEM_NOT_EXISTS.noNullElements(array, account);
+    }
+
+    @Benchmark
+    public boolean noNullElementsArray_fail() {
+        return ITEM_NOT_EXISTS.noNullElements(arrayWithNull, account);
+    }
+
+    @Benchmark
+    public boolean noNullElementsCollection_pass() {
+        return ITEM_NOT_EXISTS.noNullElements(list, account);
+    }
+
+    @Benchmark
+    public boolean noNullElementsCollection_fail() {
+        return ITEM_NOT_EXISTS.noNullElements(listWithNull, account);
+    }
+
+    @Benchmark
+    public boolean isPositive_pass() {
+        return ITEM_NOT_EXISTS.isPositive(price, account);
+    }
+
+    @Benchmark
+    public boolean isPositive_fail() {
+        return ITEM_NOT_EXISTS.isPositive(zero, account);
+    }
+
+    @Benchmark
+    public boolean compare_pass() {
+        return ITEM_NOT_EXISTS.compare(price, limit, CompareSymbolEnum.LE, account);
+    }
+
+    @Benchmark
+    public boolean compare_fail() {
+        return ITEM_NOT_EXISTS.compare(price, limit, CompareSymbolEnum.GT, account);
+    }
+}
@@ -0,0 +1,145 @@
+package cn.xuming.erxing.lessif.benchmark;
+
+import cn.xuming.erxing.lessif.R;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link R} 的创建及Jackson序列化开销
+ * <p>ObjectMapper由 {@link Jackson2ObjectMapperBuilder} 创建,与Spring Boot默认配置一致;
+ * *SerializeBean为对照组,通过mix-in去掉 {@link cn.xuming.erxing.lessif.web.RSerializer},使用Jackson默认的bean序列化</p>
+ *
+ * @author: 徐铭
+ * @since: 2024-05-14 21:03:47
+ **/
+public class RBenchmark extends AbstractBenchmark {
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+
+    private ObjectMapper beanMapper;
+
+    private List<Item> list;
+
+    private final Item item = new Item("kis001", "金蝶KIS", 99.9d);
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        beanMapper = objectMapper.copy().addMixIn(R.class, BeanSerialization.class);
+        list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            list.add(new Item("kis" + i, "商品" + i, i));
+        }
+    }
+
+    @Benchmark
+    public R<Void> ok() {
+        return R.ok();
+    }
+
+    @Benchmark
+    public R<Item> okData() {
+        return R.ok(item);
+    }
+
+    @Benchmark
+    public R<List<Item>> okList() {
+        return R.okList(list);
+    }
+
+    @Benchmark
+    public R<Void> fail() {
+        return R.fail("E10001", "账套编码(不区分大小写)【kis001】不存在");
+    }
+
+    @Benchmark
+    public byte[] okSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(stamp(R.ok()));
+    }
+
+    @Benchmark
+    public byte[] okDataSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(stamp(R.ok(item)));
+    }
+
+    @Benchmark
+    public byte[] okListSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(stamp(R.okList(list)));
+    }
+
+    @Benchmark
+    public byte[] failSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(stamp(R.fail("E10001", "账套编码(不区分大小写)【kis001】不存在")));
+    }
+
+    @Benchmark
+    public byte[] okSerializeBean() throws JsonProcessingException {
+        return beanMapper.writeValueAsBytes(stamp(R.ok()));
+    }
+
+    @Benchmark
+    public byte[] okDataSerializeBean() throws JsonProcessingException {
+        return beanMapper.writeValueAsBytes(stamp(R.ok(item)));
+    }
+
+    @Benchmark
+    public byte[] okListSerializeBean() throws JsonProcessingException {
+        return beanMapper.writeValueAsBytes(stamp(R.okList(list)));
+    }
+
+    @Benchmark
+    public byte[] failSerializeBean() throws JsonProcessingException {
+        return beanMapper.writeValueAsBytes(stamp(R.fail("E10001", "账套编码(不区分大小写)【kis001】不存在")));
+    }
+
+    /**
+     * 与README中的AOP一样填充返回时间和耗时
+     */
+    private static <T> R<T> stamp(R<T> r) {
+        r.setTimestamp(LocalDateTime.now());
+        r.setElapsed("耗时:3ms");
+        return r;
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    interface BeanSerialization {
+    }
+
+    public static class Item {
+
+        private final String code;
+        private final String name;
+        private final double price;
+
+        public Item(String code, String name, double price) {
+            this.code = code;
+            this.name = name;
+            this.price = price;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+    }
+}
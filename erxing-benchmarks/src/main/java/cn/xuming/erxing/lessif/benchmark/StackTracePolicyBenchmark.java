@@ -0,0 +1,85 @@
+package cn.xuming.erxing.lessif.benchmark;
+
+import cn.xuming.erxing.lessif.core.ErxingException;
+import cn.xuming.erxing.lessif.core.StackTracePolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 不同堆栈采集策略下抛出并捕获 {@link ErxingException} 的开销
+ * <p>depth模拟业务代码中抛出点距离捕获点的调用深度,堆栈越深FULL模式越慢</p>
+ * <p>SHARED只对不含占位符的错误信息生效,对比throwAndCatchConstant</p>
+ *
+ * @author: 徐铭
+ * @since: 2024-05-08 21:42:37
+ **/
+public class StackTracePolicyBenchmark extends AbstractBenchmark {
+
+    @Param({"FULL", "NONE", "SAMPLED", "SHARED"})
+    public String mode;
+
+    @Param({"10", "50"})
+    public int depth;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (mode) {
+            case "NONE":
+                StackTracePolicy.setDefault(StackTracePolicy.NONE);
+                break;
+            case "SHARED":
+                StackTracePolicy.setDefault(StackTracePolicy.SHARED);
+                break;
+            case "SAMPLED":
+                StackTracePolicy.setDefault(StackTracePolicy.sampled(100));
+                break;
+            default:
+                StackTracePolicy.setDefault(StackTracePolicy.FULL);
+                break;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        StackTracePolicy.reset();
+    }
+
+    @Benchmark
+    public String throwAndCatch() {
+        try {
+            throwAt(depth, null);
+            return null;
+        } catch (ErxingException e) {
+            return e.getCode();
+        }
+    }
+
+    @Benchmark
+    public String throwAndCatchConstant() {
+        try {
+            throwConstantAt(depth, null);
+            return null;
+        } catch (ErxingException e) {
+            return e.getCode();
+        }
+    }
+
+    private static void throwAt(int depth, Object account) {
+        if (depth > 0) {
+            throwAt(depth - 1, account);
+        } else {
+            BenchmarkError.ACCOUNT_DB_NOT_EXISTS.isNotNull(account, "kis001");
+        }
+    }
+
+    private static void throwConstantAt(int depth, Object response) {
+        if (depth > 0) {
+            throwConstantAt(depth - 1, response);
+        } else {
+            BenchmarkError.REQUEST_FAILED.isNotNull(response);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package cn.xuming.erxing.lessif;
+
+import cn.xuming.erxing.lessif.constant.LogLevelEnum;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 本项目的配置项,前缀为 <code>erxing</code>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-16 19:42:10
+ */
+@Data
+@ConfigurationProperties(prefix = "erxing")
+public class ErxingProperties {
+
+    /**
+     * 请求计时
+     */
+    private Timing timing = new Timing();
+
+    /**
+     * 异常日志
+     */
+    private Logging logging = new Logging();
+
+    @Data
+    public static class Timing {
+
+        /**
+         * 是否为返回的 {@link R} 填充timestamp、elapsedMillis
+         */
+        private boolean enabled = true;
+
+        /**
+         * 是否同时填充文字形式的elapsed(如"耗时:12ms"),仅为兼容旧版AOP代码的输出
+         */
+        private boolean legacyElapsed = false;
+    }
+
+    @Data
+    public static class Logging {
+
+        /**
+         * 默认日志级别
+         */
+        private LogLevelEnum level = LogLevelEnum.WARN;
+
+        /**
+         * 默认是否输出堆栈;带cause的异常不受此项影响,始终以ERROR级别输出完整堆栈
+         */
+        private boolean stackTrace = false;
+
+        /**
+         * 默认每个错误码每秒最多输出的日志条数,0为不限制
+         */
+        private int rateLimit = 0;
+
+        /**
+         * 按错误码单独配置,未配置的项使用上面的默认值
+         */
+        private Map<String, Code> codes = new LinkedHashMap<>();
+    }
+
+    @Data
+    public static class Code {
+
+        private LogLevelEnum level;
+
+        private Boolean stackTrace;
+
+        private Integer rateLimit;
+    }
+}
@@ -1,24 +1,31 @@
 package cn.xuming.erxing.lessif;
 
 import cn.xuming.erxing.lessif.constant.CommonConstants;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+import cn.xuming.erxing.lessif.web.RSerializer;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.io.Serializable;
-import java.text.MessageFormat;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 
 /**
  * 通用请求响应
+ * <p>由 {@link RSerializer} 直接序列化,新增字段时需同步修改</p>
  *
  * @author : 徐铭
  * @since: 2024-03-26 00:09
  **/
 @Data
 @AllArgsConstructor
+@JsonSerialize(using = RSerializer.class)
 public class R<T> implements Serializable {
 
     /**
@@ -27,9 +34,14 @@ public class R<T> implements Serializable {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "GMT+8")
     private LocalDateTime timestamp;
     /**
-     * 消耗时间
+     * 消耗时间,文字形式,仅为兼容保留
      */
     private String elapsed;
+    /**
+     * 消耗时间(毫秒),由 {@link cn.xuming.erxing.lessif.web.ErxingTimingAdvice} 填充,为null时不输出
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long elapsedMillis;
     /**
      * 接口成功标志
      */
@@ -50,6 +62,10 @@ public class R<T> implements Serializable {
     public R() {
     }
 
+    public R(LocalDateTime timestamp, String elapsed, boolean success, String code, String msg, T data) {
+        this(timestamp, elapsed, null, success, code, msg, data);
+    }
+
     public R(T data) {
         this.data = data;
     }
@@ -89,7 +105,29 @@ public class R<T> implements Serializable {
      * @return 请求响应对象
      */
     public static <T> R<List<T>> okList(List<T> data) {
-        return R.ok(MessageFormat.format(CommonConstants.SUCCESS_LIST_MSG, (null == data ? 0 : data.size())), data);
+        return R.ok(MessageTemplate.format(CommonConstants.SUCCESS_LIST_MSG, (null == data ? 0 : data.size())), data);
+    }
+
+    /**
+     * 流式返回大量数据,不在内存中汇总为List,msg在数据输出完毕后写出,格式同 {@link #okList(List)}
+     *
+     * @param data 数据流,输出结束后关闭;没有输出时需调用 {@link RStream#close()} 关闭
+     * @param <T>  行类型
+     * @return 流式响应
+     */
+    public static <T> RStream<T> okStream(Stream<? extends T> data) {
+        return null == data ? new RStream<>(null, null) : new RStream<>(data.iterator(), data);
+    }
+
+    /**
+     * 同 {@link #okStream(Stream)}
+     *
+     * @param data 数据迭代器
+     * @param <T>  行类型
+     * @return 流式响应
+     */
+    public static <T> RStream<T> okIterator(Iterator<? extends T> data) {
+        return new RStream<>(data, data instanceof AutoCloseable ? (AutoCloseable) data : null);
     }
 
     public static <T> R<T> ok(String msg, T data) {
@@ -111,4 +149,8 @@ public class R<T> implements Serializable {
     public static R<Void> fail(String code, String msg) {
         return new R<>(false, code, msg);
     }
+
+    public static <T> R<T> fail(String code, String msg, T data) {
+        return new R<>(false, code, msg, data);
+    }
 }
@@ -0,0 +1,113 @@
+package cn.xuming.erxing.lessif;
+
+import cn.xuming.erxing.lessif.constant.CommonConstants;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 流式返回的成功响应,data不在内存中汇总为List
+ * <p>序列化时(见 {@link cn.xuming.erxing.lessif.web.RSerializer})逐行输出data数组,全部输出后再输出msg,
+ * msg与 {@link R#okList(java.util.List)} 相同,为"请求成功,数据共{0}行"。
+ * 响应体边生成边写出(chunked),内存占用与行数无关</p>
+ * <p>只能序列化一次;序列化结束(包括异常)时关闭传入的 {@link java.util.stream.Stream}。
+ * 输出开始后再发生的异常无法转换为错误响应,客户端会收到不完整的JSON</p>
+ * <p>只有被序列化时才会关闭数据来源:创建后没有作为响应返回(如返回前抛出异常、被切面替换为其他响应),
+ * 需要调用方自行 {@link #close()},否则数据库游标等资源会一直占用</p>
+ * <pre>
+ *     RStream&lt;Item&gt; items = R.okStream(itemMapper.streamAll());
+ *     try {
+ *         checkPermission();
+ *     } catch (RuntimeException e) {
+ *         items.close();
+ *         throw e;
+ *     }
+ *     return items;
+ * </pre>
+ *
+ * @param <T> 行类型
+ * @author : 徐铭
+ * @since: 2024-06-18 20:12:45
+ */
+public class RStream<T> extends R<Void> implements AutoCloseable {
+
+    private final transient Iterator<? extends T> rows;
+
+    private final transient AutoCloseable resource;
+
+    private transient boolean consumed;
+
+    private transient long count;
+
+    RStream(Iterator<? extends T> rows, AutoCloseable resource) {
+        super(true, CommonConstants.SUCCESS_CODE, (String) null);
+        this.rows = rows;
+        this.resource = resource;
+    }
+
+    /**
+     * 获取行迭代器,只能调用一次,迭代过程中累计行数
+     *
+     * @return 行迭代器
+     * @throws IllegalStateException 重复调用
+     */
+    public Iterator<T> iterator() {
+        if (consumed) {
+            throw new IllegalStateException("RStream只能输出一次");
+        }
+        consumed = true;
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return rows != null && rows.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (rows == null) {
+                    throw new NoSuchElementException();
+                }
+                T row = rows.next();
+                count++;
+                return row;
+            }
+        };
+    }
+
+    /**
+     * @return 已输出的行数
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return 手动设置的msg,未设置时为"请求成功,数据共{已输出行数}行"
+     */
+    @Override
+    public String getMsg() {
+        String msg = super.getMsg();
+        return msg == null ? MessageTemplate.format(CommonConstants.SUCCESS_LIST_MSG, count) : msg;
+    }
+
+    /**
+     * 关闭数据来源,可重复调用
+     *
+     * @throws IOException 数据来源关闭失败,非IOException的受检异常包装为IOException
+     */
+    @Override
+    public void close() throws IOException {
+        if (resource == null) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("关闭RStream的数据来源失败", e);
+        }
+    }
+}
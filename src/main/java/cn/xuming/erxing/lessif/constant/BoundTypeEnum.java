@@ -0,0 +1,26 @@
+package cn.xuming.erxing.lessif.constant;
+
+/**
+ * 区间边界类型枚举
+ * @author: 徐铭
+ * @since: 2024-06-01 19:26:40
+ **/
+public enum BoundTypeEnum {
+
+    /**
+     * [min,max] 两端都包含
+     */
+    CLOSED,
+    /**
+     * (min,max) 两端都不包含
+     */
+    OPEN,
+    /**
+     * [min,max) 包含min,不包含max
+     */
+    CLOSED_OPEN,
+    /**
+     * (min,max] 不包含min,包含max
+     */
+    OPEN_CLOSED;
+}
@@ -0,0 +1,19 @@
+package cn.xuming.erxing.lessif.constant;
+
+/**
+ * 异常日志级别
+ *
+ * @author: 徐铭
+ * @since: 2024-06-22 19:36:40
+ **/
+public enum LogLevelEnum {
+
+    /**
+     * 不输出
+     */
+    OFF,
+    ERROR,
+    WARN,
+    INFO,
+    DEBUG;
+}
@@ -0,0 +1,19 @@
+package cn.xuming.erxing.lessif.constant;
+
+/**
+ * 异步警告队列已满时的处理方式
+ *
+ * @author: 徐铭
+ * @since: 2024-05-18 19:40:02
+ **/
+public enum OverflowPolicyEnum {
+
+    /**
+     * 丢弃本条警告并计数
+     */
+    DROP,
+    /**
+     * 阻塞请求线程,直到队列有空位
+     */
+    BLOCK;
+}
@@ -0,0 +1,27 @@
+package cn.xuming.erxing.lessif.constant;
+
+/**
+ * 异常堆栈采集模式枚举
+ *
+ * @author: 徐铭
+ * @since: 2024-05-08 20:31:16
+ **/
+public enum StackTraceModeEnum {
+
+    /**
+     * 每次都采集完整堆栈
+     */
+    FULL,
+    /**
+     * 不采集堆栈
+     */
+    NONE,
+    /**
+     * 抽样采集,每N次采集1次
+     */
+    SAMPLED,
+    /**
+     * 不采集堆栈,错误信息不含占位符时复用同一个异常实例
+     */
+    SHARED;
+}
@@ -0,0 +1,311 @@
+package cn.xuming.erxing.lessif.core;
+
+import cn.xuming.erxing.lessif.constant.BoundTypeEnum;
+import cn.xuming.erxing.lessif.constant.CompareSymbolEnum;
+import cn.xuming.erxing.lessif.support.KeywordMatcher;
+import cn.xuming.erxing.lessif.support.NullElementScanner;
+import cn.xuming.erxing.lessif.support.NumberSign;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 断言接口共用的判断逻辑,断言通过时不创建任何对象
+ *
+ * @author : 徐铭
+ * @since: 2024-05-12 19:47:25
+ */
+final class AssertSupport {
+
+    private AssertSupport() {
+    }
+
+    /**
+     * 断言不通过:处于 {@link ErxingValidationContext} 中时只记录失败并继续执行,否则抛出 {@link ErxingExceptionAssert#newException(Object...)}
+     * <p>不放在接口上,避免与错误枚举自身的方法冲突</p>
+     */
+    static void fail(ErxingExceptionAssert assertion, Object... args) {
+        ErxingValidationContext context = ErxingValidationContext.current();
+        if (context == null) {
+            throw assertion.newException(args);
+        }
+        context.record(assertion, args);
+    }
+
+    /**
+     * 字符串数组array是否包含text
+     */
+    static boolean contains(String[] array, String text) {
+        for (String element : array) {
+            if (text.equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 数组array自身及所有元素是否都不为null
+     */
+    static boolean noNullElements(Object[] array) {
+        if (array == null) {
+            return false;
+        }
+        for (Object o : array) {
+            if (o == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 集合collection自身及所有元素是否都不为null,随机访问的List按下标遍历,不创建迭代器
+     */
+    static boolean noNullElements(Collection<?> collection) {
+        if (collection == null) {
+            return false;
+        }
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<?> list = (List<?>) collection;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (list.get(i) == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (Object o : collection) {
+            if (o == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@link #indexOfNull(Object[])} 未找到null元素时的返回值
+     */
+    static final int NO_NULL = Integer.MIN_VALUE;
+
+    /**
+     * 数组array中第一个null元素的下标,超过阈值时并行扫描
+     *
+     * @return 没有null元素时返回 {@link #NO_NULL},数组自身为null时返回-1
+     */
+    static int indexOfNull(Object[] array) {
+        if (array == null) {
+            return -1;
+        }
+        int index = NullElementScanner.indexOfNull(array);
+        return index < 0 ? NO_NULL : index;
+    }
+
+    /**
+     * 集合collection中第一个null元素的下标,随机访问的List超过阈值时并行扫描
+     *
+     * @return 没有null元素时返回 {@link #NO_NULL},集合自身为null时返回-1
+     */
+    static int indexOfNull(Collection<?> collection) {
+        if (collection == null) {
+            return -1;
+        }
+        int index = NullElementScanner.indexOfNull(collection);
+        return index < 0 ? NO_NULL : index;
+    }
+
+    /**
+     * 在参数列表末尾追加一个参数(如null元素下标、匹配到的关键字)
+     */
+    static Object[] appendArg(Object[] args, Object arg) {
+        if (args == null) {
+            return new Object[]{arg};
+        }
+        Object[] result = Arrays.copyOf(args, args.length + 1);
+        result[args.length] = arg;
+        return result;
+    }
+
+    /**
+     * text中最先出现的关键字,text或matcher为null时返回null
+     */
+    static String firstKeyword(String text, KeywordMatcher matcher) {
+        return text == null || matcher == null ? null : matcher.findFirst(text);
+    }
+
+    /**
+     * source与target的比较结果是否符合csEnum,source为null时判定不符合
+     */
+    static <T extends Comparable<T>> boolean compare(T source, T target, CompareSymbolEnum csEnum) {
+        if (source == null) {
+            return false;
+        }
+        switch (csEnum) {
+            case EQ:
+                return source.compareTo(target) == 0;
+            case GE:
+                return source.compareTo(target) >= 0;
+            case GT:
+                return source.compareTo(target) > 0;
+            case LE:
+                return source.compareTo(target) <= 0;
+            case LT:
+                return source.compareTo(target) < 0;
+            case NE:
+                return source.compareTo(target) != 0;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * source与target的比较结果是否符合csEnum,不装箱
+     */
+    static boolean compare(int source, int target, CompareSymbolEnum csEnum) {
+        switch (csEnum) {
+            case EQ:
+                return source == target;
+            case GE:
+                return source >= target;
+            case GT:
+                return source > target;
+            case LE:
+                return source <= target;
+            case LT:
+                return source < target;
+            case NE:
+                return source != target;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * source与target的比较结果是否符合csEnum,不装箱
+     */
+    static boolean compare(long source, long target, CompareSymbolEnum csEnum) {
+        switch (csEnum) {
+            case EQ:
+                return source == target;
+            case GE:
+                return source >= target;
+            case GT:
+                return source > target;
+            case LE:
+                return source <= target;
+            case LT:
+                return source < target;
+            case NE:
+                return source != target;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * source与target的比较结果是否符合csEnum,不装箱
+     */
+    static boolean compare(double source, double target, CompareSymbolEnum csEnum) {
+        switch (csEnum) {
+            case EQ:
+                return source == target;
+            case GE:
+                return source >= target;
+            case GT:
+                return source > target;
+            case LE:
+                return source <= target;
+            case LT:
+                return source < target;
+            case NE:
+                return source != target;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * value是否在min与max之间,边界是否包含由bound决定
+     */
+    static boolean between(int value, int min, int max, BoundTypeEnum bound) {
+        switch (bound) {
+            case OPEN:
+                return value > min && value < max;
+            case CLOSED_OPEN:
+                return value >= min && value < max;
+            case OPEN_CLOSED:
+                return value > min && value <= max;
+            case CLOSED:
+            default:
+                return value >= min && value <= max;
+        }
+    }
+
+    /**
+     * value是否在min与max之间,边界是否包含由bound决定
+     */
+    static boolean between(long value, long min, long max, BoundTypeEnum bound) {
+        switch (bound) {
+            case OPEN:
+                return value > min && value < max;
+            case CLOSED_OPEN:
+                return value >= min && value < max;
+            case OPEN_CLOSED:
+                return value > min && value <= max;
+            case CLOSED:
+            default:
+                return value >= min && value <= max;
+        }
+    }
+
+    /**
+     * value是否在min与max之间,边界是否包含由bound决定
+     */
+    static boolean between(double value, double min, double max, BoundTypeEnum bound) {
+        switch (bound) {
+            case OPEN:
+                return value > min && value < max;
+            case CLOSED_OPEN:
+                return value >= min && value < max;
+            case OPEN_CLOSED:
+                return value > min && value <= max;
+            case CLOSED:
+            default:
+                return value >= min && value <= max;
+        }
+    }
+
+    /**
+     * number是否非空且为正数
+     */
+    static boolean isPositive(Number number) {
+        return number != null && NumberSign.of(number) == NumberSign.POSITIVE;
+    }
+
+    /**
+     * number是否非空且为负数
+     */
+    static boolean isNegative(Number number) {
+        return number != null && NumberSign.of(number) == NumberSign.NEGATIVE;
+    }
+
+    /**
+     * number是否非空且大于等于0
+     */
+    static boolean isNonNegative(Number number) {
+        if (number == null) {
+            return false;
+        }
+        int sign = NumberSign.of(number);
+        return sign == NumberSign.ZERO || sign == NumberSign.POSITIVE;
+    }
+
+    /**
+     * number是否非空且等于0
+     */
+    static boolean isZero(Number number) {
+        return number != null && NumberSign.of(number) == NumberSign.ZERO;
+    }
+}
@@ -0,0 +1,44 @@
+package cn.xuming.erxing.lessif.core;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 汇总多项校验失败的异常,由 {@link ErxingValidationContext} 抛出
+ * <p>code与第一项失败相同,message为全部失败信息以分号拼接</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-24 20:18:53
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ErxingAggregateException extends ErxingException {
+
+    private static final String SEPARATOR = ";";
+
+    /**
+     * 全部校验失败信息,按断言顺序排列
+     */
+    private final List<ErxingFailure> failures;
+
+    public ErxingAggregateException(List<ErxingFailure> failures) {
+        super(failures.get(0).getCode(), joinMessages(failures));
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    private static String joinMessages(List<ErxingFailure> failures) {
+        StringBuilder builder = new StringBuilder();
+        for (ErxingFailure failure : failures) {
+            if (builder.length() > 0) {
+                builder.append(SEPARATOR);
+            }
+            builder.append(failure.getMsg());
+        }
+        return builder.toString();
+    }
+}
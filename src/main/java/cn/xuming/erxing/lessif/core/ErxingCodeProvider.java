@@ -0,0 +1,19 @@
+package cn.xuming.erxing.lessif.core;
+
+import java.util.Collection;
+
+/**
+ * 向 {@link ErxingCodeRegistry} 提供错误枚举
+ * <p>实现类在 <code>META-INF/services/cn.xuming.erxing.lessif.core.ErxingCodeProvider</code> 中声明,
+ * 由 {@link java.util.ServiceLoader} 在首次使用注册表时加载</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-10 20:02:17
+ */
+public interface ErxingCodeProvider {
+
+    /**
+     * @return 实现了 {@link ErxingExceptionAssert} 或 {@link ErxingWarningAssert} 的枚举类
+     */
+    Collection<Class<?>> codeEnums();
+}
@@ -0,0 +1,227 @@
+package cn.xuming.erxing.lessif.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * 错误码注册表
+ * <p>汇总所有错误枚举(异常与警告共用一个命名空间),启动时发现重复的错误码立即失败,
+ * 并为每个错误码分配从0开始连续的int id,按错误码统计、缓存的结构可以直接使用数组</p>
+ * <p>错误枚举的来源:</p>
+ * <ol>
+ *     <li>{@link java.util.ServiceLoader} 发现的 {@link ErxingCodeProvider},首次使用注册表时加载</li>
+ *     <li>{@link #register(Class[])} 手动注册</li>
+ * </ol>
+ * <p>未注册的错误枚举照常使用,id为-1,相关统计退回按错误码查找</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-10 20:15:48
+ */
+public final class ErxingCodeRegistry {
+
+    public static final int UNREGISTERED = -1;
+
+    /**
+     * 枚举类 → 按ordinal排列的id,注册前全部为 {@link #UNREGISTERED}
+     */
+    private static final ClassValue<int[]> ORDINAL_IDS = new ClassValue<int[]>() {
+        @Override
+        protected int[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            int[] ids = new int[constants == null ? 0 : constants.length];
+            Arrays.fill(ids, UNREGISTERED);
+            return ids;
+        }
+    };
+
+    private static volatile Snapshot snapshot = new Snapshot(new Object[0], Collections.emptyMap(), Collections.emptySet());
+
+    private static volatile boolean loaded;
+
+    /**
+     * 首次加载的失败原因,之后每次 {@link #load()} 都重新抛出,不会带着不完整的注册表继续运行
+     */
+    private static volatile RuntimeException loadFailure;
+
+    private ErxingCodeRegistry() {
+    }
+
+    /**
+     * 加载 {@link ErxingCodeProvider} 提供的错误枚举,只执行一次
+     *
+     * @throws IllegalStateException 错误码重复或提供的类不是错误枚举,首次加载失败后每次调用都会抛出
+     */
+    public static void load() {
+        if (!loaded) {
+            loadOnce();
+        }
+        RuntimeException failure = loadFailure;
+        if (failure != null) {
+            throw new IllegalStateException("错误码注册表加载失败: " + failure.getMessage(), failure);
+        }
+    }
+
+    private static synchronized void loadOnce() {
+        if (loaded) {
+            return;
+        }
+        try {
+            List<Class<?>> enums = new ArrayList<>();
+            for (ErxingCodeProvider provider : ServiceLoader.load(ErxingCodeProvider.class, ErxingCodeRegistry.class.getClassLoader())) {
+                enums.addAll(provider.codeEnums());
+            }
+            register(enums);
+        } catch (RuntimeException | ServiceConfigurationError e) {
+            loadFailure = e instanceof RuntimeException ? (RuntimeException) e : new IllegalStateException(e.getMessage(), e);
+        }
+        loaded = true;
+    }
+
+    /**
+     * 注册错误枚举,已注册的枚举会被忽略
+     *
+     * @param enums 实现了 {@link ErxingExceptionAssert} 或 {@link ErxingWarningAssert} 的枚举类
+     * @throws IllegalStateException 错误码重复或不是错误枚举
+     */
+    public static void register(Class<?>... enums) {
+        register(Arrays.asList(enums));
+    }
+
+    /**
+     * 同 {@link #register(Class[])}
+     *
+     * @param enums 错误枚举
+     */
+    public static synchronized void register(Collection<Class<?>> enums) {
+        Snapshot current = snapshot;
+        List<Object> constants = new ArrayList<>(Arrays.asList(current.constants));
+        Map<String, Integer> ids = new HashMap<>(current.ids);
+        Set<Class<?>> types = new LinkedHashSet<>(current.types);
+        for (Class<?> type : enums) {
+            if (!type.isEnum() || !(ErxingExceptionAssert.class.isAssignableFrom(type) || ErxingWarningAssert.class.isAssignableFrom(type))) {
+                throw new IllegalStateException(type.getName() + " 不是实现了ErxingExceptionAssert或ErxingWarningAssert的枚举");
+            }
+            if (!types.add(type)) {
+                continue;
+            }
+            for (Object constant : type.getEnumConstants()) {
+                String code = codeOf(constant);
+                Integer existing = ids.putIfAbsent(code, constants.size());
+                if (existing != null) {
+                    throw new IllegalStateException("错误码重复: " + code + " 同时定义在 "
+                            + describe(constants.get(existing)) + " 和 " + describe(constant));
+                }
+                constants.add(constant);
+            }
+        }
+        // 全部校验通过后才写入id,重复时注册表保持不变
+        for (int id = current.constants.length; id < constants.size(); id++) {
+            Enum<?> constant = (Enum<?>) constants.get(id);
+            ORDINAL_IDS.get(constant.getDeclaringClass())[constant.ordinal()] = id;
+        }
+        snapshot = new Snapshot(constants.toArray(), ids, types);
+    }
+
+    /**
+     * 按错误枚举获取id,只有一次 {@link ClassValue} 查找和一次数组读取,不会触发 {@link #load()}
+     *
+     * @param constant 错误枚举
+     * @return id,未注册时为 {@link #UNREGISTERED}
+     */
+    public static int id(Object constant) {
+        if (!(constant instanceof Enum)) {
+            return UNREGISTERED;
+        }
+        Enum<?> e = (Enum<?>) constant;
+        int[] ids = ORDINAL_IDS.get(e.getDeclaringClass());
+        return e.ordinal() < ids.length ? ids[e.ordinal()] : UNREGISTERED;
+    }
+
+    /**
+     * @param code 错误码
+     * @return id,未注册时为 {@link #UNREGISTERED}
+     */
+    public static int id(String code) {
+        load();
+        Integer id = snapshot.ids.get(code);
+        return id == null ? UNREGISTERED : id;
+    }
+
+    /**
+     * @param code 错误码
+     * @return 错误码对应的错误枚举,未注册时为null
+     */
+    public static Object get(String code) {
+        int id = id(code);
+        return id == UNREGISTERED ? null : snapshot.constants[id];
+    }
+
+    /**
+     * @param id id
+     * @return id对应的错误码
+     * @throws IndexOutOfBoundsException id不存在
+     */
+    public static String code(int id) {
+        load();
+        return codeOf(snapshot.constants[id]);
+    }
+
+    /**
+     * @return 已注册的错误码数量,id的取值范围为 [0, size)
+     */
+    public static int size() {
+        load();
+        return snapshot.constants.length;
+    }
+
+    /**
+     * @return 已注册的全部错误码,按id排列
+     */
+    public static List<String> codes() {
+        load();
+        Object[] constants = snapshot.constants;
+        List<String> codes = new ArrayList<>(constants.length);
+        for (Object constant : constants) {
+            codes.add(codeOf(constant));
+        }
+        return Collections.unmodifiableList(codes);
+    }
+
+    private static String codeOf(Object constant) {
+        if (constant instanceof ErxingExceptionAssert) {
+            return ((ErxingExceptionAssert) constant).getCode();
+        }
+        return ((ErxingWarningAssert) constant).getCode();
+    }
+
+    private static String describe(Object constant) {
+        return ((Enum<?>) constant).getDeclaringClass().getName() + "." + ((Enum<?>) constant).name();
+    }
+
+    /**
+     * 注册表内容整体替换,读取时无需加锁
+     */
+    private static final class Snapshot {
+
+        private final Object[] constants;
+
+        private final Map<String, Integer> ids;
+
+        private final Set<Class<?>> types;
+
+        private Snapshot(Object[] constants, Map<String, Integer> ids, Set<Class<?>> types) {
+            this.constants = constants;
+            this.ids = ids;
+            this.types = types;
+        }
+    }
+}
@@ -1,19 +1,30 @@
 package cn.xuming.erxing.lessif.core;
 
-import lombok.AllArgsConstructor;
+import cn.xuming.erxing.lessif.metrics.ErxingMetrics;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
-import java.text.MessageFormat;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 
 /**
  * 自定义异常
+ * <p>是否采集堆栈由 {@link StackTracePolicy} 决定;未传入cause时仍可通过 {@link #initCause(Throwable)} 补充</p>
+ * <p>由模板创建的异常只保存模板和参数,首次调用 {@link #getMessage()} 时才拼接异常信息并缓存,
+ * 捕获后不读取异常信息的场景(重试、降级)不再产生格式化开销;参数在构造时转为字符串保存快照,之后修改参数不影响异常信息</p>
  *
  * @author : 徐铭
  * @since: 2024-03-26 00:09
  */
 
-@AllArgsConstructor
 @Data
+@EqualsAndHashCode(callSuper = false, exclude = {"template", "args", "constructed"})
+@ToString(exclude = {"template", "args", "constructed"})
 public class ErxingException extends RuntimeException {
 
     /**
@@ -26,11 +37,128 @@ public class ErxingException extends RuntimeException {
      */
     protected String message;
 
+    /**
+     * 异常信息模板,message未生成前使用
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final transient MessageTemplate template;
+
+    /**
+     * 模板参数快照
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final transient Object[] args;
+
+    /**
+     * 构造完成前由构造函数按策略决定是否采集堆栈,见 {@link #fillInStackTrace()}
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient boolean constructed;
+
+    public ErxingException(String code, String message) {
+        super(message);
+        this.code = code;
+        this.message = message;
+        this.template = null;
+        this.args = null;
+        fillInStackTrace(code);
+    }
+
+    public ErxingException(String code, String message, Throwable cause) {
+        super(message, cause);
+        this.code = code;
+        this.message = message;
+        this.template = null;
+        this.args = null;
+        fillInStackTrace(code);
+    }
+
+    /**
+     * 延迟生成异常信息
+     *
+     * @param code     异常码
+     * @param template 异常信息模板
+     * @param args     模板参数,构造时转为字符串保存快照
+     */
+    public ErxingException(String code, MessageTemplate template, Object... args) {
+        super();
+        this.code = code;
+        this.template = template;
+        this.args = snapshot(args);
+        fillInStackTrace(code);
+    }
+
+    /**
+     * 供 {@link SharedErxingException} 使用:不采集堆栈、不记录suppressed,异常信息立即生成
+     */
+    ErxingException(String code, String message, MessageTemplate template) {
+        super(message, null, false, false);
+        this.code = code;
+        this.message = message;
+        this.template = template;
+        this.args = null;
+    }
+
     public ErxingException(ErxingExceptionAssert exceptionAssertEnum, Object... objs) {
-        super(MessageFormat.format(exceptionAssertEnum.getMessage(), objs));
-        this.code = exceptionAssertEnum.getCode();
-        this.message = MessageFormat.format(exceptionAssertEnum.getMessage(), objs);
+        this(exceptionAssertEnum.getCode(), MessageTemplate.of(exceptionAssertEnum.getMessage()), objs);
+        ErxingMetrics.recordException(exceptionAssertEnum);
+    }
+
+    private static Object[] snapshot(Object[] args) {
+        if (null == args) {
+            return null;
+        }
+        Object[] snapshot = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            snapshot[i] = String.valueOf(args[i]);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Throwable的构造函数总会调用本方法,此时异常码尚未赋值,跳过采集;构造完成后的调用(如重新抛出前刷新堆栈)正常采集
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return constructed ? super.fillInStackTrace() : this;
+    }
+
+    private void fillInStackTrace(String code) {
+        constructed = true;
+        if (StackTracePolicy.of(code).capture()) {
+            super.fillInStackTrace();
+        }
+    }
+
+    /**
+     * @return 异常信息是否由不含占位符的模板生成,此时同一异常码的异常信息固定不变
+     */
+    boolean hasConstantMessage() {
+        return template != null && !template.hasArguments();
+    }
+
+    /**
+     * 获取异常信息,由模板创建时首次调用才拼接并缓存
+     *
+     * @return 异常信息
+     */
+    @Override
+    public String getMessage() {
+        String result = message;
+        if (result == null && template != null) {
+            result = template.format(args);
+            message = result;
+        }
+        return result;
+    }
 
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // 模板与参数不参与序列化,序列化前先生成异常信息
+        getMessage();
+        out.defaultWriteObject();
     }
 
 }
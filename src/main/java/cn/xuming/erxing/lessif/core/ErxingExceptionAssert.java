@@ -1,9 +1,16 @@
 package cn.xuming.erxing.lessif.core;
 
+import cn.xuming.erxing.lessif.constant.BoundTypeEnum;
 import cn.xuming.erxing.lessif.constant.CompareSymbolEnum;
+import cn.xuming.erxing.lessif.constant.StackTraceModeEnum;
+import cn.xuming.erxing.lessif.metrics.ErxingMetrics;
+import cn.xuming.erxing.lessif.rule.ErxingRule;
+import cn.xuming.erxing.lessif.support.KeywordMatcher;
+import cn.xuming.erxing.lessif.support.MembershipSet;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+import cn.xuming.erxing.lessif.support.NullElementScanner;
+import cn.xuming.erxing.lessif.support.NumberSign;
 
-import java.text.MessageFormat;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 
@@ -30,19 +37,20 @@ public interface ErxingExceptionAssert {
     String getMessage();
 
     /**
-     * 创建异常
+     * 创建异常,异常信息在首次读取时才拼接
+     * <p>错误码的堆栈策略为 {@link StackTracePolicy#SHARED} 且提示信息不含占位符时,返回该错误枚举共用的不可修改异常</p>
      *
      * @param args 提示信息
      * @return Exception
      */
     default ErxingException newException(Object... args) {
-        if (null != args) {
-            for (int i = 0; i < args.length; i++) {
-                args[i] = args[i].toString();
-            }
+        ErxingMetrics.recordException(this);
+        MessageTemplate template = MessageTemplate.of(getMessage());
+        if (!template.hasArguments() && StackTracePolicy.of(getCode()).getMode() == StackTraceModeEnum.SHARED) {
+            return SharedErxingException.of(this, template);
         }
-        String message = MessageFormat.format(getMessage(), args);
-        return new ErxingException(getCode(), message);
+        // 参数快照由构造函数生成,不修改调用方的数组
+        return new ErxingException(getCode(), template, args);
     }
 
     /**
@@ -54,7 +62,57 @@ public interface ErxingExceptionAssert {
      */
     default void isTrue(boolean expression, Object... args) {
         if (!expression) {
-            throw newException(args);
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isTrue(boolean, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     */
+    default void isTrue(boolean expression) {
+        if (!expression) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isTrue(boolean, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     */
+    default void isTrue(boolean expression, Object arg1) {
+        if (!expression) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isTrue(boolean, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void isTrue(boolean expression, Object arg1, Object arg2) {
+        if (!expression) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isTrue(boolean, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void isTrue(boolean expression, Object arg1, Object arg2, Object arg3) {
+        if (!expression) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
         }
     }
 
@@ -67,7 +125,57 @@ public interface ErxingExceptionAssert {
      */
     default void isFalse(boolean expression, Object... args) {
         if (expression) {
-            throw newException(args);
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isFalse(boolean, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     */
+    default void isFalse(boolean expression) {
+        if (expression) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isFalse(boolean, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     */
+    default void isFalse(boolean expression, Object arg1) {
+        if (expression) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isFalse(boolean, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void isFalse(boolean expression, Object arg1, Object arg2) {
+        if (expression) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isFalse(boolean, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void isFalse(boolean expression, Object arg1, Object arg2, Object arg3) {
+        if (expression) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
         }
     }
 
@@ -80,334 +188,3586 @@ public interface ErxingExceptionAssert {
      */
     default void isNull(Object obj, Object... args) {
         if (obj != null) {
-            throw newException(args);
+            AssertSupport.fail(this, args);
         }
     }
 
     /**
-     * <p>断言对象obj非空。如果对象obj为空，则抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNull(Object, Object...)},不传message参数,断言通过时不创建参数数组
      *
      * @param obj  待判断对象
-     * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
      */
-    default void isNotNull(Object obj, Object... args) {
-        if (obj == null) {
-            throw newException(args);
+    default void isNull(Object obj) {
+        if (obj != null) {
+            AssertSupport.fail(this);
         }
     }
 
     /**
-     * <p>断言字符串text非空字符串。如果字符串text为空或空字符串，则抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNull(Object, Object...)},固定1个message参数,断言通过时不创建参数数组
      *
-     * @param text 待判断对象
-     * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
      */
-    default void isNotEmpty(String text, Object... args) {
-        if (text == null || text.length() == 0) {
-            throw newException(args);
+    default void isNull(Object obj, Object arg1) {
+        if (obj != null) {
+            AssertSupport.fail(this, arg1);
         }
     }
 
     /**
-     * <p>断言数组array非空数组。如果数组array为空数组，则抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNull(Object, Object...)},固定2个message参数,断言通过时不创建参数数组
      *
-     * @param array 待判断数组
-     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
      */
-    default void isNotEmpty(Object[] array, Object... args) {
-        if (array == null || array.length == 0) {
-            throw newException(args);
+    default void isNull(Object obj, Object arg1, Object arg2) {
+        if (obj != null) {
+            AssertSupport.fail(this, arg1, arg2);
         }
     }
 
     /**
-     * <p>断言集合collection非空集合。如果集合collection为空集合，则抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNull(Object, Object...)},固定3个message参数,断言通过时不创建参数数组
      *
-     * @param collection 待判断集合
-     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
      */
-    default void isNotEmpty(Collection<?> collection, Object... args) {
-        if (collection == null || collection.size() == 0) {
-            throw newException(args);
+    default void isNull(Object obj, Object arg1, Object arg2, Object arg3) {
+        if (obj != null) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
         }
     }
 
     /**
-     * <p>断言map非空。如果map为空，则抛出异常
+     * <p>断言对象obj非空。如果对象obj为空，则抛出异常
      * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param map  待判断Map
+     * @param obj  待判断对象
      * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
      */
-    default void isNotEmpty(Map<?, ?> map, Object... args) {
-        if (map == null || map.size() == 0) {
-            throw newException(args);
+    default void isNotNull(Object obj, Object... args) {
+        if (obj == null) {
+            AssertSupport.fail(this, args);
         }
     }
 
     /**
-     * <p>断言字符串text为空或空字符串。如果字符串text为非空字符串，则抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotNull(Object, Object...)},不传message参数,断言通过时不创建参数数组
      *
-     * @param text 待判断对象
-     * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param obj  待判断对象
      */
-    default void isEmpty(String text, Object... args) {
-        if (text != null && text.length() > 0) {
-            throw newException(args);
+    default void isNotNull(Object obj) {
+        if (obj == null) {
+            AssertSupport.fail(this);
         }
     }
 
     /**
-     * <p>断言数组array为空数组。如果数组array为非空数组，则抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotNull(Object, Object...)},固定1个message参数,断言通过时不创建参数数组
      *
-     * @param array 待判断数组
-     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
      */
-    default void isEmpty(Object[] array, Object... args) {
-        if (array != null && array.length > 0) {
-            throw newException(args);
+    default void isNotNull(Object obj, Object arg1) {
+        if (obj == null) {
+            AssertSupport.fail(this, arg1);
         }
     }
 
     /**
-     * <p>断言集合collection为空集合。如果集合collection为非空集合，则抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotNull(Object, Object...)},固定2个message参数,断言通过时不创建参数数组
      *
-     * @param collection 待判断集合
-     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
      */
-    default void isEmpty(Collection<?> collection, Object... args) {
-        if (collection != null && collection.size() > 0) {
-            throw newException(args);
+    default void isNotNull(Object obj, Object arg1, Object arg2) {
+        if (obj == null) {
+            AssertSupport.fail(this, arg1, arg2);
         }
     }
 
     /**
-     * <p>断言Mapmap为空Map。如果Mapmap为非空Map，则抛出异常
+     * 同 {@link #isNotNull(Object, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     */
+    default void isNotNull(Object obj, Object arg1, Object arg2, Object arg3) {
+        if (obj == null) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言字符串text非空字符串。如果字符串text为空或空字符串，则抛出异常
      * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param map  待判断Map
+     * @param text 待判断对象
      * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
      */
-    default void isEmpty(Map<?, ?> map, Object... args) {
-        if (map != null && map.size() > 0) {
-            throw newException(args);
+    default void isNotEmpty(String text, Object... args) {
+        if (text == null || text.length() == 0) {
+            AssertSupport.fail(this, args);
         }
     }
 
     /**
-     * <p>断言字符串text包含subText。如果字符串text不包含subText，则抛出异常
-     * text,subText任意一个字符串为NULL，则直接判定不包含,抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotEmpty(String, Object...)},不传message参数,断言通过时不创建参数数组
      *
-     * @param text    待判断对象
-     * @param subText 待判断对象
-     * @param args    message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param text 待判断对象
      */
-    default void contain(String text, String subText, Object... args) {
-        if (text == null || subText == null || !text.contains(subText)) {
-            throw newException(args);
+    default void isNotEmpty(String text) {
+        if (text == null || text.length() == 0) {
+            AssertSupport.fail(this);
         }
     }
 
     /**
-     * <p>断言字符串text不包含subText。如果字符串text包含subText，则抛出异常
-     * text,subText任意一个字符串为NULL，则直接判定不包含,断言通过
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotEmpty(String, Object...)},固定1个message参数,断言通过时不创建参数数组
      *
-     * @param text    待判断对象
-     * @param subText 待判断对象
-     * @param args    message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
      */
-    default void notContain(String text, String subText, Object... args) {
-        if (text != null && subText != null && text.contains(subText)) {
-            throw newException(args);
+    default void isNotEmpty(String text, Object arg1) {
+        if (text == null || text.length() == 0) {
+            AssertSupport.fail(this, arg1);
         }
     }
 
+    /**
+     * 同 {@link #isNotEmpty(String, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     */
+    default void isNotEmpty(String text, Object arg1, Object arg2) {
+        if (text == null || text.length() == 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
 
     /**
-     * <p>断言字符串数组array包含subText。如果字符串数组array不包含subText，则抛出异常
-     * text,array任意一个字符串为NULL，则直接判定不包含,抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotEmpty(String, Object...)},固定3个message参数,断言通过时不创建参数数组
      *
-     * @param text  待判断对象
-     * @param array 待判断对象
-     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
      */
-    default void contain(String text, String[] array, Object... args) {
-        if (text == null || array == null || !Arrays.asList(array).contains(text)) {
-            throw newException(args);
+    default void isNotEmpty(String text, Object arg1, Object arg2, Object arg3) {
+        if (text == null || text.length() == 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
         }
     }
 
     /**
-     * <p>断言字符串数组array不包含subText。如果字符串数组array包含subText，则抛出异常
-     * text,array任意一个字符串为NULL，则直接判定不包含
+     * <p>断言数组array非空数组。如果数组array为空数组，则抛出异常
      * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param text  待判断对象
-     * @param array 待判断对象
+     * @param array 待判断数组
      * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
      */
-    default void notContain(String text, String[] array, Object... args) {
-        if (text != null && array != null && Arrays.asList(array).contains(text)) {
-            throw newException(args);
+    default void isNotEmpty(Object[] array, Object... args) {
+        if (array == null || array.length == 0) {
+            AssertSupport.fail(this, args);
         }
     }
 
     /**
-     * <p>断言字符串数组collection包含subText。如果字符串数组collection不包含subText，则抛出异常
-     * text,collection任意一个字符串为NULL，则直接判定不包含,抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotEmpty(Object[], Object...)},不传message参数,断言通过时不创建参数数组
      *
-     * @param text       待判断对象
-     * @param collection 待判断对象
-     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param array 待判断数组
      */
-    default void contain(String text, Collection<String> collection, Object... args) {
-        if (text == null || collection == null || !collection.contains(text)) {
-            throw newException(args);
+    default void isNotEmpty(Object[] array) {
+        if (array == null || array.length == 0) {
+            AssertSupport.fail(this);
         }
     }
 
     /**
-     * <p>断言字符串数组collection不包含subText。如果字符串数组collection包含subText，则抛出异常
-     * text,collection任意一个字符串为NULL，则直接判定不包含
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotEmpty(Object[], Object...)},固定1个message参数,断言通过时不创建参数数组
      *
-     * @param text       待判断对象
-     * @param collection 待判断对象
-     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
      */
-    default void notContain(String text, Collection<String> collection, Object... args) {
-        if (text != null && collection != null && collection.contains(text)) {
-            throw newException(args);
+    default void isNotEmpty(Object[] array, Object arg1) {
+        if (array == null || array.length == 0) {
+            AssertSupport.fail(this, arg1);
         }
     }
 
     /**
-     * <p>断言map中KEY包含text。如果字符串数组map不包含text，则抛出异常
-     * text,map任意一个为NULL，则直接判定不包含,抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotEmpty(Object[], Object...)},固定2个message参数,断言通过时不创建参数数组
      *
-     * @param text 待判断对象
-     * @param map  待判断对象
-     * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
      */
-    default void contain(String text, Map<String, ?> map, Object... args) {
-        if (text == null || map == null || !map.containsKey(text)) {
-            throw newException(args);
+    default void isNotEmpty(Object[] array, Object arg1, Object arg2) {
+        if (array == null || array.length == 0) {
+            AssertSupport.fail(this, arg1, arg2);
         }
     }
 
     /**
-     * <p>断言map中KEY不包含text。如果字符串数组map包含text，则抛出异常
-     * text,map任意一个为NULL，则直接判定不包含
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotEmpty(Object[], Object...)},固定3个message参数,断言通过时不创建参数数组
      *
-     * @param text 待判断对象
-     * @param map  待判断对象
-     * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
      */
-    default void notContain(String text, Map<String, ?> map, Object... args) {
-        if (text != null && map != null && map.containsKey(text)) {
-            throw newException(args);
+    default void isNotEmpty(Object[] array, Object arg1, Object arg2, Object arg3) {
+        if (array == null || array.length == 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
         }
     }
 
     /**
-     * <p>断言数组array所有元素都不为null。如果数组array自身或者有任意元素为null，则抛出异常
+     * <p>断言集合collection非空集合。如果集合collection为空集合，则抛出异常
      * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param array 待判断对象
-     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param collection 待判断集合
+     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
      */
-    default void noNullElements(Object[] array, Object... args) {
-        if (array == null) {
-            throw newException(args);
-        } else {
-            for (Object o : array) {
-                if (o == null) {
-                    throw newException(args);
-                }
-            }
+    default void isNotEmpty(Collection<?> collection, Object... args) {
+        if (collection == null || collection.size() == 0) {
+            AssertSupport.fail(this, args);
         }
     }
 
     /**
-     * <p>断言集合collection所有元素都不为null。如果集合collection自身或者有任意元素为null，则抛出异常
-     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotEmpty(Collection, Object...)},不传message参数,断言通过时不创建参数数组
      *
-     * @param collection 待判断对象
-     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     * @param collection 待判断集合
      */
-    default void noNullElements(Collection<?> collection, Object... args) {
-        if (collection == null) {
-            throw newException(args);
-        } else {
-            for (Object o : collection) {
-                if (o == null) {
-                    throw newException(args);
-                }
-            }
+    default void isNotEmpty(Collection<?> collection) {
+        if (collection == null || collection.size() == 0) {
+            AssertSupport.fail(this);
         }
     }
 
     /**
-     * 断言比较2个对象,要求source和target必须已实现 {@link Comparable} 接口
+     * 同 {@link #isNotEmpty(Collection, Object...)},固定1个message参数,断言通过时不创建参数数组
      *
-     * @param source 需要比较的值,一般为变量
-     * @param target 比较值或者标准值,一般为常量或者固定值
-     * @param csEnum 期望断言结果
-     * @param args   message占位符对应的参数列表
-     * @param <T>    Comparable子类
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
      */
-    default <T extends Comparable<T>> void compare(T source, T target, CompareSymbolEnum csEnum, Object... args) {
-        if (source == null) {
-            throw newException(args);
-        } else {
-            switch (csEnum) {
-                case EQ:
-                    if (source.compareTo(target) != 0) {
-                        throw newException(args);
-                    }
-                    break;
-                case GE:
-                    if (source.compareTo(target) < 0) {
-                        throw newException(args);
-                    }
-                    break;
-                case GT:
-                    if (source.compareTo(target) <= 0) {
-                        throw newException(args);
-                    }
-                    break;
-                case LE:
-                    if (source.compareTo(target) > 0) {
-                        throw newException(args);
-                    }
-                    break;
-                case LT:
-                    if (source.compareTo(target) >= 0) {
-                        throw newException(args);
-                    }
-                    break;
-                case NE:
-                    if (source.compareTo(target) == 0) {
-                        throw newException(args);
-                    }
-                    break;
-                default:
-                    break;
-            }
+    default void isNotEmpty(Collection<?> collection, Object arg1) {
+        if (collection == null || collection.size() == 0) {
+            AssertSupport.fail(this, arg1);
         }
     }
 
+    /**
+     * 同 {@link #isNotEmpty(Collection, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void isNotEmpty(Collection<?> collection, Object arg1, Object arg2) {
+        if (collection == null || collection.size() == 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Collection, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void isNotEmpty(Collection<?> collection, Object arg1, Object arg2, Object arg3) {
+        if (collection == null || collection.size() == 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言map非空。如果map为空，则抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param map  待判断Map
+     * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isNotEmpty(Map<?, ?> map, Object... args) {
+        if (map == null || map.size() == 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Map, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     */
+    default void isNotEmpty(Map<?, ?> map) {
+        if (map == null || map.size() == 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Map, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     */
+    default void isNotEmpty(Map<?, ?> map, Object arg1) {
+        if (map == null || map.size() == 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Map, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     */
+    default void isNotEmpty(Map<?, ?> map, Object arg1, Object arg2) {
+        if (map == null || map.size() == 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Map, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     */
+    default void isNotEmpty(Map<?, ?> map, Object arg1, Object arg2, Object arg3) {
+        if (map == null || map.size() == 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言字符串text为空或空字符串。如果字符串text为非空字符串，则抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text 待判断对象
+     * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isEmpty(String text, Object... args) {
+        if (text != null && text.length() > 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(String, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     */
+    default void isEmpty(String text) {
+        if (text != null && text.length() > 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(String, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     */
+    default void isEmpty(String text, Object arg1) {
+        if (text != null && text.length() > 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(String, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     */
+    default void isEmpty(String text, Object arg1, Object arg2) {
+        if (text != null && text.length() > 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(String, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     */
+    default void isEmpty(String text, Object arg1, Object arg2, Object arg3) {
+        if (text != null && text.length() > 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言数组array为空数组。如果数组array为非空数组，则抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param array 待判断数组
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isEmpty(Object[] array, Object... args) {
+        if (array != null && array.length > 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Object[], Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断数组
+     */
+    default void isEmpty(Object[] array) {
+        if (array != null && array.length > 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Object[], Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isEmpty(Object[] array, Object arg1) {
+        if (array != null && array.length > 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Object[], Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isEmpty(Object[] array, Object arg1, Object arg2) {
+        if (array != null && array.length > 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Object[], Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isEmpty(Object[] array, Object arg1, Object arg2, Object arg3) {
+        if (array != null && array.length > 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言集合collection为空集合。如果集合collection为非空集合，则抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param collection 待判断集合
+     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isEmpty(Collection<?> collection, Object... args) {
+        if (collection != null && collection.size() > 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Collection, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     */
+    default void isEmpty(Collection<?> collection) {
+        if (collection != null && collection.size() > 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Collection, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     */
+    default void isEmpty(Collection<?> collection, Object arg1) {
+        if (collection != null && collection.size() > 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Collection, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void isEmpty(Collection<?> collection, Object arg1, Object arg2) {
+        if (collection != null && collection.size() > 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Collection, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void isEmpty(Collection<?> collection, Object arg1, Object arg2, Object arg3) {
+        if (collection != null && collection.size() > 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言Mapmap为空Map。如果Mapmap为非空Map，则抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param map  待判断Map
+     * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isEmpty(Map<?, ?> map, Object... args) {
+        if (map != null && map.size() > 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Map, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     */
+    default void isEmpty(Map<?, ?> map) {
+        if (map != null && map.size() > 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Map, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     */
+    default void isEmpty(Map<?, ?> map, Object arg1) {
+        if (map != null && map.size() > 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Map, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     */
+    default void isEmpty(Map<?, ?> map, Object arg1, Object arg2) {
+        if (map != null && map.size() > 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isEmpty(Map, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     */
+    default void isEmpty(Map<?, ?> map, Object arg1, Object arg2, Object arg3) {
+        if (map != null && map.size() > 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言字符串text包含subText。如果字符串text不包含subText，则抛出异常
+     * text,subText任意一个字符串为NULL，则直接判定不包含,抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param args    message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void contain(String text, String subText, Object... args) {
+        if (text == null || subText == null || !text.contains(subText)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, String, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     */
+    default void contain(String text, String subText) {
+        if (text == null || subText == null || !text.contains(subText)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, String, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     */
+    default void contain(String text, String subText, Object arg1) {
+        if (text == null || subText == null || !text.contains(subText)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, String, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     */
+    default void contain(String text, String subText, Object arg1, Object arg2) {
+        if (text == null || subText == null || !text.contains(subText)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, String, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @param arg3    message占位符{2}对应的参数
+     */
+    default void contain(String text, String subText, Object arg1, Object arg2, Object arg3) {
+        if (text == null || subText == null || !text.contains(subText)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言字符串text不包含subText。如果字符串text包含subText，则抛出异常
+     * text,subText任意一个字符串为NULL，则直接判定不包含,断言通过
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param args    message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void notContain(String text, String subText, Object... args) {
+        if (text != null && subText != null && text.contains(subText)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, String, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     */
+    default void notContain(String text, String subText) {
+        if (text != null && subText != null && text.contains(subText)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, String, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     */
+    default void notContain(String text, String subText, Object arg1) {
+        if (text != null && subText != null && text.contains(subText)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, String, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     */
+    default void notContain(String text, String subText, Object arg1, Object arg2) {
+        if (text != null && subText != null && text.contains(subText)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, String, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @param arg3    message占位符{2}对应的参数
+     */
+    default void notContain(String text, String subText, Object arg1, Object arg2, Object arg3) {
+        if (text != null && subText != null && text.contains(subText)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+
+    /**
+     * <p>断言字符串数组array包含subText。如果字符串数组array不包含subText，则抛出异常
+     * text,array任意一个字符串为NULL，则直接判定不包含,抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void contain(String text, String[] array, Object... args) {
+        if (text == null || array == null || !AssertSupport.contains(array, text)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, String[], Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     */
+    default void contain(String text, String[] array) {
+        if (text == null || array == null || !AssertSupport.contains(array, text)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, String[], Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void contain(String text, String[] array, Object arg1) {
+        if (text == null || array == null || !AssertSupport.contains(array, text)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, String[], Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void contain(String text, String[] array, Object arg1, Object arg2) {
+        if (text == null || array == null || !AssertSupport.contains(array, text)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, String[], Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void contain(String text, String[] array, Object arg1, Object arg2, Object arg3) {
+        if (text == null || array == null || !AssertSupport.contains(array, text)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言字符串数组array不包含subText。如果字符串数组array包含subText，则抛出异常
+     * text,array任意一个字符串为NULL，则直接判定不包含
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void notContain(String text, String[] array, Object... args) {
+        if (text != null && array != null && AssertSupport.contains(array, text)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, String[], Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     */
+    default void notContain(String text, String[] array) {
+        if (text != null && array != null && AssertSupport.contains(array, text)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, String[], Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void notContain(String text, String[] array, Object arg1) {
+        if (text != null && array != null && AssertSupport.contains(array, text)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, String[], Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void notContain(String text, String[] array, Object arg1, Object arg2) {
+        if (text != null && array != null && AssertSupport.contains(array, text)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, String[], Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void notContain(String text, String[] array, Object arg1, Object arg2, Object arg3) {
+        if (text != null && array != null && AssertSupport.contains(array, text)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言字符串数组collection包含subText。如果字符串数组collection不包含subText，则抛出异常
+     * text,collection任意一个字符串为NULL，则直接判定不包含,抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void contain(String text, Collection<String> collection, Object... args) {
+        if (text == null || collection == null || !collection.contains(text)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, Collection, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     */
+    default void contain(String text, Collection<String> collection) {
+        if (text == null || collection == null || !collection.contains(text)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, Collection, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     */
+    default void contain(String text, Collection<String> collection, Object arg1) {
+        if (text == null || collection == null || !collection.contains(text)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, Collection, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void contain(String text, Collection<String> collection, Object arg1, Object arg2) {
+        if (text == null || collection == null || !collection.contains(text)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, Collection, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void contain(String text, Collection<String> collection, Object arg1, Object arg2, Object arg3) {
+        if (text == null || collection == null || !collection.contains(text)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言字符串数组collection不包含subText。如果字符串数组collection包含subText，则抛出异常
+     * text,collection任意一个字符串为NULL，则直接判定不包含
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void notContain(String text, Collection<String> collection, Object... args) {
+        if (text != null && collection != null && collection.contains(text)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, Collection, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     */
+    default void notContain(String text, Collection<String> collection) {
+        if (text != null && collection != null && collection.contains(text)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, Collection, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     */
+    default void notContain(String text, Collection<String> collection, Object arg1) {
+        if (text != null && collection != null && collection.contains(text)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, Collection, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void notContain(String text, Collection<String> collection, Object arg1, Object arg2) {
+        if (text != null && collection != null && collection.contains(text)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, Collection, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void notContain(String text, Collection<String> collection, Object arg1, Object arg2, Object arg3) {
+        if (text != null && collection != null && collection.contains(text)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言预构建集合set包含text。如果预构建集合set不包含text，则抛出异常
+     * text,set任意一个字符串为NULL，则直接判定不包含,抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void contain(String text, MembershipSet set, Object... args) {
+        if (text == null || set == null || !set.contains(text)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, MembershipSet, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     */
+    default void contain(String text, MembershipSet set) {
+        if (text == null || set == null || !set.contains(text)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, MembershipSet, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     */
+    default void contain(String text, MembershipSet set, Object arg1) {
+        if (text == null || set == null || !set.contains(text)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, MembershipSet, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void contain(String text, MembershipSet set, Object arg1, Object arg2) {
+        if (text == null || set == null || !set.contains(text)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, MembershipSet, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void contain(String text, MembershipSet set, Object arg1, Object arg2, Object arg3) {
+        if (text == null || set == null || !set.contains(text)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言预构建集合set不包含text。如果预构建集合set包含text，则抛出异常
+     * text,set任意一个字符串为NULL，则直接判定不包含
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void notContain(String text, MembershipSet set, Object... args) {
+        if (text != null && set != null && set.contains(text)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, MembershipSet, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     */
+    default void notContain(String text, MembershipSet set) {
+        if (text != null && set != null && set.contains(text)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, MembershipSet, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     */
+    default void notContain(String text, MembershipSet set, Object arg1) {
+        if (text != null && set != null && set.contains(text)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, MembershipSet, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void notContain(String text, MembershipSet set, Object arg1, Object arg2) {
+        if (text != null && set != null && set.contains(text)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, MembershipSet, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void notContain(String text, MembershipSet set, Object arg1, Object arg2, Object arg3) {
+        if (text != null && set != null && set.contains(text)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言text包含matcher中任意一个关键字。如果text不包含任何关键字，则抛出异常
+     * text,matcher任意一个为NULL，则直接判定不包含,抛出异常。text只扫描一遍,耗时与关键字数量无关
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param args    message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void containAny(String text, KeywordMatcher matcher, Object... args) {
+        if (text == null || matcher == null || !matcher.matches(text)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #containAny(String, KeywordMatcher, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     */
+    default void containAny(String text, KeywordMatcher matcher) {
+        if (text == null || matcher == null || !matcher.matches(text)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #containAny(String, KeywordMatcher, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     */
+    default void containAny(String text, KeywordMatcher matcher, Object arg1) {
+        if (text == null || matcher == null || !matcher.matches(text)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #containAny(String, KeywordMatcher, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     */
+    default void containAny(String text, KeywordMatcher matcher, Object arg1, Object arg2) {
+        if (text == null || matcher == null || !matcher.matches(text)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #containAny(String, KeywordMatcher, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @param arg3    message占位符{2}对应的参数
+     */
+    default void containAny(String text, KeywordMatcher matcher, Object arg1, Object arg2, Object arg3) {
+        if (text == null || matcher == null || !matcher.matches(text)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言text不包含matcher中的任何关键字。如果text包含任意关键字，则抛出异常
+     * text,matcher任意一个为NULL，则直接判定不包含。text只扫描一遍,耗时与关键字数量无关
+     * <p>匹配到的关键字追加在args末尾作为最后一个message参数
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param args    message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void containNone(String text, KeywordMatcher matcher, Object... args) {
+        String token = AssertSupport.firstKeyword(text, matcher);
+        if (token != null) {
+            AssertSupport.fail(this, AssertSupport.appendArg(args, token));
+        }
+    }
+
+    /**
+     * 同 {@link #containNone(String, KeywordMatcher, Object...)},不传message参数,匹配到的关键字为message占位符{0}对应的参数
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     */
+    default void containNone(String text, KeywordMatcher matcher) {
+        String token = AssertSupport.firstKeyword(text, matcher);
+        if (token != null) {
+            AssertSupport.fail(this, token);
+        }
+    }
+
+    /**
+     * 同 {@link #containNone(String, KeywordMatcher, Object...)},固定1个message参数,匹配到的关键字为message占位符{1}对应的参数
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     */
+    default void containNone(String text, KeywordMatcher matcher, Object arg1) {
+        String token = AssertSupport.firstKeyword(text, matcher);
+        if (token != null) {
+            AssertSupport.fail(this, arg1, token);
+        }
+    }
+
+    /**
+     * 同 {@link #containNone(String, KeywordMatcher, Object...)},固定2个message参数,匹配到的关键字为message占位符{2}对应的参数
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     */
+    default void containNone(String text, KeywordMatcher matcher, Object arg1, Object arg2) {
+        String token = AssertSupport.firstKeyword(text, matcher);
+        if (token != null) {
+            AssertSupport.fail(this, arg1, arg2, token);
+        }
+    }
+
+    /**
+     * 同 {@link #containNone(String, KeywordMatcher, Object...)},固定3个message参数,匹配到的关键字为message占位符{3}对应的参数
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @param arg3    message占位符{2}对应的参数
+     */
+    default void containNone(String text, KeywordMatcher matcher, Object arg1, Object arg2, Object arg3) {
+        String token = AssertSupport.firstKeyword(text, matcher);
+        if (token != null) {
+            AssertSupport.fail(this, arg1, arg2, arg3, token);
+        }
+    }
+
+    /**
+     * <p>断言map中KEY包含text。如果字符串数组map不包含text，则抛出异常
+     * text,map任意一个为NULL，则直接判定不包含,抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void contain(String text, Map<String, ?> map, Object... args) {
+        if (text == null || map == null || !map.containsKey(text)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, Map, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     */
+    default void contain(String text, Map<String, ?> map) {
+        if (text == null || map == null || !map.containsKey(text)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, Map, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     */
+    default void contain(String text, Map<String, ?> map, Object arg1) {
+        if (text == null || map == null || !map.containsKey(text)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, Map, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     */
+    default void contain(String text, Map<String, ?> map, Object arg1, Object arg2) {
+        if (text == null || map == null || !map.containsKey(text)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #contain(String, Map, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     */
+    default void contain(String text, Map<String, ?> map, Object arg1, Object arg2, Object arg3) {
+        if (text == null || map == null || !map.containsKey(text)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言map中KEY不包含text。如果字符串数组map包含text，则抛出异常
+     * text,map任意一个为NULL，则直接判定不包含
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param args message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void notContain(String text, Map<String, ?> map, Object... args) {
+        if (text != null && map != null && map.containsKey(text)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, Map, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     */
+    default void notContain(String text, Map<String, ?> map) {
+        if (text != null && map != null && map.containsKey(text)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, Map, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     */
+    default void notContain(String text, Map<String, ?> map, Object arg1) {
+        if (text != null && map != null && map.containsKey(text)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, Map, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     */
+    default void notContain(String text, Map<String, ?> map, Object arg1, Object arg2) {
+        if (text != null && map != null && map.containsKey(text)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #notContain(String, Map, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     */
+    default void notContain(String text, Map<String, ?> map, Object arg1, Object arg2, Object arg3) {
+        if (text != null && map != null && map.containsKey(text)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言数组array所有元素都不为null。如果数组array自身或者有任意元素为null，则抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param array 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void noNullElements(Object[] array, Object... args) {
+        if (!AssertSupport.noNullElements(array)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElements(Object[], Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断对象
+     */
+    default void noNullElements(Object[] array) {
+        if (!AssertSupport.noNullElements(array)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElements(Object[], Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void noNullElements(Object[] array, Object arg1) {
+        if (!AssertSupport.noNullElements(array)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElements(Object[], Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void noNullElements(Object[] array, Object arg1, Object arg2) {
+        if (!AssertSupport.noNullElements(array)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElements(Object[], Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void noNullElements(Object[] array, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.noNullElements(array)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言集合collection所有元素都不为null。如果集合collection自身或者有任意元素为null，则抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param collection 待判断对象
+     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void noNullElements(Collection<?> collection, Object... args) {
+        if (!AssertSupport.noNullElements(collection)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElements(Collection, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断对象
+     */
+    default void noNullElements(Collection<?> collection) {
+        if (!AssertSupport.noNullElements(collection)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElements(Collection, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     */
+    default void noNullElements(Collection<?> collection, Object arg1) {
+        if (!AssertSupport.noNullElements(collection)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElements(Collection, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void noNullElements(Collection<?> collection, Object arg1, Object arg2) {
+        if (!AssertSupport.noNullElements(collection)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElements(Collection, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void noNullElements(Collection<?> collection, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.noNullElements(collection)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言数组array所有元素都不为null。如果数组array自身或者有任意元素为null，则抛出异常
+     * <p>数组长度超过 {@link NullElementScanner#getParallelThreshold()} 时使用fork/join并行扫描,否则在当前线程顺序扫描
+     * <p>第一个null元素的下标追加在args末尾作为最后一个message参数,数组自身为null时为-1
+     *
+     * @param array 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void noNullElementsParallel(Object[] array, Object... args) {
+        int index = AssertSupport.indexOfNull(array);
+        if (index != AssertSupport.NO_NULL) {
+            AssertSupport.fail(this, AssertSupport.appendArg(args, index));
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Object[], Object...)},不传message参数,null元素下标为message占位符{0}对应的参数
+     *
+     * @param array 待判断对象
+     */
+    default void noNullElementsParallel(Object[] array) {
+        int index = AssertSupport.indexOfNull(array);
+        if (index != AssertSupport.NO_NULL) {
+            AssertSupport.fail(this, index);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Object[], Object...)},固定1个message参数,null元素下标为message占位符{1}对应的参数
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void noNullElementsParallel(Object[] array, Object arg1) {
+        int index = AssertSupport.indexOfNull(array);
+        if (index != AssertSupport.NO_NULL) {
+            AssertSupport.fail(this, arg1, index);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Object[], Object...)},固定2个message参数,null元素下标为message占位符{2}对应的参数
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void noNullElementsParallel(Object[] array, Object arg1, Object arg2) {
+        int index = AssertSupport.indexOfNull(array);
+        if (index != AssertSupport.NO_NULL) {
+            AssertSupport.fail(this, arg1, arg2, index);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Object[], Object...)},固定3个message参数,null元素下标为message占位符{3}对应的参数
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void noNullElementsParallel(Object[] array, Object arg1, Object arg2, Object arg3) {
+        int index = AssertSupport.indexOfNull(array);
+        if (index != AssertSupport.NO_NULL) {
+            AssertSupport.fail(this, arg1, arg2, arg3, index);
+        }
+    }
+
+    /**
+     * <p>断言集合collection所有元素都不为null。如果集合collection自身或者有任意元素为null，则抛出异常
+     * <p>集合长度超过 {@link NullElementScanner#getParallelThreshold()} 时使用fork/join并行扫描,否则在当前线程顺序扫描
+     * <p>第一个null元素的下标追加在args末尾作为最后一个message参数,集合自身为null时为-1
+     *
+     * @param collection 待判断对象
+     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void noNullElementsParallel(Collection<?> collection, Object... args) {
+        int index = AssertSupport.indexOfNull(collection);
+        if (index != AssertSupport.NO_NULL) {
+            AssertSupport.fail(this, AssertSupport.appendArg(args, index));
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Collection, Object...)},不传message参数,null元素下标为message占位符{0}对应的参数
+     *
+     * @param collection 待判断对象
+     */
+    default void noNullElementsParallel(Collection<?> collection) {
+        int index = AssertSupport.indexOfNull(collection);
+        if (index != AssertSupport.NO_NULL) {
+            AssertSupport.fail(this, index);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Collection, Object...)},固定1个message参数,null元素下标为message占位符{1}对应的参数
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     */
+    default void noNullElementsParallel(Collection<?> collection, Object arg1) {
+        int index = AssertSupport.indexOfNull(collection);
+        if (index != AssertSupport.NO_NULL) {
+            AssertSupport.fail(this, arg1, index);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Collection, Object...)},固定2个message参数,null元素下标为message占位符{2}对应的参数
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void noNullElementsParallel(Collection<?> collection, Object arg1, Object arg2) {
+        int index = AssertSupport.indexOfNull(collection);
+        if (index != AssertSupport.NO_NULL) {
+            AssertSupport.fail(this, arg1, arg2, index);
+        }
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Collection, Object...)},固定3个message参数,null元素下标为message占位符{3}对应的参数
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void noNullElementsParallel(Collection<?> collection, Object arg1, Object arg2, Object arg3) {
+        int index = AssertSupport.indexOfNull(collection);
+        if (index != AssertSupport.NO_NULL) {
+            AssertSupport.fail(this, arg1, arg2, arg3, index);
+        }
+    }
+
+    /**
+     * 断言比较2个对象,要求source和target必须已实现 {@link Comparable} 接口
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param args   message占位符对应的参数列表
+     * @param <T>    Comparable子类
+     */
+    default <T extends Comparable<T>> void compare(T source, T target, CompareSymbolEnum csEnum, Object... args) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #compare(Comparable, Comparable, CompareSymbolEnum, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param <T>    Comparable子类
+     */
+    default <T extends Comparable<T>> void compare(T source, T target, CompareSymbolEnum csEnum) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #compare(Comparable, Comparable, CompareSymbolEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param <T>    Comparable子类
+     */
+    default <T extends Comparable<T>> void compare(T source, T target, CompareSymbolEnum csEnum, Object arg1) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #compare(Comparable, Comparable, CompareSymbolEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param <T>    Comparable子类
+     */
+    default <T extends Comparable<T>> void compare(T source, T target, CompareSymbolEnum csEnum, Object arg1, Object arg2) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #compare(Comparable, Comparable, CompareSymbolEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     * @param <T>    Comparable子类
+     */
+    default <T extends Comparable<T>> void compare(T source, T target, CompareSymbolEnum csEnum, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言比较2个int值,不装箱比较。如果比较结果不符合csEnum，则抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param args   message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void compareInt(int source, int target, CompareSymbolEnum csEnum, Object... args) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #compareInt(int, int, CompareSymbolEnum, Object...)},不传message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     */
+    default void compareInt(int source, int target, CompareSymbolEnum csEnum) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #compareInt(int, int, CompareSymbolEnum, Object...)},固定1个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     */
+    default void compareInt(int source, int target, CompareSymbolEnum csEnum, Object arg1) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #compareInt(int, int, CompareSymbolEnum, Object...)},固定2个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     */
+    default void compareInt(int source, int target, CompareSymbolEnum csEnum, Object arg1, Object arg2) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #compareInt(int, int, CompareSymbolEnum, Object...)},固定3个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     */
+    default void compareInt(int source, int target, CompareSymbolEnum csEnum, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言比较2个long值,不装箱比较。如果比较结果不符合csEnum，则抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param args   message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void compareLong(long source, long target, CompareSymbolEnum csEnum, Object... args) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #compareLong(long, long, CompareSymbolEnum, Object...)},不传message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     */
+    default void compareLong(long source, long target, CompareSymbolEnum csEnum) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #compareLong(long, long, CompareSymbolEnum, Object...)},固定1个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     */
+    default void compareLong(long source, long target, CompareSymbolEnum csEnum, Object arg1) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #compareLong(long, long, CompareSymbolEnum, Object...)},固定2个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     */
+    default void compareLong(long source, long target, CompareSymbolEnum csEnum, Object arg1, Object arg2) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #compareLong(long, long, CompareSymbolEnum, Object...)},固定3个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     */
+    default void compareLong(long source, long target, CompareSymbolEnum csEnum, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言比较2个double值,不装箱比较。如果比较结果不符合csEnum，则抛出异常
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param args   message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void compareDouble(double source, double target, CompareSymbolEnum csEnum, Object... args) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #compareDouble(double, double, CompareSymbolEnum, Object...)},不传message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     */
+    default void compareDouble(double source, double target, CompareSymbolEnum csEnum) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #compareDouble(double, double, CompareSymbolEnum, Object...)},固定1个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     */
+    default void compareDouble(double source, double target, CompareSymbolEnum csEnum, Object arg1) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #compareDouble(double, double, CompareSymbolEnum, Object...)},固定2个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     */
+    default void compareDouble(double source, double target, CompareSymbolEnum csEnum, Object arg1, Object arg2) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #compareDouble(double, double, CompareSymbolEnum, Object...)},固定3个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     */
+    default void compareDouble(double source, double target, CompareSymbolEnum csEnum, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.compare(source, target, csEnum)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value在min与max之间,边界是否包含由bound决定。如果value不在区间内，则抛出异常
+     * <p>int类型不装箱比较
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void betweenInt(int value, int min, int max, BoundTypeEnum bound, Object... args) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenInt(int, int, int, BoundTypeEnum, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     */
+    default void betweenInt(int value, int min, int max, BoundTypeEnum bound) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenInt(int, int, int, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void betweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenInt(int, int, int, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void betweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenInt(int, int, int, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void betweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value在min与max之间,边界是否包含由bound决定。如果value不在区间内，则抛出异常
+     * <p>long类型不装箱比较
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void betweenLong(long value, long min, long max, BoundTypeEnum bound, Object... args) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenLong(long, long, long, BoundTypeEnum, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     */
+    default void betweenLong(long value, long min, long max, BoundTypeEnum bound) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenLong(long, long, long, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void betweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenLong(long, long, long, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void betweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenLong(long, long, long, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void betweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value在min与max之间,边界是否包含由bound决定。如果value不在区间内，则抛出异常
+     * <p>double类型不装箱比较
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void betweenDouble(double value, double min, double max, BoundTypeEnum bound, Object... args) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenDouble(double, double, double, BoundTypeEnum, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     */
+    default void betweenDouble(double value, double min, double max, BoundTypeEnum bound) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenDouble(double, double, double, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void betweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenDouble(double, double, double, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void betweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #betweenDouble(double, double, double, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void betweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value不在min与max之间,边界是否包含由bound决定。如果value在区间内，则抛出异常
+     * <p>int类型不装箱比较
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void notBetweenInt(int value, int min, int max, BoundTypeEnum bound, Object... args) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenInt(int, int, int, BoundTypeEnum, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     */
+    default void notBetweenInt(int value, int min, int max, BoundTypeEnum bound) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenInt(int, int, int, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void notBetweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenInt(int, int, int, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void notBetweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenInt(int, int, int, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void notBetweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value不在min与max之间,边界是否包含由bound决定。如果value在区间内，则抛出异常
+     * <p>long类型不装箱比较
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void notBetweenLong(long value, long min, long max, BoundTypeEnum bound, Object... args) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenLong(long, long, long, BoundTypeEnum, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     */
+    default void notBetweenLong(long value, long min, long max, BoundTypeEnum bound) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenLong(long, long, long, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void notBetweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenLong(long, long, long, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void notBetweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenLong(long, long, long, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void notBetweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value不在min与max之间,边界是否包含由bound决定。如果value在区间内，则抛出异常
+     * <p>double类型不装箱比较
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void notBetweenDouble(double value, double min, double max, BoundTypeEnum bound, Object... args) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenDouble(double, double, double, BoundTypeEnum, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     */
+    default void notBetweenDouble(double value, double min, double max, BoundTypeEnum bound) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenDouble(double, double, double, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void notBetweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenDouble(double, double, double, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void notBetweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #notBetweenDouble(double, double, double, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void notBetweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        if (AssertSupport.between(value, min, max, bound)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言对象number非空且为正数。如果对象number为空或者小于等于0，则抛出异常
+     * <p>数值类型按 {@link NumberSign} 缓存的方式判断,支持任意 {@link Number} 子类
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param number 待判断对象
+     * @param args   message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isPositive(Number number, Object... args) {
+        if (!AssertSupport.isPositive(number)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositive(Number, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     */
+    default void isPositive(Number number) {
+        if (!AssertSupport.isPositive(number)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositive(Number, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     */
+    default void isPositive(Number number, Object arg1) {
+        if (!AssertSupport.isPositive(number)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositive(Number, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     */
+    default void isPositive(Number number, Object arg1, Object arg2) {
+        if (!AssertSupport.isPositive(number)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositive(Number, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     */
+    default void isPositive(Number number, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.isPositive(number)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言对象number非空且为负数。如果对象number为空或者大于等于0，则抛出异常
+     * <p>数值类型按 {@link NumberSign} 缓存的方式判断,支持任意 {@link Number} 子类
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param number 待判断对象
+     * @param args   message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isNegative(Number number, Object... args) {
+        if (!AssertSupport.isNegative(number)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegative(Number, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     */
+    default void isNegative(Number number) {
+        if (!AssertSupport.isNegative(number)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegative(Number, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     */
+    default void isNegative(Number number, Object arg1) {
+        if (!AssertSupport.isNegative(number)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegative(Number, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     */
+    default void isNegative(Number number, Object arg1, Object arg2) {
+        if (!AssertSupport.isNegative(number)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegative(Number, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     */
+    default void isNegative(Number number, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.isNegative(number)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言对象number非空且大于等于0。如果对象number为空或者小于0，则抛出异常
+     * <p>数值类型按 {@link NumberSign} 缓存的方式判断,支持任意 {@link Number} 子类
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param number 待判断对象
+     * @param args   message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isNonNegative(Number number, Object... args) {
+        if (!AssertSupport.isNonNegative(number)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegative(Number, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     */
+    default void isNonNegative(Number number) {
+        if (!AssertSupport.isNonNegative(number)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegative(Number, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     */
+    default void isNonNegative(Number number, Object arg1) {
+        if (!AssertSupport.isNonNegative(number)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegative(Number, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     */
+    default void isNonNegative(Number number, Object arg1, Object arg2) {
+        if (!AssertSupport.isNonNegative(number)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegative(Number, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     */
+    default void isNonNegative(Number number, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.isNonNegative(number)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言对象number非空且等于0。如果对象number为空或者不等于0，则抛出异常
+     * <p>数值类型按 {@link NumberSign} 缓存的方式判断,支持任意 {@link Number} 子类
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param number 待判断对象
+     * @param args   message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isZero(Number number, Object... args) {
+        if (!AssertSupport.isZero(number)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isZero(Number, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     */
+    default void isZero(Number number) {
+        if (!AssertSupport.isZero(number)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isZero(Number, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     */
+    default void isZero(Number number, Object arg1) {
+        if (!AssertSupport.isZero(number)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isZero(Number, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     */
+    default void isZero(Number number, Object arg1, Object arg2) {
+        if (!AssertSupport.isZero(number)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isZero(Number, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     */
+    default void isZero(Number number, Object arg1, Object arg2, Object arg3) {
+        if (!AssertSupport.isZero(number)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value为正数。如果value小于等于0，则抛出异常
+     * <p>int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isPositiveInt(int value, Object... args) {
+        if (value <= 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveInt(int, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isPositiveInt(int value) {
+        if (value <= 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveInt(int, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isPositiveInt(int value, Object arg1) {
+        if (value <= 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveInt(int, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isPositiveInt(int value, Object arg1, Object arg2) {
+        if (value <= 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveInt(int, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isPositiveInt(int value, Object arg1, Object arg2, Object arg3) {
+        if (value <= 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value为正数。如果value小于等于0，则抛出异常
+     * <p>long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isPositiveLong(long value, Object... args) {
+        if (value <= 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveLong(long, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isPositiveLong(long value) {
+        if (value <= 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveLong(long, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isPositiveLong(long value, Object arg1) {
+        if (value <= 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveLong(long, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isPositiveLong(long value, Object arg1, Object arg2) {
+        if (value <= 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveLong(long, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isPositiveLong(long value, Object arg1, Object arg2, Object arg3) {
+        if (value <= 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value为正数。如果value小于等于0，则抛出异常
+     * <p>double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isPositiveDouble(double value, Object... args) {
+        if (!(value > 0)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveDouble(double, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isPositiveDouble(double value) {
+        if (!(value > 0)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveDouble(double, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isPositiveDouble(double value, Object arg1) {
+        if (!(value > 0)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveDouble(double, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isPositiveDouble(double value, Object arg1, Object arg2) {
+        if (!(value > 0)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isPositiveDouble(double, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isPositiveDouble(double value, Object arg1, Object arg2, Object arg3) {
+        if (!(value > 0)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value为负数。如果value大于等于0，则抛出异常
+     * <p>int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isNegativeInt(int value, Object... args) {
+        if (value >= 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeInt(int, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isNegativeInt(int value) {
+        if (value >= 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeInt(int, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isNegativeInt(int value, Object arg1) {
+        if (value >= 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeInt(int, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isNegativeInt(int value, Object arg1, Object arg2) {
+        if (value >= 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeInt(int, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isNegativeInt(int value, Object arg1, Object arg2, Object arg3) {
+        if (value >= 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value为负数。如果value大于等于0，则抛出异常
+     * <p>long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isNegativeLong(long value, Object... args) {
+        if (value >= 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeLong(long, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isNegativeLong(long value) {
+        if (value >= 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeLong(long, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isNegativeLong(long value, Object arg1) {
+        if (value >= 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeLong(long, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isNegativeLong(long value, Object arg1, Object arg2) {
+        if (value >= 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeLong(long, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isNegativeLong(long value, Object arg1, Object arg2, Object arg3) {
+        if (value >= 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value为负数。如果value大于等于0，则抛出异常
+     * <p>double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isNegativeDouble(double value, Object... args) {
+        if (!(value < 0)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeDouble(double, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isNegativeDouble(double value) {
+        if (!(value < 0)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeDouble(double, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isNegativeDouble(double value, Object arg1) {
+        if (!(value < 0)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeDouble(double, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isNegativeDouble(double value, Object arg1, Object arg2) {
+        if (!(value < 0)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isNegativeDouble(double, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isNegativeDouble(double value, Object arg1, Object arg2, Object arg3) {
+        if (!(value < 0)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value大于等于0。如果value小于0，则抛出异常
+     * <p>int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isNonNegativeInt(int value, Object... args) {
+        if (value < 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeInt(int, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isNonNegativeInt(int value) {
+        if (value < 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeInt(int, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isNonNegativeInt(int value, Object arg1) {
+        if (value < 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeInt(int, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isNonNegativeInt(int value, Object arg1, Object arg2) {
+        if (value < 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeInt(int, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isNonNegativeInt(int value, Object arg1, Object arg2, Object arg3) {
+        if (value < 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value大于等于0。如果value小于0，则抛出异常
+     * <p>long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isNonNegativeLong(long value, Object... args) {
+        if (value < 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeLong(long, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isNonNegativeLong(long value) {
+        if (value < 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeLong(long, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isNonNegativeLong(long value, Object arg1) {
+        if (value < 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeLong(long, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isNonNegativeLong(long value, Object arg1, Object arg2) {
+        if (value < 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeLong(long, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isNonNegativeLong(long value, Object arg1, Object arg2, Object arg3) {
+        if (value < 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value大于等于0。如果value小于0，则抛出异常
+     * <p>double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isNonNegativeDouble(double value, Object... args) {
+        if (!(value >= 0)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeDouble(double, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isNonNegativeDouble(double value) {
+        if (!(value >= 0)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeDouble(double, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isNonNegativeDouble(double value, Object arg1) {
+        if (!(value >= 0)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeDouble(double, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isNonNegativeDouble(double value, Object arg1, Object arg2) {
+        if (!(value >= 0)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isNonNegativeDouble(double, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isNonNegativeDouble(double value, Object arg1, Object arg2, Object arg3) {
+        if (!(value >= 0)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value等于0。如果value不等于0，则抛出异常
+     * <p>int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isZeroInt(int value, Object... args) {
+        if (value != 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroInt(int, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isZeroInt(int value) {
+        if (value != 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroInt(int, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isZeroInt(int value, Object arg1) {
+        if (value != 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroInt(int, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isZeroInt(int value, Object arg1, Object arg2) {
+        if (value != 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroInt(int, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isZeroInt(int value, Object arg1, Object arg2, Object arg3) {
+        if (value != 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value等于0。如果value不等于0，则抛出异常
+     * <p>long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isZeroLong(long value, Object... args) {
+        if (value != 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroLong(long, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isZeroLong(long value) {
+        if (value != 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroLong(long, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isZeroLong(long value, Object arg1) {
+        if (value != 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroLong(long, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isZeroLong(long value, Object arg1, Object arg2) {
+        if (value != 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroLong(long, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isZeroLong(long value, Object arg1, Object arg2, Object arg3) {
+        if (value != 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言value等于0。如果value不等于0，则抛出异常
+     * <p>double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void isZeroDouble(double value, Object... args) {
+        if (value != 0) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroDouble(double, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     */
+    default void isZeroDouble(double value) {
+        if (value != 0) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroDouble(double, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     */
+    default void isZeroDouble(double value, Object arg1) {
+        if (value != 0) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroDouble(double, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     */
+    default void isZeroDouble(double value, Object arg1, Object arg2) {
+        if (value != 0) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #isZeroDouble(double, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     */
+    default void isZeroDouble(double value, Object arg1, Object arg2, Object arg3) {
+        if (value != 0) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * <p>断言规则expression在variables下成立。如果规则不成立，则抛出异常
+     * <p>规则通过 {@link ErxingRule#compile(String)} 编译并缓存,同一表达式只解析一次
+     * <p>异常信息args支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param expression 规则表达式,如 qty &gt; 0 &amp;&amp; code in (A,B,C)
+     * @param variables  规则变量
+     * @param args       message占位符对应的参数列表,用于拼接错误信息(不定参)
+     */
+    default void rule(String expression, Map<String, ?> variables, Object... args) {
+        if (!ErxingRule.compile(expression).test(variables)) {
+            AssertSupport.fail(this, args);
+        }
+    }
+
+    /**
+     * 同 {@link #rule(String, Map, Object...)},不传message参数,断言通过时不创建参数数组
+     *
+     * @param expression 规则表达式,如 qty &gt; 0 &amp;&amp; code in (A,B,C)
+     * @param variables  规则变量
+     */
+    default void rule(String expression, Map<String, ?> variables) {
+        if (!ErxingRule.compile(expression).test(variables)) {
+            AssertSupport.fail(this);
+        }
+    }
+
+    /**
+     * 同 {@link #rule(String, Map, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 规则表达式,如 qty &gt; 0 &amp;&amp; code in (A,B,C)
+     * @param variables  规则变量
+     * @param arg1       message占位符{0}对应的参数
+     */
+    default void rule(String expression, Map<String, ?> variables, Object arg1) {
+        if (!ErxingRule.compile(expression).test(variables)) {
+            AssertSupport.fail(this, arg1);
+        }
+    }
+
+    /**
+     * 同 {@link #rule(String, Map, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 规则表达式,如 qty &gt; 0 &amp;&amp; code in (A,B,C)
+     * @param variables  规则变量
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     */
+    default void rule(String expression, Map<String, ?> variables, Object arg1, Object arg2) {
+        if (!ErxingRule.compile(expression).test(variables)) {
+            AssertSupport.fail(this, arg1, arg2);
+        }
+    }
+
+    /**
+     * 同 {@link #rule(String, Map, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 规则表达式,如 qty &gt; 0 &amp;&amp; code in (A,B,C)
+     * @param variables  规则变量
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     */
+    default void rule(String expression, Map<String, ?> variables, Object arg1, Object arg2, Object arg3) {
+        if (!ErxingRule.compile(expression).test(variables)) {
+            AssertSupport.fail(this, arg1, arg2, arg3);
+        }
+    }
 }
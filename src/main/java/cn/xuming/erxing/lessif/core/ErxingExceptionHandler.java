@@ -1,30 +1,78 @@
 package cn.xuming.erxing.lessif.core;
 
+import cn.xuming.erxing.lessif.ErxingProperties;
 import cn.xuming.erxing.lessif.R;
+import cn.xuming.erxing.lessif.web.PreparedR;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.List;
+
 /**
  * 仅处理customerException
+ * <p>异常日志按 <code>erxing.logging</code> 配置输出,默认每个异常只输出一行WARN日志,带cause的异常输出完整堆栈</p>
  *
  * @author : 徐铭
  * @since: 2024-03-26 00:09
  */
 @Slf4j
 @RestControllerAdvice
-public class ErxingExceptionHandler {
+@EnableConfigurationProperties(ErxingProperties.class)
+public class ErxingExceptionHandler implements InitializingBean {
+
+    private final ExceptionLogPolicy logPolicy;
+
+    /**
+     * 使用默认的日志配置
+     */
+    public ErxingExceptionHandler() {
+        this(new ErxingProperties());
+    }
+
+    @Autowired
+    public ErxingExceptionHandler(ErxingProperties properties) {
+        this.logPolicy = new ExceptionLogPolicy(log, properties.getLogging());
+    }
+
+    /**
+     * 启动时加载错误码注册表,错误码重复时启动失败
+     */
+    @Override
+    public void afterPropertiesSet() {
+        ErxingCodeRegistry.load();
+    }
 
     /**
      * 监听到自定义异常,则自动返回错误响应
+     * <p>错误信息不含参数时返回 {@link PreparedR},由 {@link cn.xuming.erxing.lessif.web.PreparedRHttpMessageConverter}
+     * 直接输出缓存的JSON</p>
      *
      * @param e 自定义异常
      * @return 通用错误响应
      */
     @ExceptionHandler(ErxingException.class)
     public R<Void> handleCustomException(ErxingException e) {
-        log.error(e.getMessage(), e);
+        logPolicy.log(e);
+        if (e.hasConstantMessage()) {
+            return PreparedR.fail(e.getCode(), e.getMessage());
+        }
         return R.fail(e.getCode(), e.getMessage());
     }
 
+    /**
+     * 多项校验失败时,一次返回全部失败信息
+     *
+     * @param e 汇总异常
+     * @return 通用错误响应,data为失败列表
+     */
+    @ExceptionHandler(ErxingAggregateException.class)
+    public R<List<ErxingFailure>> handleAggregateException(ErxingAggregateException e) {
+        logPolicy.log(e);
+        return R.fail(e.getCode(), e.getMessage(), e.getFailures());
+    }
+
 }
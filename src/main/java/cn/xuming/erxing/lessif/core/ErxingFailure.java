@@ -0,0 +1,30 @@
+package cn.xuming.erxing.lessif.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * 单项校验失败信息
+ *
+ * @author : 徐铭
+ * @since: 2024-05-24 20:11:26
+ **/
+@Data
+@AllArgsConstructor
+public class ErxingFailure implements Serializable {
+
+    /**
+     * 异常码
+     */
+    private String code;
+
+    /**
+     * 异常信息
+     */
+    private String msg;
+
+    public ErxingFailure() {
+    }
+}
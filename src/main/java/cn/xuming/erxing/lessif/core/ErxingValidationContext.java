@@ -0,0 +1,163 @@
+package cn.xuming.erxing.lessif.core;
+
+import cn.xuming.erxing.lessif.metrics.ErxingMetrics;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 校验上下文:上下文中 {@link ErxingExceptionAssert} 的断言不通过时只记录异常码与参数,不抛出异常
+ * <p>全部断言执行完后一次性抛出 {@link ErxingAggregateException},或取出失败列表自行处理;
+ * 失败信息在取出时才拼接,整个校验过程最多创建一个异常</p>
+ * <pre>
+ *     try (ErxingValidationContext context = ErxingValidationContext.open()) {
+ *         ErrorEnum.NAME_EMPTY.isNotEmpty(dto.getName());
+ *         ErrorEnum.QTY_INVALID.isTrue(dto.getQty() &gt; 0, dto.getQty());
+ *         context.throwIfFailed();
+ *     }
+ * </pre>
+ * <p>上下文与线程绑定,可以嵌套,关闭后恢复外层上下文</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-24 20:27:40
+ */
+public final class ErxingValidationContext implements AutoCloseable {
+
+    private static final ThreadLocal<ErxingValidationContext> CURRENT = new ThreadLocal<>();
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final ErxingValidationContext previous;
+
+    private ErxingExceptionAssert[] asserts = new ErxingExceptionAssert[INITIAL_CAPACITY];
+
+    private Object[][] arguments = new Object[INITIAL_CAPACITY][];
+
+    private int size;
+
+    private boolean closed;
+
+    private ErxingValidationContext(ErxingValidationContext previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * 在当前线程开启校验上下文
+     *
+     * @return 上下文,使用完后需要关闭
+     */
+    public static ErxingValidationContext open() {
+        ErxingValidationContext context = new ErxingValidationContext(CURRENT.get());
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * 在上下文中执行校验,有失败时抛出 {@link ErxingAggregateException}
+     *
+     * @param validation 校验逻辑
+     */
+    public static void validate(Runnable validation) {
+        try (ErxingValidationContext context = open()) {
+            validation.run();
+            context.throwIfFailed();
+        }
+    }
+
+    /**
+     * 在上下文中执行校验并返回失败列表
+     *
+     * @param validation 校验逻辑
+     * @return 失败列表,全部通过时为空
+     */
+    public static List<ErxingFailure> collect(Runnable validation) {
+        try (ErxingValidationContext context = open()) {
+            validation.run();
+            return context.getFailures();
+        }
+    }
+
+    /**
+     * @return 当前线程的上下文,未开启时为null
+     */
+    static ErxingValidationContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 记录一项失败,参数转为字符串作为快照;调用方传入的数组不做修改
+     */
+    void record(ErxingExceptionAssert assertion, Object[] args) {
+        ErxingMetrics.recordException(assertion);
+        if (size == asserts.length) {
+            asserts = Arrays.copyOf(asserts, size << 1);
+            arguments = Arrays.copyOf(arguments, size << 1);
+        }
+        Object[] snapshot = null;
+        if (null != args) {
+            snapshot = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                snapshot[i] = String.valueOf(args[i]);
+            }
+        }
+        asserts[size] = assertion;
+        arguments[size] = snapshot;
+        size++;
+    }
+
+    /**
+     * @return 是否有断言不通过
+     */
+    public boolean hasFailures() {
+        return size > 0;
+    }
+
+    /**
+     * @return 不通过的断言数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 失败列表,按断言顺序排列
+     */
+    public List<ErxingFailure> getFailures() {
+        List<ErxingFailure> failures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ErxingExceptionAssert assertion = asserts[i];
+            failures.add(new ErxingFailure(assertion.getCode(),
+                    MessageTemplate.of(assertion.getMessage()).format(arguments[i])));
+        }
+        return failures;
+    }
+
+    /**
+     * 有断言不通过时抛出汇总异常
+     *
+     * @throws ErxingAggregateException 汇总全部失败
+     */
+    public void throwIfFailed() {
+        if (size > 0) {
+            throw new ErxingAggregateException(getFailures());
+        }
+    }
+
+    /**
+     * 关闭上下文,恢复外层上下文。已记录的失败不会自动抛出
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package cn.xuming.erxing.lessif.core;
 
 
+import cn.xuming.erxing.lessif.constant.BoundTypeEnum;
 import cn.xuming.erxing.lessif.constant.CompareSymbolEnum;
+import cn.xuming.erxing.lessif.metrics.ErxingMetrics;
+import cn.xuming.erxing.lessif.support.KeywordMatcher;
+import cn.xuming.erxing.lessif.support.MembershipSet;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+import cn.xuming.erxing.lessif.support.NullElementScanner;
+import cn.xuming.erxing.lessif.support.NumberSign;
+import cn.xuming.erxing.lessif.warning.WarningDispatcher;
 
-import java.math.BigDecimal;
-import java.text.MessageFormat;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -16,6 +21,10 @@ import java.util.logging.Logger;
  */
 public interface ErxingWarningAssert {
 
+    /**
+     * 默认sink {@link cn.xuming.erxing.lessif.warning.JulWarningSink} 使用的Logger,
+     * 切换为SLF4J等其他输出方式见 {@link cn.xuming.erxing.lessif.warning.WarningSinks}
+     */
     Logger logger = Logger.getLogger(ErxingWarningAssert.class.getName());
 
     /**
@@ -37,6 +46,7 @@ public interface ErxingWarningAssert {
      * <p>asset为原断言方法返回值</p>
      * <p>原断言使用方法: asset.isNull(object,args)</p>
      * <p>新断言使用方法: asset.assetPrint(asset.isNull(object),args)</p>
+     * <p>开启 {@link cn.xuming.erxing.lessif.warning.AsyncWarningWriter} 后由后台线程输出日志</p>
      *
      * @param asset 断言方法返回值
      * @param args 提示信息
@@ -45,11 +55,48 @@ public interface ErxingWarningAssert {
      */
     default boolean assetPrint(boolean asset,Object... args) {
         if (!asset) {
-            logger.warning(warningMsg(args));
+            ErxingMetrics.recordWarning(this);
+            WarningDispatcher.dispatch(this, args);
         }
         return asset;
     }
 
+    /**
+     * 同 {@link #assetPrint(boolean, Object...)},固定1个参数,断言通过时不创建参数数组
+     *
+     * @param asset 断言方法返回值
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并输出日志
+     */
+    default boolean assetPrint(boolean asset, Object arg1) {
+        return asset || assetPrint(false, new Object[]{arg1});
+    }
+
+    /**
+     * 同 {@link #assetPrint(boolean, Object...)},固定2个参数,断言通过时不创建参数数组
+     *
+     * @param asset 断言方法返回值
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并输出日志
+     */
+    default boolean assetPrint(boolean asset, Object arg1, Object arg2) {
+        return asset || assetPrint(false, new Object[]{arg1, arg2});
+    }
+
+    /**
+     * 同 {@link #assetPrint(boolean, Object...)},固定3个参数,断言通过时不创建参数数组
+     *
+     * @param asset 断言方法返回值
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并输出日志
+     */
+    default boolean assetPrint(boolean asset, Object arg1, Object arg2, Object arg3) {
+        return asset || assetPrint(false, new Object[]{arg1, arg2, arg3});
+    }
+
     /**
      * 输出警告信息
      *
@@ -57,7 +104,7 @@ public interface ErxingWarningAssert {
      * @return 输出完整的警告信息
      */
     default String warningMsg(Object... args) {
-        return MessageFormat.format(getMessage(), args);
+        return MessageTemplate.of(getMessage()).format(args);
     }
 
 
@@ -288,7 +335,7 @@ public interface ErxingWarningAssert {
      * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
     default boolean contain(String text, String[] array) {
-        if (text == null || array == null || !Arrays.asList(array).contains(text)) {
+        if (text == null || array == null || !AssertSupport.contains(array, text)) {
             
             return false;
         }
@@ -305,7 +352,7 @@ public interface ErxingWarningAssert {
      * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
     default boolean notContain(String text, String[] array) {
-        if (text != null && array != null && Arrays.asList(array).contains(text)) {
+        if (text != null && array != null && AssertSupport.contains(array, text)) {
             
             return false;
         }
@@ -346,6 +393,56 @@ public interface ErxingWarningAssert {
         return true;
     }
 
+    /**
+     * <p>断言预构建集合<code>set</code>包含<code>text</code>。如果预构建集合<code>set</code>不包含<code>text</code>，则返回false。
+     * <code>text</code>,<code>set</code>任意一个字符串为NULL，则直接判定不包含,抛出异常
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean contain(String text, MembershipSet set) {
+        return text != null && set != null && set.contains(text);
+    }
+
+    /**
+     * <p>断言预构建集合<code>set</code>不包含<code>text</code>。如果预构建集合<code>set</code>包含<code>text</code>，则返回false。
+     * <code>text</code>,<code>set</code>任意一个字符串为NULL，则直接判定不包含
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean notContain(String text, MembershipSet set) {
+        return text == null || set == null || !set.contains(text);
+    }
+
+    /**
+     * <p>断言<code>text</code>包含<code>matcher</code>中任意一个关键字。如果<code>text</code>不包含任何关键字，则返回false。
+     * <code>text</code>,<code>matcher</code>任意一个为NULL，则直接判定不包含
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean containAny(String text, KeywordMatcher matcher) {
+        return text != null && matcher != null && matcher.matches(text);
+    }
+
+    /**
+     * <p>断言<code>text</code>不包含<code>matcher</code>中的任何关键字。如果<code>text</code>包含任意关键字，则返回false。
+     * <code>text</code>,<code>matcher</code>任意一个为NULL，则直接判定不包含
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean containNone(String text, KeywordMatcher matcher) {
+        return AssertSupport.firstKeyword(text, matcher) == null;
+    }
+
     /**
      * <p>断言<code>map</code>中KEY包含<code>text</code>。如果<code>map</code>中KEY不包含<code>text</code>，则返回false。
      * <code>text</code>,<code>map</code>任意一个为NULL，则直接判定不包含,抛出异常
@@ -388,18 +485,7 @@ public interface ErxingWarningAssert {
      * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
     default boolean noNullElements(Object[] array) {
-        if (array == null) {
-            
-            return false;
-        } else {
-            for (Object o : array) {
-                if (o == null) {
-                    
-                    return false;
-                }
-            }
-        }
-        return true;
+        return AssertSupport.noNullElements(array);
     }
 
     /**
@@ -410,80 +496,193 @@ public interface ErxingWarningAssert {
      * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
     default boolean noNullElements(Collection<?> collection) {
-        if (collection == null) {
-            
-            return false;
-        } else {
-            for (Object o : collection) {
-                if (o == null) {
-                    
-                    return false;
-                }
-            }
-        }
-        return true;
+        return AssertSupport.noNullElements(collection);
+    }
+
+    /**
+     * <p>断言数组<code>array</code>所有元素都不为null。如果数组<code>array</code>自身或者有任意元素为null，则返回false。
+     * <p>数组长度超过 {@link NullElementScanner#getParallelThreshold()} 时使用fork/join并行扫描
+     *
+     * @param array 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean noNullElementsParallel(Object[] array) {
+        return AssertSupport.indexOfNull(array) == AssertSupport.NO_NULL;
+    }
+
+    /**
+     * <p>断言集合<code>collection</code>所有元素都不为null。如果集合<code>collection</code>自身或者有任意元素为null，则返回false。
+     * <p>集合长度超过 {@link NullElementScanner#getParallelThreshold()} 时使用fork/join并行扫描
+     *
+     * @param collection 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean noNullElementsParallel(Collection<?> collection) {
+        return AssertSupport.indexOfNull(collection) == AssertSupport.NO_NULL;
     }
 
     /**
      * <p>断言对象<code>number</code>非空且为正数。如果对象<code>number</code>空或者小于等于0，则返回false。
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * <p>数值类型按 {@link NumberSign} 缓存的方式判断,支持任意 {@link Number} 子类
      *
      * @param number 待判断对象
      * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
     default boolean isPositive(Number number) {
-        if (number == null) {
-            
-            return false;
-        } else {
-            if (number instanceof Integer) {
-                if (number.intValue() <= 0) {
-                    
-                    return false;
-                }
-                return true;
-            } else if (number instanceof Long) {
-                if (number.longValue() <= 0) {
-                    
-                    return false;
-                }
-                return true;
-            } else if (number instanceof Double) {
-                if (number.doubleValue() <= 0) {
-                    
-                    return false;
-                }
-                return true;
-            } else if (number instanceof Float) {
-                if (number.floatValue() <= 0) {
-                    
-                    return false;
-                }
-                return true;
-            } else if (number instanceof Short) {
-                if (number.shortValue() <= 0) {
-                    
-                    return false;
-                }
-                return true;
-            } else if (number instanceof Byte) {
-                if (number.byteValue() <= 0) {
-                    
-                    return false;
-                }
-                return true;
-            } else if (number instanceof BigDecimal) {
-                BigDecimal bigDecimalValue = (BigDecimal) number;
-                if (bigDecimalValue.compareTo(BigDecimal.ZERO) <= 0) {
-                    
-                    return false;
-                }
-                return true;
-            }
-            logger.warning("不支持该数值类型");
-            
-            return false;
-        }
+        return AssertSupport.isPositive(number);
+    }
+
+    /**
+     * <p>断言对象<code>number</code>非空且为负数。如果对象<code>number</code>为空或者大于等于0，则返回false。
+     * <p>数值类型按 {@link NumberSign} 缓存的方式判断,支持任意 {@link Number} 子类
+     *
+     * @param number 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isNegative(Number number) {
+        return AssertSupport.isNegative(number);
+    }
+
+    /**
+     * <p>断言对象<code>number</code>非空且大于等于0。如果对象<code>number</code>为空或者小于0，则返回false。
+     * <p>数值类型按 {@link NumberSign} 缓存的方式判断,支持任意 {@link Number} 子类
+     *
+     * @param number 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isNonNegative(Number number) {
+        return AssertSupport.isNonNegative(number);
+    }
+
+    /**
+     * <p>断言对象<code>number</code>非空且等于0。如果对象<code>number</code>为空或者不等于0，则返回false。
+     * <p>数值类型按 {@link NumberSign} 缓存的方式判断,支持任意 {@link Number} 子类
+     *
+     * @param number 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isZero(Number number) {
+        return AssertSupport.isZero(number);
+    }
+
+    /**
+     * 同 {@link #isPositive(Number)},int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isPositiveInt(int value) {
+        return value > 0;
+    }
+
+    /**
+     * 同 {@link #isPositive(Number)},long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isPositiveLong(long value) {
+        return value > 0;
+    }
+
+    /**
+     * 同 {@link #isPositive(Number)},double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isPositiveDouble(double value) {
+        return value > 0;
+    }
+
+    /**
+     * 同 {@link #isNegative(Number)},int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isNegativeInt(int value) {
+        return value < 0;
+    }
+
+    /**
+     * 同 {@link #isNegative(Number)},long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isNegativeLong(long value) {
+        return value < 0;
+    }
+
+    /**
+     * 同 {@link #isNegative(Number)},double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isNegativeDouble(double value) {
+        return value < 0;
+    }
+
+    /**
+     * 同 {@link #isNonNegative(Number)},int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isNonNegativeInt(int value) {
+        return value >= 0;
+    }
+
+    /**
+     * 同 {@link #isNonNegative(Number)},long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isNonNegativeLong(long value) {
+        return value >= 0;
+    }
+
+    /**
+     * 同 {@link #isNonNegative(Number)},double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isNonNegativeDouble(double value) {
+        return value >= 0;
+    }
+
+    /**
+     * 同 {@link #isZero(Number)},int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isZeroInt(int value) {
+        return value == 0;
+    }
+
+    /**
+     * 同 {@link #isZero(Number)},long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isZeroLong(long value) {
+        return value == 0;
+    }
+
+    /**
+     * 同 {@link #isZero(Number)},double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     *
+     * @param value 待判断对象
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean isZeroDouble(double value) {
+        return value == 0;
     }
 
     /**
@@ -538,313 +737,2919 @@ public interface ErxingWarningAssert {
     }
 
     /**
-     * <p>断言表达式<code>expression</code>为TRUE。如果对象<code>expression</code>为FALSE，则返回false。
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #compare(Comparable, Comparable, CompareSymbolEnum)},int类型不装箱比较
      *
-     * @param expression 待判断对象
-     * @param args       message占位符对应的参数列表
-     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
-    default boolean isTrue(boolean expression,Object... args) {
-        return assetPrint(isTrue(expression),args);
+    default boolean compareInt(int source, int target, CompareSymbolEnum csEnum) {
+        return AssertSupport.compare(source, target, csEnum);
     }
 
     /**
-     * <p>断言表达式<code>expression</code>为FALSE。如果对象<code>expression</code>为TRUE，则返回false，打印警告日志
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #compare(Comparable, Comparable, CompareSymbolEnum)},long类型不装箱比较
      *
-     * @param expression 待判断对象
-     * @param args       message占位符对应的参数列表
-     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
-    default boolean isFalse(boolean expression,Object... args) {
-        return assetPrint(isTrue(expression),args);
+    default boolean compareLong(long source, long target, CompareSymbolEnum csEnum) {
+        return AssertSupport.compare(source, target, csEnum);
     }
 
     /**
-     * <p>断言对象<code>obj</code>为空。如果对象<code>obj</code>非空，则返回false，打印警告日志
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #compare(Comparable, Comparable, CompareSymbolEnum)},double类型不装箱比较
      *
-     * @param obj  待判断对象
-     * @param args message占位符对应的参数列表
-     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
-    default boolean isNull(Object obj,Object... args) {
-        return assetPrint(isNull(obj),args);
+    default boolean compareDouble(double source, double target, CompareSymbolEnum csEnum) {
+        return AssertSupport.compare(source, target, csEnum);
     }
 
     /**
-     * <p>断言对象<code>obj</code>非空。如果对象<code>obj</code>为空，则返回false，打印警告日志
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * <p>断言<code>value</code>在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定,否则返回false。
+     * <p>int类型不装箱比较
      *
-     * @param obj  待判断对象
-     * @param args message占位符对应的参数列表
-     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
-    default boolean isNotNull(Object obj,Object... args) {
-        return assetPrint(isNotNull(obj),args);
+    default boolean betweenInt(int value, int min, int max, BoundTypeEnum bound) {
+        return AssertSupport.between(value, min, max, bound);
     }
 
-
     /**
-     * <p>断言字符串<code>text</code>非空字符串。如果字符串<code>text</code>为空或空字符串，则返回false，打印警告日志
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * <p>断言<code>value</code>在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定,否则返回false。
+     * <p>long类型不装箱比较
      *
-     * @param text 待判断对象
-     * @param args message占位符对应的参数列表
-     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
-    default boolean isNotEmpty(String text,Object... args) {
-        return assetPrint(isNotEmpty(text),args);
+    default boolean betweenLong(long value, long min, long max, BoundTypeEnum bound) {
+        return AssertSupport.between(value, min, max, bound);
     }
 
     /**
-     * <p>断言数组<code>array</code>非空数组。如果数组<code>array</code>为空数组，则返回false，打印警告日志
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * <p>断言<code>value</code>在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定,否则返回false。
+     * <p>double类型不装箱比较
      *
-     * @param array 待判断数组
-     * @param args  message占位符对应的参数列表
-     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
-    default boolean isNotEmpty(Object[] array,Object... args) {
-        return assetPrint(isNotEmpty(array),args);
+    default boolean betweenDouble(double value, double min, double max, BoundTypeEnum bound) {
+        return AssertSupport.between(value, min, max, bound);
     }
 
     /**
-     * <p>断言集合<code>collection</code>非空集合。如果集合<code>collection</code>为空集合，则返回false，打印警告日志
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * <p>断言<code>value</code>不在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定,否则返回false。
+     * <p>int类型不装箱比较
      *
-     * @param collection 待判断集合
-     * @param args       message占位符对应的参数列表
-     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
-    default boolean isNotEmpty(Collection<?> collection,Object... args) {
-        return assetPrint(isNotEmpty(collection),args);
+    default boolean notBetweenInt(int value, int min, int max, BoundTypeEnum bound) {
+        return !AssertSupport.between(value, min, max, bound);
     }
 
-
     /**
-     * <p>断言<code>map</code>非空。如果<code>map</code>为空，则返回false，打印警告日志
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * <p>断言<code>value</code>不在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定,否则返回false。
+     * <p>long类型不装箱比较
      *
-     * @param map  待判断Map
-     * @param args message占位符对应的参数列表
-     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
      */
-    default boolean isNotEmpty(Map<?, ?> map,Object... args) {
-        return assetPrint(isNotEmpty(map),args);
+    default boolean notBetweenLong(long value, long min, long max, BoundTypeEnum bound) {
+        return !AssertSupport.between(value, min, max, bound);
     }
 
     /**
-     * <p>断言字符串<code>text</code>为空或空字符串。如果字符串<code>text</code>为非空字符串，则返回false，打印警告日志
+     * <p>断言<code>value</code>不在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定,否则返回false。
+     * <p>double类型不装箱比较
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @return true验证通过, false验证不通过。仅做断言，不输出日志
+     */
+    default boolean notBetweenDouble(double value, double min, double max, BoundTypeEnum bound) {
+        return !AssertSupport.between(value, min, max, bound);
+    }
+
+    /**
+     * <p>断言表达式<code>expression</code>为TRUE。如果对象<code>expression</code>为FALSE，则返回false。
      * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param text 待判断对象
-     * @param args message占位符对应的参数列表
+     * @param expression 待判断对象
+     * @param args       message占位符对应的参数列表
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean isEmpty(String text,Object... args) {
-        return assetPrint(isEmpty(text),args);
+    default boolean isTrue(boolean expression,Object... args) {
+        return assetPrint(isTrue(expression),args);
     }
 
     /**
-     * <p>断言数组<code>array</code>为空数组。如果数组<code>array</code>为非空数组，则返回false，打印警告日志
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isTrue(boolean, Object...)},固定1个message参数,断言通过时不创建参数数组
      *
-     * @param array 待判断数组
-     * @param args  message占位符对应的参数列表
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean isEmpty(Object[] array,Object... args) {
-        return assetPrint(isEmpty(array),args);
+    default boolean isTrue(boolean expression, Object arg1) {
+        return assetPrint(isTrue(expression), arg1);
     }
 
     /**
-     * <p>断言集合<code>collection</code>为空集合。如果集合<code>collection</code>为非空集合，则返回false，打印警告日志
+     * 同 {@link #isTrue(boolean, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isTrue(boolean expression, Object arg1, Object arg2) {
+        return assetPrint(isTrue(expression), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isTrue(boolean, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isTrue(boolean expression, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isTrue(expression), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言表达式<code>expression</code>为FALSE。如果对象<code>expression</code>为TRUE，则返回false，打印警告日志
      * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param collection 待判断集合
+     * @param expression 待判断对象
      * @param args       message占位符对应的参数列表
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean isEmpty(Collection<?> collection,Object... args) {
-        return assetPrint(isEmpty(collection),args);
+    default boolean isFalse(boolean expression,Object... args) {
+        return assetPrint(isFalse(expression),args);
+    }
+
+    /**
+     * 同 {@link #isFalse(boolean, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isFalse(boolean expression, Object arg1) {
+        return assetPrint(isFalse(expression), arg1);
     }
 
+    /**
+     * 同 {@link #isFalse(boolean, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isFalse(boolean expression, Object arg1, Object arg2) {
+        return assetPrint(isFalse(expression), arg1, arg2);
+    }
 
     /**
-     * <p>断言Map<code>map</code>为空Map。如果Map<code>map</code>为非空Map，则返回false，打印警告日志
+     * 同 {@link #isFalse(boolean, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param expression 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isFalse(boolean expression, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isFalse(expression), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言对象<code>obj</code>为空。如果对象<code>obj</code>非空，则返回false，打印警告日志
      * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param map  待判断Map
+     * @param obj  待判断对象
      * @param args message占位符对应的参数列表
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean isEmpty(Map<?, ?> map,Object... args) {
-        return assetPrint(isEmpty(map),args);
+    default boolean isNull(Object obj,Object... args) {
+        return assetPrint(isNull(obj),args);
     }
 
     /**
-     * <p>断言字符串<code>text</code>包含<code>subText</code>。如果字符串<code>text</code>不包含<code>subText</code>，则返回false，打印警告日志
-     * <code>text</code>,<code>subText</code>任意一个字符串为NULL，则直接判定不包含,抛出异常
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNull(Object, Object...)},固定1个message参数,断言通过时不创建参数数组
      *
-     * @param text    待判断对象
-     * @param subText 待判断对象
-     * @param args    message占位符对应的参数列表
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean contain(String text, String subText,Object... args) {
-        return assetPrint(contain(text,subText),args);
+    default boolean isNull(Object obj, Object arg1) {
+        return assetPrint(isNull(obj), arg1);
     }
 
     /**
-     * <p>断言字符串<code>text</code>不包含<code>subText</code>。如果字符串<code>text</code>包含<code>subText</code>，则返回false，打印警告日志
-     * <code>text</code>,<code>subText</code>任意一个字符串为NULL，则直接判定不包含,断言通过
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNull(Object, Object...)},固定2个message参数,断言通过时不创建参数数组
      *
-     * @param text    待判断对象
-     * @param subText 待判断对象
-     * @param args    message占位符对应的参数列表
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean notContain(String text, String subText,Object... args) {
-        return assetPrint(notContain(text,subText),args);
+    default boolean isNull(Object obj, Object arg1, Object arg2) {
+        return assetPrint(isNull(obj), arg1, arg2);
     }
 
+    /**
+     * 同 {@link #isNull(Object, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNull(Object obj, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNull(obj), arg1, arg2, arg3);
+    }
 
     /**
-     * <p>断言字符串数组<code>array</code>包含<code>subText</code>。如果字符串数组<code>array</code>不包含<code>subText</code>，则返回false，打印警告日志
-     * <code>text</code>,<code>array</code>任意一个字符串为NULL，则直接判定不包含,抛出异常
+     * <p>断言对象<code>obj</code>非空。如果对象<code>obj</code>为空，则返回false，打印警告日志
      * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param text  待判断对象
-     * @param array 待判断对象
-     * @param args  message占位符对应的参数列表
+     * @param obj  待判断对象
+     * @param args message占位符对应的参数列表
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean contain(String text, String[] array,Object... args) {
-        return assetPrint(contain(text, array,args));
+    default boolean isNotNull(Object obj,Object... args) {
+        return assetPrint(isNotNull(obj),args);
     }
 
     /**
-     * <p>断言字符串数组<code>array</code>不包含<code>subText</code>。如果字符串数组<code>array</code>包含<code>subText</code>，则返回false，打印警告日志
-     * <code>text</code>,<code>array</code>任意一个字符串为NULL，则直接判定不包含
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotNull(Object, Object...)},固定1个message参数,断言通过时不创建参数数组
      *
-     * @param text  待判断对象
-     * @param array 待判断对象
-     * @param args  message占位符对应的参数列表
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean notContain(String text, String[] array,Object... args) {
-        return assetPrint(notContain(text, array),args);
+    default boolean isNotNull(Object obj, Object arg1) {
+        return assetPrint(isNotNull(obj), arg1);
     }
 
     /**
-     * <p>断言字符串数组<code>collection</code>包含<code>subText</code>。如果字符串数组<code>collection</code>不包含<code>subText</code>，则返回false，打印警告日志
-     * <code>text</code>,<code>collection</code>任意一个字符串为NULL，则直接判定不包含,抛出异常
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotNull(Object, Object...)},固定2个message参数,断言通过时不创建参数数组
      *
-     * @param text       待判断对象
-     * @param collection 待判断对象
-     * @param args       message占位符对应的参数列表
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean contain(String text, Collection<String> collection,Object... args) {
-        return assetPrint(contain(text,collection),args);
+    default boolean isNotNull(Object obj, Object arg1, Object arg2) {
+        return assetPrint(isNotNull(obj), arg1, arg2);
     }
 
     /**
-     * <p>断言字符串数组<code>collection</code>不包含<code>subText</code>。如果字符串数组<code>collection</code>包含<code>subText</code>，则返回false，打印警告日志
-     * <code>text</code>,<code>collection</code>任意一个字符串为NULL，则直接判定不包含
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotNull(Object, Object...)},固定3个message参数,断言通过时不创建参数数组
      *
-     * @param text       待判断对象
-     * @param collection 待判断对象
-     * @param args       message占位符对应的参数列表
+     * @param obj  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean notContain(String text, Collection<String> collection,Object... args) {
-        return assetPrint(notContain(text,  collection),args);
+    default boolean isNotNull(Object obj, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNotNull(obj), arg1, arg2, arg3);
     }
 
+
     /**
-     * <p>断言<code>map</code>中KEY包含<code>text</code>。如果<code>map</code>中KEY不包含<code>text</code>，则返回false，打印警告日志
-     * <code>text</code>,<code>map</code>任意一个为NULL，则直接判定不包含,抛出异常
+     * <p>断言字符串<code>text</code>非空字符串。如果字符串<code>text</code>为空或空字符串，则返回false，打印警告日志
      * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
      * @param text 待判断对象
-     * @param map  待判断对象
      * @param args message占位符对应的参数列表
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean contain(String text, Map<String, ?> map,Object... args) {
-        return assetPrint(contain(text,  map),args);
+    default boolean isNotEmpty(String text,Object... args) {
+        return assetPrint(isNotEmpty(text),args);
     }
 
     /**
-     * <p>断言<code>map</code>中KEY不包含<code>text</code>。如果<code>map</code>中KEY包含<code>text</code>，则返回false，打印警告日志
-     * <code>text</code>,<code>map</code>任意一个为NULL，则直接判定不包含
-     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     * 同 {@link #isNotEmpty(String, Object...)},固定1个message参数,断言通过时不创建参数数组
      *
      * @param text 待判断对象
-     * @param map  待判断对象
-     * @param args message占位符对应的参数列表
+     * @param arg1 message占位符{0}对应的参数
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean notContain(String text, Map<String, ?> map,Object... args) {
-        return assetPrint(notContain(text,  map),args);
+    default boolean isNotEmpty(String text, Object arg1) {
+        return assetPrint(isNotEmpty(text), arg1);
     }
 
     /**
-     * <p>断言数组<code>array</code>所有元素都不为null。如果数组<code>array</code>自身或者有任意元素为null，则返回false，打印警告日志
+     * 同 {@link #isNotEmpty(String, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNotEmpty(String text, Object arg1, Object arg2) {
+        return assetPrint(isNotEmpty(text), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(String, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNotEmpty(String text, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNotEmpty(text), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言数组<code>array</code>非空数组。如果数组<code>array</code>为空数组，则返回false，打印警告日志
      * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param array 待判断对象
+     * @param array 待判断数组
      * @param args  message占位符对应的参数列表
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean noNullElements(Object[] array,Object... args) {
-        return assetPrint(noNullElements(array),args);
+    default boolean isNotEmpty(Object[] array,Object... args) {
+        return assetPrint(isNotEmpty(array),args);
     }
 
     /**
-     * <p>断言集合<code>collection</code>所有元素都不为null。如果集合<code>collection</code>自身或者有任意元素为null，则返回false，打印警告日志
+     * 同 {@link #isNotEmpty(Object[], Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNotEmpty(Object[] array, Object arg1) {
+        return assetPrint(isNotEmpty(array), arg1);
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Object[], Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNotEmpty(Object[] array, Object arg1, Object arg2) {
+        return assetPrint(isNotEmpty(array), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Object[], Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNotEmpty(Object[] array, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNotEmpty(array), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言集合<code>collection</code>非空集合。如果集合<code>collection</code>为空集合，则返回false，打印警告日志
      * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param collection 待判断对象
+     * @param collection 待判断集合
      * @param args       message占位符对应的参数列表
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean noNullElements(Collection<?> collection,Object... args) {
-        return assetPrint(noNullElements(collection),args);
+    default boolean isNotEmpty(Collection<?> collection,Object... args) {
+        return assetPrint(isNotEmpty(collection),args);
     }
 
     /**
-     * <p>断言对象<code>number</code>非空且为正数。如果对象<code>number</code>空或者小于等于0，则返回false，打印警告日志
+     * 同 {@link #isNotEmpty(Collection, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNotEmpty(Collection<?> collection, Object arg1) {
+        return assetPrint(isNotEmpty(collection), arg1);
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Collection, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNotEmpty(Collection<?> collection, Object arg1, Object arg2) {
+        return assetPrint(isNotEmpty(collection), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Collection, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNotEmpty(Collection<?> collection, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNotEmpty(collection), arg1, arg2, arg3);
+    }
+
+
+    /**
+     * <p>断言<code>map</code>非空。如果<code>map</code>为空，则返回false，打印警告日志
      * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
      *
-     * @param number 待判断对象
-     * @param args   message占位符对应的参数列表
+     * @param map  待判断Map
+     * @param args message占位符对应的参数列表
      * @return true验证通过, false验证不通过并且输出WARN日志
      */
-    default boolean isPositive(Number number,Object... args) {
-        return assetPrint(isPositive(number),args);
+    default boolean isNotEmpty(Map<?, ?> map,Object... args) {
+        return assetPrint(isNotEmpty(map),args);
     }
 
     /**
-     * 断言比较2个对象,要求source和target必须已实现 {@link Comparable} 接口
+     * 同 {@link #isNotEmpty(Map, Object...)},固定1个message参数,断言通过时不创建参数数组
      *
-     * @param source 需要比较的值,一般为变量
-     * @param target 比较值或者标准值,一般为常量或者固定值
-     * @param csEnum 期望断言结果
-     * @param args   message占位符对应的参数列表
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
      * @return true验证通过, false验证不通过并且输出WARN日志
-     * @param <T> 泛型
      */
-    default <T extends Comparable<T>> boolean compare(T source, T target, CompareSymbolEnum csEnum,Object... args) {
-        return assetPrint(compare(source,target, csEnum),args);
+    default boolean isNotEmpty(Map<?, ?> map, Object arg1) {
+        return assetPrint(isNotEmpty(map), arg1);
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Map, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNotEmpty(Map<?, ?> map, Object arg1, Object arg2) {
+        return assetPrint(isNotEmpty(map), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNotEmpty(Map, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNotEmpty(Map<?, ?> map, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNotEmpty(map), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言字符串<code>text</code>为空或空字符串。如果字符串<code>text</code>为非空字符串，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text 待判断对象
+     * @param args message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(String text,Object... args) {
+        return assetPrint(isEmpty(text),args);
+    }
+
+    /**
+     * 同 {@link #isEmpty(String, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(String text, Object arg1) {
+        return assetPrint(isEmpty(text), arg1);
+    }
+
+    /**
+     * 同 {@link #isEmpty(String, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(String text, Object arg1, Object arg2) {
+        return assetPrint(isEmpty(text), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isEmpty(String, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(String text, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isEmpty(text), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言数组<code>array</code>为空数组。如果数组<code>array</code>为非空数组，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param array 待判断数组
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Object[] array,Object... args) {
+        return assetPrint(isEmpty(array),args);
+    }
+
+    /**
+     * 同 {@link #isEmpty(Object[], Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Object[] array, Object arg1) {
+        return assetPrint(isEmpty(array), arg1);
+    }
+
+    /**
+     * 同 {@link #isEmpty(Object[], Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Object[] array, Object arg1, Object arg2) {
+        return assetPrint(isEmpty(array), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isEmpty(Object[], Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断数组
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Object[] array, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isEmpty(array), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言集合<code>collection</code>为空集合。如果集合<code>collection</code>为非空集合，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param collection 待判断集合
+     * @param args       message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Collection<?> collection,Object... args) {
+        return assetPrint(isEmpty(collection),args);
+    }
+
+    /**
+     * 同 {@link #isEmpty(Collection, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Collection<?> collection, Object arg1) {
+        return assetPrint(isEmpty(collection), arg1);
+    }
+
+    /**
+     * 同 {@link #isEmpty(Collection, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Collection<?> collection, Object arg1, Object arg2) {
+        return assetPrint(isEmpty(collection), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isEmpty(Collection, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断集合
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Collection<?> collection, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isEmpty(collection), arg1, arg2, arg3);
+    }
+
+
+    /**
+     * <p>断言Map<code>map</code>为空Map。如果Map<code>map</code>为非空Map，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param map  待判断Map
+     * @param args message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Map<?, ?> map,Object... args) {
+        return assetPrint(isEmpty(map),args);
+    }
+
+    /**
+     * 同 {@link #isEmpty(Map, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Map<?, ?> map, Object arg1) {
+        return assetPrint(isEmpty(map), arg1);
+    }
+
+    /**
+     * 同 {@link #isEmpty(Map, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Map<?, ?> map, Object arg1, Object arg2) {
+        return assetPrint(isEmpty(map), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isEmpty(Map, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param map  待判断Map
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isEmpty(Map<?, ?> map, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isEmpty(map), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言字符串<code>text</code>包含<code>subText</code>。如果字符串<code>text</code>不包含<code>subText</code>，则返回false，打印警告日志
+     * <code>text</code>,<code>subText</code>任意一个字符串为NULL，则直接判定不包含,抛出异常
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param args    message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, String subText,Object... args) {
+        return assetPrint(contain(text,subText),args);
+    }
+
+    /**
+     * 同 {@link #contain(String, String, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, String subText, Object arg1) {
+        return assetPrint(contain(text, subText), arg1);
+    }
+
+    /**
+     * 同 {@link #contain(String, String, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, String subText, Object arg1, Object arg2) {
+        return assetPrint(contain(text, subText), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #contain(String, String, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @param arg3    message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, String subText, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(contain(text, subText), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言字符串<code>text</code>不包含<code>subText</code>。如果字符串<code>text</code>包含<code>subText</code>，则返回false，打印警告日志
+     * <code>text</code>,<code>subText</code>任意一个字符串为NULL，则直接判定不包含,断言通过
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param args    message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, String subText,Object... args) {
+        return assetPrint(notContain(text,subText),args);
+    }
+
+    /**
+     * 同 {@link #notContain(String, String, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, String subText, Object arg1) {
+        return assetPrint(notContain(text, subText), arg1);
+    }
+
+    /**
+     * 同 {@link #notContain(String, String, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, String subText, Object arg1, Object arg2) {
+        return assetPrint(notContain(text, subText), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #notContain(String, String, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param subText 待判断对象
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @param arg3    message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, String subText, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(notContain(text, subText), arg1, arg2, arg3);
+    }
+
+
+    /**
+     * <p>断言字符串数组<code>array</code>包含<code>subText</code>。如果字符串数组<code>array</code>不包含<code>subText</code>，则返回false，打印警告日志
+     * <code>text</code>,<code>array</code>任意一个字符串为NULL，则直接判定不包含,抛出异常
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, String[] array,Object... args) {
+        return assetPrint(contain(text, array),args);
+    }
+
+    /**
+     * 同 {@link #contain(String, String[], Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, String[] array, Object arg1) {
+        return assetPrint(contain(text, array), arg1);
+    }
+
+    /**
+     * 同 {@link #contain(String, String[], Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, String[] array, Object arg1, Object arg2) {
+        return assetPrint(contain(text, array), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #contain(String, String[], Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, String[] array, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(contain(text, array), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言字符串数组<code>array</code>不包含<code>subText</code>。如果字符串数组<code>array</code>包含<code>subText</code>，则返回false，打印警告日志
+     * <code>text</code>,<code>array</code>任意一个字符串为NULL，则直接判定不包含
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, String[] array,Object... args) {
+        return assetPrint(notContain(text, array),args);
+    }
+
+    /**
+     * 同 {@link #notContain(String, String[], Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, String[] array, Object arg1) {
+        return assetPrint(notContain(text, array), arg1);
+    }
+
+    /**
+     * 同 {@link #notContain(String, String[], Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, String[] array, Object arg1, Object arg2) {
+        return assetPrint(notContain(text, array), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #notContain(String, String[], Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text  待判断对象
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, String[] array, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(notContain(text, array), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言字符串数组<code>collection</code>包含<code>subText</code>。如果字符串数组<code>collection</code>不包含<code>subText</code>，则返回false，打印警告日志
+     * <code>text</code>,<code>collection</code>任意一个字符串为NULL，则直接判定不包含,抛出异常
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param args       message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, Collection<String> collection,Object... args) {
+        return assetPrint(contain(text,collection),args);
+    }
+
+    /**
+     * 同 {@link #contain(String, Collection, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, Collection<String> collection, Object arg1) {
+        return assetPrint(contain(text, collection), arg1);
+    }
+
+    /**
+     * 同 {@link #contain(String, Collection, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, Collection<String> collection, Object arg1, Object arg2) {
+        return assetPrint(contain(text, collection), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #contain(String, Collection, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, Collection<String> collection, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(contain(text, collection), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言字符串数组<code>collection</code>不包含<code>subText</code>。如果字符串数组<code>collection</code>包含<code>subText</code>，则返回false，打印警告日志
+     * <code>text</code>,<code>collection</code>任意一个字符串为NULL，则直接判定不包含
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param args       message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, Collection<String> collection,Object... args) {
+        return assetPrint(notContain(text,  collection),args);
+    }
+
+    /**
+     * 同 {@link #notContain(String, Collection, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, Collection<String> collection, Object arg1) {
+        return assetPrint(notContain(text, collection), arg1);
+    }
+
+    /**
+     * 同 {@link #notContain(String, Collection, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, Collection<String> collection, Object arg1, Object arg2) {
+        return assetPrint(notContain(text, collection), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #notContain(String, Collection, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, Collection<String> collection, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(notContain(text, collection), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言预构建集合<code>set</code>包含<code>text</code>。如果预构建集合<code>set</code>不包含<code>text</code>，则返回false，打印警告日志
+     * <code>text</code>,<code>set</code>任意一个字符串为NULL，则直接判定不包含,抛出异常
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param args       message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, MembershipSet set, Object... args) {
+        return assetPrint(contain(text, set), args);
+    }
+
+    /**
+     * 同 {@link #contain(String, MembershipSet, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, MembershipSet set, Object arg1) {
+        return assetPrint(contain(text, set), arg1);
+    }
+
+    /**
+     * 同 {@link #contain(String, MembershipSet, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, MembershipSet set, Object arg1, Object arg2) {
+        return assetPrint(contain(text, set), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #contain(String, MembershipSet, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, MembershipSet set, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(contain(text, set), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言预构建集合<code>set</code>不包含<code>text</code>。如果预构建集合<code>set</code>包含<code>text</code>，则返回false，打印警告日志
+     * <code>text</code>,<code>set</code>任意一个字符串为NULL，则直接判定不包含
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param args       message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, MembershipSet set, Object... args) {
+        return assetPrint(notContain(text, set), args);
+    }
+
+    /**
+     * 同 {@link #notContain(String, MembershipSet, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, MembershipSet set, Object arg1) {
+        return assetPrint(notContain(text, set), arg1);
+    }
+
+    /**
+     * 同 {@link #notContain(String, MembershipSet, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, MembershipSet set, Object arg1, Object arg2) {
+        return assetPrint(notContain(text, set), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #notContain(String, MembershipSet, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text       待判断对象
+     * @param set        待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, MembershipSet set, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(notContain(text, set), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>text</code>包含<code>matcher</code>中任意一个关键字。如果<code>text</code>不包含任何关键字，则返回false，打印警告日志
+     * <code>text</code>,<code>matcher</code>任意一个为NULL，则直接判定不包含
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param args    message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean containAny(String text, KeywordMatcher matcher, Object... args) {
+        return assetPrint(containAny(text, matcher), args);
+    }
+
+    /**
+     * 同 {@link #containAny(String, KeywordMatcher, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean containAny(String text, KeywordMatcher matcher, Object arg1) {
+        return assetPrint(containAny(text, matcher), arg1);
+    }
+
+    /**
+     * 同 {@link #containAny(String, KeywordMatcher, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean containAny(String text, KeywordMatcher matcher, Object arg1, Object arg2) {
+        return assetPrint(containAny(text, matcher), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #containAny(String, KeywordMatcher, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @param arg3    message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean containAny(String text, KeywordMatcher matcher, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(containAny(text, matcher), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>text</code>不包含<code>matcher</code>中的任何关键字。如果<code>text</code>包含任意关键字，则返回false，打印警告日志
+     * <code>text</code>,<code>matcher</code>任意一个为NULL，则直接判定不包含
+     * <p>匹配到的关键字追加在args末尾作为最后一个message参数
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param args    message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean containNone(String text, KeywordMatcher matcher, Object... args) {
+        String token = AssertSupport.firstKeyword(text, matcher);
+        return token == null || assetPrint(false, AssertSupport.appendArg(args, token));
+    }
+
+    /**
+     * 同 {@link #containNone(String, KeywordMatcher, Object...)},固定1个message参数,匹配到的关键字为message占位符{1}对应的参数
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean containNone(String text, KeywordMatcher matcher, Object arg1) {
+        String token = AssertSupport.firstKeyword(text, matcher);
+        return token == null || assetPrint(false, arg1, token);
+    }
+
+    /**
+     * 同 {@link #containNone(String, KeywordMatcher, Object...)},固定2个message参数,匹配到的关键字为message占位符{2}对应的参数
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean containNone(String text, KeywordMatcher matcher, Object arg1, Object arg2) {
+        String token = AssertSupport.firstKeyword(text, matcher);
+        return token == null || assetPrint(false, arg1, arg2, token);
+    }
+
+    /**
+     * 同 {@link #containNone(String, KeywordMatcher, Object...)},固定3个message参数,匹配到的关键字为message占位符{3}对应的参数
+     *
+     * @param text    待判断对象
+     * @param matcher 预编译的关键字
+     * @param arg1    message占位符{0}对应的参数
+     * @param arg2    message占位符{1}对应的参数
+     * @param arg3    message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean containNone(String text, KeywordMatcher matcher, Object arg1, Object arg2, Object arg3) {
+        String token = AssertSupport.firstKeyword(text, matcher);
+        return token == null || assetPrint(false, arg1, arg2, arg3, token);
+    }
+
+    /**
+     * <p>断言<code>map</code>中KEY包含<code>text</code>。如果<code>map</code>中KEY不包含<code>text</code>，则返回false，打印警告日志
+     * <code>text</code>,<code>map</code>任意一个为NULL，则直接判定不包含,抛出异常
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param args message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, Map<String, ?> map,Object... args) {
+        return assetPrint(contain(text,  map),args);
+    }
+
+    /**
+     * 同 {@link #contain(String, Map, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, Map<String, ?> map, Object arg1) {
+        return assetPrint(contain(text, map), arg1);
+    }
+
+    /**
+     * 同 {@link #contain(String, Map, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, Map<String, ?> map, Object arg1, Object arg2) {
+        return assetPrint(contain(text, map), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #contain(String, Map, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean contain(String text, Map<String, ?> map, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(contain(text, map), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>map</code>中KEY不包含<code>text</code>。如果<code>map</code>中KEY包含<code>text</code>，则返回false，打印警告日志
+     * <code>text</code>,<code>map</code>任意一个为NULL，则直接判定不包含
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param args message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, Map<String, ?> map,Object... args) {
+        return assetPrint(notContain(text,  map),args);
+    }
+
+    /**
+     * 同 {@link #notContain(String, Map, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, Map<String, ?> map, Object arg1) {
+        return assetPrint(notContain(text, map), arg1);
+    }
+
+    /**
+     * 同 {@link #notContain(String, Map, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, Map<String, ?> map, Object arg1, Object arg2) {
+        return assetPrint(notContain(text, map), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #notContain(String, Map, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param text 待判断对象
+     * @param map  待判断对象
+     * @param arg1 message占位符{0}对应的参数
+     * @param arg2 message占位符{1}对应的参数
+     * @param arg3 message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notContain(String text, Map<String, ?> map, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(notContain(text, map), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言数组<code>array</code>所有元素都不为null。如果数组<code>array</code>自身或者有任意元素为null，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param array 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElements(Object[] array,Object... args) {
+        return assetPrint(noNullElements(array),args);
+    }
+
+    /**
+     * 同 {@link #noNullElements(Object[], Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElements(Object[] array, Object arg1) {
+        return assetPrint(noNullElements(array), arg1);
+    }
+
+    /**
+     * 同 {@link #noNullElements(Object[], Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElements(Object[] array, Object arg1, Object arg2) {
+        return assetPrint(noNullElements(array), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #noNullElements(Object[], Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElements(Object[] array, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(noNullElements(array), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言集合<code>collection</code>所有元素都不为null。如果集合<code>collection</code>自身或者有任意元素为null，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param collection 待判断对象
+     * @param args       message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElements(Collection<?> collection,Object... args) {
+        return assetPrint(noNullElements(collection),args);
+    }
+
+    /**
+     * 同 {@link #noNullElements(Collection, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElements(Collection<?> collection, Object arg1) {
+        return assetPrint(noNullElements(collection), arg1);
+    }
+
+    /**
+     * 同 {@link #noNullElements(Collection, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElements(Collection<?> collection, Object arg1, Object arg2) {
+        return assetPrint(noNullElements(collection), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #noNullElements(Collection, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElements(Collection<?> collection, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(noNullElements(collection), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言数组<code>array</code>所有元素都不为null。如果数组<code>array</code>自身或者有任意元素为null，则返回false，打印警告日志
+     * <p>数组长度超过 {@link NullElementScanner#getParallelThreshold()} 时使用fork/join并行扫描,否则在当前线程顺序扫描
+     * <p>第一个null元素的下标追加在args末尾作为最后一个message参数,数组自身为null时为-1
+     *
+     * @param array 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElementsParallel(Object[] array, Object... args) {
+        int index = AssertSupport.indexOfNull(array);
+        return index == AssertSupport.NO_NULL || assetPrint(false, AssertSupport.appendArg(args, index));
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Object[], Object...)},固定1个message参数,null元素下标为message占位符{1}对应的参数
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElementsParallel(Object[] array, Object arg1) {
+        int index = AssertSupport.indexOfNull(array);
+        return index == AssertSupport.NO_NULL || assetPrint(false, arg1, index);
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Object[], Object...)},固定2个message参数,null元素下标为message占位符{2}对应的参数
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElementsParallel(Object[] array, Object arg1, Object arg2) {
+        int index = AssertSupport.indexOfNull(array);
+        return index == AssertSupport.NO_NULL || assetPrint(false, arg1, arg2, index);
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Object[], Object...)},固定3个message参数,null元素下标为message占位符{3}对应的参数
+     *
+     * @param array 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElementsParallel(Object[] array, Object arg1, Object arg2, Object arg3) {
+        int index = AssertSupport.indexOfNull(array);
+        return index == AssertSupport.NO_NULL || assetPrint(false, arg1, arg2, arg3, index);
+    }
+
+    /**
+     * <p>断言集合<code>collection</code>所有元素都不为null。如果集合<code>collection</code>自身或者有任意元素为null，则返回false，打印警告日志
+     * <p>集合长度超过 {@link NullElementScanner#getParallelThreshold()} 时使用fork/join并行扫描,否则在当前线程顺序扫描
+     * <p>第一个null元素的下标追加在args末尾作为最后一个message参数,集合自身为null时为-1
+     *
+     * @param collection 待判断对象
+     * @param args       message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElementsParallel(Collection<?> collection, Object... args) {
+        int index = AssertSupport.indexOfNull(collection);
+        return index == AssertSupport.NO_NULL || assetPrint(false, AssertSupport.appendArg(args, index));
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Collection, Object...)},固定1个message参数,null元素下标为message占位符{1}对应的参数
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElementsParallel(Collection<?> collection, Object arg1) {
+        int index = AssertSupport.indexOfNull(collection);
+        return index == AssertSupport.NO_NULL || assetPrint(false, arg1, index);
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Collection, Object...)},固定2个message参数,null元素下标为message占位符{2}对应的参数
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElementsParallel(Collection<?> collection, Object arg1, Object arg2) {
+        int index = AssertSupport.indexOfNull(collection);
+        return index == AssertSupport.NO_NULL || assetPrint(false, arg1, arg2, index);
+    }
+
+    /**
+     * 同 {@link #noNullElementsParallel(Collection, Object...)},固定3个message参数,null元素下标为message占位符{3}对应的参数
+     *
+     * @param collection 待判断对象
+     * @param arg1       message占位符{0}对应的参数
+     * @param arg2       message占位符{1}对应的参数
+     * @param arg3       message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean noNullElementsParallel(Collection<?> collection, Object arg1, Object arg2, Object arg3) {
+        int index = AssertSupport.indexOfNull(collection);
+        return index == AssertSupport.NO_NULL || assetPrint(false, arg1, arg2, arg3, index);
+    }
+
+    /**
+     * <p>断言对象<code>number</code>非空且为正数。如果对象<code>number</code>空或者小于等于0，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param number 待判断对象
+     * @param args   message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositive(Number number,Object... args) {
+        return assetPrint(isPositive(number),args);
+    }
+
+    /**
+     * 同 {@link #isPositive(Number, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositive(Number number, Object arg1) {
+        return assetPrint(isPositive(number), arg1);
+    }
+
+    /**
+     * 同 {@link #isPositive(Number, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositive(Number number, Object arg1, Object arg2) {
+        return assetPrint(isPositive(number), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isPositive(Number, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositive(Number number, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isPositive(number), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言对象<code>number</code>非空且为负数。如果对象<code>number</code>为空或者大于等于0，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param number 待判断对象
+     * @param args   message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegative(Number number, Object... args) {
+        return assetPrint(isNegative(number), args);
+    }
+
+    /**
+     * 同 {@link #isNegative(Number, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegative(Number number, Object arg1) {
+        return assetPrint(isNegative(number), arg1);
+    }
+
+    /**
+     * 同 {@link #isNegative(Number, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegative(Number number, Object arg1, Object arg2) {
+        return assetPrint(isNegative(number), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNegative(Number, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegative(Number number, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNegative(number), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言对象<code>number</code>非空且大于等于0。如果对象<code>number</code>为空或者小于0，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param number 待判断对象
+     * @param args   message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegative(Number number, Object... args) {
+        return assetPrint(isNonNegative(number), args);
+    }
+
+    /**
+     * 同 {@link #isNonNegative(Number, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegative(Number number, Object arg1) {
+        return assetPrint(isNonNegative(number), arg1);
+    }
+
+    /**
+     * 同 {@link #isNonNegative(Number, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegative(Number number, Object arg1, Object arg2) {
+        return assetPrint(isNonNegative(number), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNonNegative(Number, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegative(Number number, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNonNegative(number), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言对象<code>number</code>非空且等于0。如果对象<code>number</code>为空或者不等于0，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param number 待判断对象
+     * @param args   message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZero(Number number, Object... args) {
+        return assetPrint(isZero(number), args);
+    }
+
+    /**
+     * 同 {@link #isZero(Number, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZero(Number number, Object arg1) {
+        return assetPrint(isZero(number), arg1);
+    }
+
+    /**
+     * 同 {@link #isZero(Number, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZero(Number number, Object arg1, Object arg2) {
+        return assetPrint(isZero(number), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isZero(Number, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param number 待判断对象
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZero(Number number, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isZero(number), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>为正数。如果<code>value</code>小于等于0，则返回false，打印警告日志
+     * <p>int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveInt(int value, Object... args) {
+        return assetPrint(isPositiveInt(value), args);
+    }
+
+    /**
+     * 同 {@link #isPositiveInt(int, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveInt(int value, Object arg1) {
+        return assetPrint(isPositiveInt(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isPositiveInt(int, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveInt(int value, Object arg1, Object arg2) {
+        return assetPrint(isPositiveInt(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isPositiveInt(int, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveInt(int value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isPositiveInt(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>为正数。如果<code>value</code>小于等于0，则返回false，打印警告日志
+     * <p>long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveLong(long value, Object... args) {
+        return assetPrint(isPositiveLong(value), args);
+    }
+
+    /**
+     * 同 {@link #isPositiveLong(long, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveLong(long value, Object arg1) {
+        return assetPrint(isPositiveLong(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isPositiveLong(long, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveLong(long value, Object arg1, Object arg2) {
+        return assetPrint(isPositiveLong(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isPositiveLong(long, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveLong(long value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isPositiveLong(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>为正数。如果<code>value</code>小于等于0，则返回false，打印警告日志
+     * <p>double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveDouble(double value, Object... args) {
+        return assetPrint(isPositiveDouble(value), args);
+    }
+
+    /**
+     * 同 {@link #isPositiveDouble(double, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveDouble(double value, Object arg1) {
+        return assetPrint(isPositiveDouble(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isPositiveDouble(double, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveDouble(double value, Object arg1, Object arg2) {
+        return assetPrint(isPositiveDouble(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isPositiveDouble(double, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isPositiveDouble(double value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isPositiveDouble(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>为负数。如果<code>value</code>大于等于0，则返回false，打印警告日志
+     * <p>int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeInt(int value, Object... args) {
+        return assetPrint(isNegativeInt(value), args);
+    }
+
+    /**
+     * 同 {@link #isNegativeInt(int, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeInt(int value, Object arg1) {
+        return assetPrint(isNegativeInt(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isNegativeInt(int, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeInt(int value, Object arg1, Object arg2) {
+        return assetPrint(isNegativeInt(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNegativeInt(int, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeInt(int value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNegativeInt(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>为负数。如果<code>value</code>大于等于0，则返回false，打印警告日志
+     * <p>long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeLong(long value, Object... args) {
+        return assetPrint(isNegativeLong(value), args);
+    }
+
+    /**
+     * 同 {@link #isNegativeLong(long, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeLong(long value, Object arg1) {
+        return assetPrint(isNegativeLong(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isNegativeLong(long, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeLong(long value, Object arg1, Object arg2) {
+        return assetPrint(isNegativeLong(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNegativeLong(long, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeLong(long value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNegativeLong(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>为负数。如果<code>value</code>大于等于0，则返回false，打印警告日志
+     * <p>double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeDouble(double value, Object... args) {
+        return assetPrint(isNegativeDouble(value), args);
+    }
+
+    /**
+     * 同 {@link #isNegativeDouble(double, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeDouble(double value, Object arg1) {
+        return assetPrint(isNegativeDouble(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isNegativeDouble(double, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeDouble(double value, Object arg1, Object arg2) {
+        return assetPrint(isNegativeDouble(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNegativeDouble(double, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNegativeDouble(double value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNegativeDouble(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>大于等于0。如果<code>value</code>小于0，则返回false，打印警告日志
+     * <p>int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeInt(int value, Object... args) {
+        return assetPrint(isNonNegativeInt(value), args);
+    }
+
+    /**
+     * 同 {@link #isNonNegativeInt(int, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeInt(int value, Object arg1) {
+        return assetPrint(isNonNegativeInt(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isNonNegativeInt(int, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeInt(int value, Object arg1, Object arg2) {
+        return assetPrint(isNonNegativeInt(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNonNegativeInt(int, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeInt(int value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNonNegativeInt(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>大于等于0。如果<code>value</code>小于0，则返回false，打印警告日志
+     * <p>long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeLong(long value, Object... args) {
+        return assetPrint(isNonNegativeLong(value), args);
+    }
+
+    /**
+     * 同 {@link #isNonNegativeLong(long, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeLong(long value, Object arg1) {
+        return assetPrint(isNonNegativeLong(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isNonNegativeLong(long, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeLong(long value, Object arg1, Object arg2) {
+        return assetPrint(isNonNegativeLong(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNonNegativeLong(long, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeLong(long value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNonNegativeLong(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>大于等于0。如果<code>value</code>小于0，则返回false，打印警告日志
+     * <p>double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeDouble(double value, Object... args) {
+        return assetPrint(isNonNegativeDouble(value), args);
+    }
+
+    /**
+     * 同 {@link #isNonNegativeDouble(double, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeDouble(double value, Object arg1) {
+        return assetPrint(isNonNegativeDouble(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isNonNegativeDouble(double, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeDouble(double value, Object arg1, Object arg2) {
+        return assetPrint(isNonNegativeDouble(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isNonNegativeDouble(double, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isNonNegativeDouble(double value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isNonNegativeDouble(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>等于0。如果<code>value</code>不等于0，则返回false，打印警告日志
+     * <p>int类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroInt(int value, Object... args) {
+        return assetPrint(isZeroInt(value), args);
+    }
+
+    /**
+     * 同 {@link #isZeroInt(int, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroInt(int value, Object arg1) {
+        return assetPrint(isZeroInt(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isZeroInt(int, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroInt(int value, Object arg1, Object arg2) {
+        return assetPrint(isZeroInt(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isZeroInt(int, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroInt(int value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isZeroInt(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>等于0。如果<code>value</code>不等于0，则返回false，打印警告日志
+     * <p>long类型直接比较,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroLong(long value, Object... args) {
+        return assetPrint(isZeroLong(value), args);
+    }
+
+    /**
+     * 同 {@link #isZeroLong(long, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroLong(long value, Object arg1) {
+        return assetPrint(isZeroLong(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isZeroLong(long, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroLong(long value, Object arg1, Object arg2) {
+        return assetPrint(isZeroLong(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isZeroLong(long, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroLong(long value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isZeroLong(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>等于0。如果<code>value</code>不等于0，则返回false，打印警告日志
+     * <p>double类型直接比较,NaN判定不通过,不装箱,不经过 {@link NumberSign} 查表
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroDouble(double value, Object... args) {
+        return assetPrint(isZeroDouble(value), args);
+    }
+
+    /**
+     * 同 {@link #isZeroDouble(double, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroDouble(double value, Object arg1) {
+        return assetPrint(isZeroDouble(value), arg1);
+    }
+
+    /**
+     * 同 {@link #isZeroDouble(double, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroDouble(double value, Object arg1, Object arg2) {
+        return assetPrint(isZeroDouble(value), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #isZeroDouble(double, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean isZeroDouble(double value, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(isZeroDouble(value), arg1, arg2, arg3);
+    }
+
+    /**
+     * 断言比较2个对象,要求source和target必须已实现 {@link Comparable} 接口
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param args   message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param <T> 泛型
+     */
+    default <T extends Comparable<T>> boolean compare(T source, T target, CompareSymbolEnum csEnum,Object... args) {
+        return assetPrint(compare(source,target, csEnum),args);
+    }
+
+    /**
+     * 同 {@link #compare(Comparable, Comparable, CompareSymbolEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param <T> 泛型
+     */
+    default <T extends Comparable<T>> boolean compare(T source, T target, CompareSymbolEnum csEnum, Object arg1) {
+        return assetPrint(compare(source, target, csEnum), arg1);
+    }
+
+    /**
+     * 同 {@link #compare(Comparable, Comparable, CompareSymbolEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param <T> 泛型
+     */
+    default <T extends Comparable<T>> boolean compare(T source, T target, CompareSymbolEnum csEnum, Object arg1, Object arg2) {
+        return assetPrint(compare(source, target, csEnum), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #compare(Comparable, Comparable, CompareSymbolEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     * @param <T> 泛型
+     */
+    default <T extends Comparable<T>> boolean compare(T source, T target, CompareSymbolEnum csEnum, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(compare(source, target, csEnum), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言比较2个int值,不装箱比较。如果比较结果不符合<code>csEnum</code>，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param args   message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareInt(int source, int target, CompareSymbolEnum csEnum, Object... args) {
+        return assetPrint(compareInt(source, target, csEnum), args);
+    }
+
+    /**
+     * 同 {@link #compareInt(int, int, CompareSymbolEnum, Object...)},固定1个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareInt(int source, int target, CompareSymbolEnum csEnum, Object arg1) {
+        return assetPrint(compareInt(source, target, csEnum), arg1);
+    }
+
+    /**
+     * 同 {@link #compareInt(int, int, CompareSymbolEnum, Object...)},固定2个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareInt(int source, int target, CompareSymbolEnum csEnum, Object arg1, Object arg2) {
+        return assetPrint(compareInt(source, target, csEnum), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #compareInt(int, int, CompareSymbolEnum, Object...)},固定3个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareInt(int source, int target, CompareSymbolEnum csEnum, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(compareInt(source, target, csEnum), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言比较2个long值,不装箱比较。如果比较结果不符合<code>csEnum</code>，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param args   message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareLong(long source, long target, CompareSymbolEnum csEnum, Object... args) {
+        return assetPrint(compareLong(source, target, csEnum), args);
+    }
+
+    /**
+     * 同 {@link #compareLong(long, long, CompareSymbolEnum, Object...)},固定1个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareLong(long source, long target, CompareSymbolEnum csEnum, Object arg1) {
+        return assetPrint(compareLong(source, target, csEnum), arg1);
+    }
+
+    /**
+     * 同 {@link #compareLong(long, long, CompareSymbolEnum, Object...)},固定2个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareLong(long source, long target, CompareSymbolEnum csEnum, Object arg1, Object arg2) {
+        return assetPrint(compareLong(source, target, csEnum), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #compareLong(long, long, CompareSymbolEnum, Object...)},固定3个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareLong(long source, long target, CompareSymbolEnum csEnum, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(compareLong(source, target, csEnum), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言比较2个double值,不装箱比较。如果比较结果不符合<code>csEnum</code>，则返回false，打印警告日志
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param args   message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareDouble(double source, double target, CompareSymbolEnum csEnum, Object... args) {
+        return assetPrint(compareDouble(source, target, csEnum), args);
+    }
+
+    /**
+     * 同 {@link #compareDouble(double, double, CompareSymbolEnum, Object...)},固定1个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareDouble(double source, double target, CompareSymbolEnum csEnum, Object arg1) {
+        return assetPrint(compareDouble(source, target, csEnum), arg1);
+    }
+
+    /**
+     * 同 {@link #compareDouble(double, double, CompareSymbolEnum, Object...)},固定2个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareDouble(double source, double target, CompareSymbolEnum csEnum, Object arg1, Object arg2) {
+        return assetPrint(compareDouble(source, target, csEnum), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #compareDouble(double, double, CompareSymbolEnum, Object...)},固定3个message参数
+     *
+     * @param source 需要比较的值,一般为变量
+     * @param target 比较值或者标准值,一般为常量或者固定值
+     * @param csEnum 期望断言结果
+     * @param arg1   message占位符{0}对应的参数
+     * @param arg2   message占位符{1}对应的参数
+     * @param arg3   message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean compareDouble(double source, double target, CompareSymbolEnum csEnum, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(compareDouble(source, target, csEnum), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定。如果<code>value</code>不在区间内，则返回false，打印警告日志
+     * <p>int类型不装箱比较
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenInt(int value, int min, int max, BoundTypeEnum bound, Object... args) {
+        return assetPrint(betweenInt(value, min, max, bound), args);
+    }
+
+    /**
+     * 同 {@link #betweenInt(int, int, int, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1) {
+        return assetPrint(betweenInt(value, min, max, bound), arg1);
+    }
+
+    /**
+     * 同 {@link #betweenInt(int, int, int, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        return assetPrint(betweenInt(value, min, max, bound), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #betweenInt(int, int, int, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(betweenInt(value, min, max, bound), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定。如果<code>value</code>不在区间内，则返回false，打印警告日志
+     * <p>long类型不装箱比较
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenLong(long value, long min, long max, BoundTypeEnum bound, Object... args) {
+        return assetPrint(betweenLong(value, min, max, bound), args);
+    }
+
+    /**
+     * 同 {@link #betweenLong(long, long, long, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1) {
+        return assetPrint(betweenLong(value, min, max, bound), arg1);
+    }
+
+    /**
+     * 同 {@link #betweenLong(long, long, long, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        return assetPrint(betweenLong(value, min, max, bound), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #betweenLong(long, long, long, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(betweenLong(value, min, max, bound), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定。如果<code>value</code>不在区间内，则返回false，打印警告日志
+     * <p>double类型不装箱比较
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenDouble(double value, double min, double max, BoundTypeEnum bound, Object... args) {
+        return assetPrint(betweenDouble(value, min, max, bound), args);
+    }
+
+    /**
+     * 同 {@link #betweenDouble(double, double, double, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1) {
+        return assetPrint(betweenDouble(value, min, max, bound), arg1);
+    }
+
+    /**
+     * 同 {@link #betweenDouble(double, double, double, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        return assetPrint(betweenDouble(value, min, max, bound), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #betweenDouble(double, double, double, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean betweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(betweenDouble(value, min, max, bound), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>不在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定。如果<code>value</code>在区间内，则返回false，打印警告日志
+     * <p>int类型不装箱比较
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenInt(int value, int min, int max, BoundTypeEnum bound, Object... args) {
+        return assetPrint(notBetweenInt(value, min, max, bound), args);
+    }
+
+    /**
+     * 同 {@link #notBetweenInt(int, int, int, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1) {
+        return assetPrint(notBetweenInt(value, min, max, bound), arg1);
+    }
+
+    /**
+     * 同 {@link #notBetweenInt(int, int, int, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        return assetPrint(notBetweenInt(value, min, max, bound), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #notBetweenInt(int, int, int, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenInt(int value, int min, int max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(notBetweenInt(value, min, max, bound), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>不在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定。如果<code>value</code>在区间内，则返回false，打印警告日志
+     * <p>long类型不装箱比较
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenLong(long value, long min, long max, BoundTypeEnum bound, Object... args) {
+        return assetPrint(notBetweenLong(value, min, max, bound), args);
+    }
+
+    /**
+     * 同 {@link #notBetweenLong(long, long, long, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1) {
+        return assetPrint(notBetweenLong(value, min, max, bound), arg1);
+    }
+
+    /**
+     * 同 {@link #notBetweenLong(long, long, long, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        return assetPrint(notBetweenLong(value, min, max, bound), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #notBetweenLong(long, long, long, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenLong(long value, long min, long max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(notBetweenLong(value, min, max, bound), arg1, arg2, arg3);
+    }
+
+    /**
+     * <p>断言<code>value</code>不在<code>min</code>与<code>max</code>之间,边界是否包含由<code>bound</code>决定。如果<code>value</code>在区间内，则返回false，打印警告日志
+     * <p>double类型不装箱比较
+     * <p>警告信息<code>args</code>支持传递参数方式，避免在判断之前进行字符串拼接操作
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param args  message占位符对应的参数列表
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenDouble(double value, double min, double max, BoundTypeEnum bound, Object... args) {
+        return assetPrint(notBetweenDouble(value, min, max, bound), args);
+    }
+
+    /**
+     * 同 {@link #notBetweenDouble(double, double, double, BoundTypeEnum, Object...)},固定1个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1) {
+        return assetPrint(notBetweenDouble(value, min, max, bound), arg1);
+    }
+
+    /**
+     * 同 {@link #notBetweenDouble(double, double, double, BoundTypeEnum, Object...)},固定2个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1, Object arg2) {
+        return assetPrint(notBetweenDouble(value, min, max, bound), arg1, arg2);
+    }
+
+    /**
+     * 同 {@link #notBetweenDouble(double, double, double, BoundTypeEnum, Object...)},固定3个message参数,断言通过时不创建参数数组
+     *
+     * @param value 待判断对象
+     * @param min   区间下限
+     * @param max   区间上限
+     * @param bound 边界是否包含
+     * @param arg1  message占位符{0}对应的参数
+     * @param arg2  message占位符{1}对应的参数
+     * @param arg3  message占位符{2}对应的参数
+     * @return true验证通过, false验证不通过并且输出WARN日志
+     */
+    default boolean notBetweenDouble(double value, double min, double max, BoundTypeEnum bound, Object arg1, Object arg2, Object arg3) {
+        return assetPrint(notBetweenDouble(value, min, max, bound), arg1, arg2, arg3);
     }
 
 }
@@ -0,0 +1,172 @@
+package cn.xuming.erxing.lessif.core;
+
+import cn.xuming.erxing.lessif.ErxingProperties;
+import cn.xuming.erxing.lessif.constant.LogLevelEnum;
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ErxingExceptionHandler} 按错误码输出异常日志的策略
+ * <ul>
+ *     <li>级别:OFF时不输出;级别未开启时直接返回,不做任何格式化</li>
+ *     <li>堆栈:不输出堆栈时只有一行 <code>错误码 错误信息</code>;带cause的异常视为非预期异常,始终以ERROR级别输出完整堆栈</li>
+ *     <li>限流:同一错误码每秒最多输出N条,被限流的条数在下一次输出时附带</li>
+ * </ul>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-22 19:52:18
+ */
+final class ExceptionLogPolicy {
+
+    /**
+     * 单独跟踪限流状态的错误码上限,超出后共用一份
+     */
+    private static final int MAX_CODES = 4096;
+
+    private final Logger logger;
+
+    private final Rule defaultRule;
+
+    private final Map<String, Rule> configured;
+
+    private final ConcurrentMap<String, Rule> limited = new ConcurrentHashMap<>();
+
+    ExceptionLogPolicy(Logger logger, ErxingProperties.Logging properties) {
+        this.logger = logger;
+        this.defaultRule = new Rule(properties.getLevel(), properties.isStackTrace(), properties.getRateLimit());
+        Map<String, Rule> rules = new HashMap<>();
+        for (Map.Entry<String, ErxingProperties.Code> entry : properties.getCodes().entrySet()) {
+            ErxingProperties.Code code = entry.getValue();
+            rules.put(entry.getKey(), new Rule(
+                    code.getLevel() == null ? properties.getLevel() : code.getLevel(),
+                    code.getStackTrace() == null ? properties.isStackTrace() : code.getStackTrace(),
+                    code.getRateLimit() == null ? properties.getRateLimit() : code.getRateLimit()));
+        }
+        this.configured = rules;
+    }
+
+    /**
+     * 按策略输出异常日志
+     *
+     * @param e 异常
+     */
+    void log(ErxingException e) {
+        Rule rule = rule(e.getCode());
+        if (rule.level == LogLevelEnum.OFF) {
+            return;
+        }
+        boolean unexpected = e.getCause() != null;
+        LogLevelEnum level = unexpected ? LogLevelEnum.ERROR : rule.level;
+        if (!isEnabled(level)) {
+            return;
+        }
+        long suppressed = rule.acquire();
+        if (suppressed < 0) {
+            return;
+        }
+        String message = suppressed == 0 ? e.getCode() + " " + e.getMessage()
+                : e.getCode() + " " + e.getMessage() + " (此前被限流" + suppressed + "条)";
+        write(level, message, unexpected || rule.stackTrace ? e : null);
+    }
+
+    private Rule rule(String code) {
+        Rule rule = configured.getOrDefault(code, defaultRule);
+        if (rule.rateLimit <= 0 || code == null) {
+            return rule;
+        }
+        Rule state = limited.get(code);
+        if (state == null) {
+            if (limited.size() >= MAX_CODES) {
+                return rule;
+            }
+            state = limited.computeIfAbsent(code, key -> rule.copy());
+        }
+        return state;
+    }
+
+    private boolean isEnabled(LogLevelEnum level) {
+        switch (level) {
+            case ERROR:
+                return logger.isErrorEnabled();
+            case WARN:
+                return logger.isWarnEnabled();
+            case INFO:
+                return logger.isInfoEnabled();
+            case DEBUG:
+                return logger.isDebugEnabled();
+            default:
+                return false;
+        }
+    }
+
+    private void write(LogLevelEnum level, String message, Throwable t) {
+        switch (level) {
+            case ERROR:
+                logger.error(message, t);
+                break;
+            case WARN:
+                logger.warn(message, t);
+                break;
+            case INFO:
+                logger.info(message, t);
+                break;
+            default:
+                logger.debug(message, t);
+                break;
+        }
+    }
+
+    /**
+     * 某个错误码的日志规则,限流时每个错误码持有一份独立的计数
+     */
+    private static final class Rule {
+
+        private final LogLevelEnum level;
+
+        private final boolean stackTrace;
+
+        private final int rateLimit;
+
+        private final AtomicLong second = new AtomicLong(Long.MIN_VALUE);
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Rule(LogLevelEnum level, boolean stackTrace, int rateLimit) {
+            this.level = level == null ? LogLevelEnum.OFF : level;
+            this.stackTrace = stackTrace;
+            this.rateLimit = rateLimit;
+        }
+
+        private Rule copy() {
+            return new Rule(level, stackTrace, rateLimit);
+        }
+
+        /**
+         * @return -1被限流;否则为此前被限流的条数
+         */
+        private long acquire() {
+            if (rateLimit <= 0) {
+                return 0;
+            }
+            long now = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+            long current = second.get();
+            if (now != current && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            if (count.incrementAndGet() > rateLimit) {
+                suppressed.incrementAndGet();
+                return -1;
+            }
+            return suppressed.getAndSet(0);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package cn.xuming.erxing.lessif.core;
+
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 错误枚举共用的异常,由 {@link StackTracePolicy#SHARED} 开启
+ * <p>每个错误枚举常量一个,首次使用时创建,之后的 {@link ErxingExceptionAssert#newException(Object...)} 只是一次数组读取。
+ * 同一实例会被多个线程同时抛出,因此不可修改:</p>
+ * <ul>
+ *     <li>没有堆栈,{@link #setStackTrace(StackTraceElement[])} 无效</li>
+ *     <li>{@link #addSuppressed(Throwable)} 无效,try-with-resources中关闭资源的异常不会附加到该异常上</li>
+ *     <li>{@link #initCause(Throwable)}、{@link #setCode(String)}、{@link #setMessage(String)} 抛出异常</li>
+ * </ul>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-24 20:12:37
+ */
+final class SharedErxingException extends ErxingException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ClassValue<AtomicReferenceArray<SharedErxingException>> INSTANCES =
+            new ClassValue<AtomicReferenceArray<SharedErxingException>>() {
+                @Override
+                protected AtomicReferenceArray<SharedErxingException> computeValue(Class<?> type) {
+                    Object[] constants = type.getEnumConstants();
+                    return new AtomicReferenceArray<>(constants == null ? 0 : constants.length);
+                }
+            };
+
+    /**
+     * 创建时的提示信息模板,用于判断枚举的code、message是否变化
+     */
+    private final transient String pattern;
+
+    private SharedErxingException(String code, MessageTemplate template) {
+        super(code, template.format(), template);
+        this.pattern = template.getPattern();
+    }
+
+    /**
+     * 获取错误枚举共用的异常,不是枚举时每次创建新的异常(同样不采集堆栈)
+     *
+     * @param assertion 错误枚举
+     * @param template  不含占位符的提示信息模板
+     * @return 异常
+     */
+    static ErxingException of(ErxingExceptionAssert assertion, MessageTemplate template) {
+        String code = assertion.getCode();
+        if (!(assertion instanceof Enum)) {
+            return new SharedErxingException(code, template);
+        }
+        Enum<?> constant = (Enum<?>) assertion;
+        AtomicReferenceArray<SharedErxingException> instances = INSTANCES.get(constant.getDeclaringClass());
+        int ordinal = constant.ordinal();
+        SharedErxingException shared = instances.get(ordinal);
+        // 枚举的code、message一般不变,变化时(如从配置读取)重新创建
+        if (shared == null || !Objects.equals(shared.getCode(), code) || !shared.pattern.equals(template.getPattern())) {
+            shared = new SharedErxingException(code, template);
+            instances.set(ordinal, shared);
+        }
+        return shared;
+    }
+
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        throw new IllegalStateException("共享异常不可修改,不支持initCause");
+    }
+
+    @Override
+    public void setCode(String code) {
+        throw new UnsupportedOperationException("共享异常不可修改");
+    }
+
+    @Override
+    public void setMessage(String message) {
+        throw new UnsupportedOperationException("共享异常不可修改");
+    }
+}
@@ -0,0 +1,150 @@
+package cn.xuming.erxing.lessif.core;
+
+import cn.xuming.erxing.lessif.constant.StackTraceModeEnum;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ErxingException} 堆栈采集策略
+ * <p>业务异常多为预期内的错误,采集堆栈的开销没有意义,可全局或按异常码关闭/抽样采集</p>
+ * <pre>
+ *     StackTracePolicy.setDefault(StackTracePolicy.NONE);
+ *     StackTracePolicy.set("E10001", StackTracePolicy.sampled(100));
+ *     StackTracePolicy.set("E10002", StackTracePolicy.SHARED);
+ * </pre>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-08 20:35:02
+ */
+public final class StackTracePolicy {
+
+    /**
+     * 每次都采集完整堆栈(默认)
+     */
+    public static final StackTracePolicy FULL = new StackTracePolicy(StackTraceModeEnum.FULL, 1);
+
+    /**
+     * 不采集堆栈
+     */
+    public static final StackTracePolicy NONE = new StackTracePolicy(StackTraceModeEnum.NONE, 0);
+
+    /**
+     * 不采集堆栈;错误信息不含占位符的错误枚举,{@link ErxingExceptionAssert#newException(Object...)}
+     * 每次返回同一个预先创建的不可修改异常,抛出异常不再有任何分配
+     */
+    public static final StackTracePolicy SHARED = new StackTracePolicy(StackTraceModeEnum.SHARED, 0);
+
+    private static final ConcurrentMap<String, StackTracePolicy> CODE_POLICIES = new ConcurrentHashMap<>();
+
+    private static volatile StackTracePolicy defaultPolicy = FULL;
+
+    private final StackTraceModeEnum mode;
+
+    private final int sampleRate;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private StackTracePolicy(StackTraceModeEnum mode, int sampleRate) {
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * 抽样采集,每sampleRate次异常采集1次堆栈(首次必定采集)
+     *
+     * @param sampleRate 抽样间隔,必须大于0
+     * @return 堆栈采集策略
+     */
+    public static StackTracePolicy sampled(int sampleRate) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("sampleRate必须大于0");
+        }
+        return sampleRate == 1 ? FULL : new StackTracePolicy(StackTraceModeEnum.SAMPLED, sampleRate);
+    }
+
+    /**
+     * 设置全局默认策略
+     *
+     * @param policy 堆栈采集策略
+     */
+    public static void setDefault(StackTracePolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("policy不能为空");
+        }
+        defaultPolicy = policy;
+    }
+
+    /**
+     * @return 全局默认策略
+     */
+    public static StackTracePolicy getDefault() {
+        return defaultPolicy;
+    }
+
+    /**
+     * 设置指定异常码的策略,优先于全局默认策略
+     *
+     * @param code   异常码
+     * @param policy 堆栈采集策略,为null时移除该异常码的策略
+     */
+    public static void set(String code, StackTracePolicy policy) {
+        if (policy == null) {
+            CODE_POLICIES.remove(code);
+        } else {
+            CODE_POLICIES.put(code, policy);
+        }
+    }
+
+    /**
+     * 清除所有异常码的策略,并恢复全局默认策略为 {@link #FULL}
+     */
+    public static void reset() {
+        CODE_POLICIES.clear();
+        defaultPolicy = FULL;
+    }
+
+    /**
+     * 获取异常码对应的策略
+     *
+     * @param code 异常码
+     * @return 异常码单独设置的策略,未设置时返回全局默认策略
+     */
+    public static StackTracePolicy of(String code) {
+        if (code == null || CODE_POLICIES.isEmpty()) {
+            return defaultPolicy;
+        }
+        StackTracePolicy policy = CODE_POLICIES.get(code);
+        return policy == null ? defaultPolicy : policy;
+    }
+
+    /**
+     * 本次异常是否需要采集堆栈
+     *
+     * @return true采集, false不采集
+     */
+    public boolean capture() {
+        switch (mode) {
+            case FULL:
+                return true;
+            case SAMPLED:
+                return counter.getAndIncrement() % sampleRate == 0;
+            default:
+                return false;
+        }
+    }
+
+    public StackTraceModeEnum getMode() {
+        return mode;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public String toString() {
+        return mode == StackTraceModeEnum.SAMPLED ? mode + "(1/" + sampleRate + ")" : mode.name();
+    }
+}
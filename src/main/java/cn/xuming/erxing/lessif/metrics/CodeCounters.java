@@ -0,0 +1,132 @@
+package cn.xuming.erxing.lessif.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 按异常码计数,每个异常码一个 {@link LongAdder}
+ * <p>异常码首次出现时创建计数器并通知监听器,之后计数只有一次无锁的map查找和一次LongAdder累加;
+ * 已在 {@link cn.xuming.erxing.lessif.core.ErxingCodeRegistry} 注册的异常码按id直接读取数组,省去map查找</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-16 20:12:09
+ */
+final class CodeCounters {
+
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    private final List<BiConsumer<String, LongAdder>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 按注册表id索引的计数器,与counters中为同一个实例
+     */
+    private volatile LongAdder[] byId = new LongAdder[0];
+
+    /**
+     * @param id   注册表id,未注册时为 {@link cn.xuming.erxing.lessif.core.ErxingCodeRegistry#UNREGISTERED}
+     * @param code 异常码
+     */
+    void increment(int id, String code) {
+        if (id < 0) {
+            increment(code);
+            return;
+        }
+        LongAdder[] counters = byId;
+        LongAdder counter = id < counters.length ? counters[id] : null;
+        if (counter == null) {
+            if (code == null) {
+                return;
+            }
+            counter = this.counters.get(code);
+            if (counter == null) {
+                counter = register(code);
+            }
+            index(id, counter);
+        }
+        counter.increment();
+    }
+
+    private synchronized void index(int id, LongAdder counter) {
+        LongAdder[] counters = byId;
+        if (id >= counters.length) {
+            counters = Arrays.copyOf(counters, Math.max(id + 1, counters.length * 2));
+        } else {
+            counters = counters.clone();
+        }
+        counters[id] = counter;
+        byId = counters;
+    }
+
+    void increment(String code) {
+        if (code == null) {
+            return;
+        }
+        LongAdder counter = counters.get(code);
+        if (counter == null) {
+            counter = register(code);
+        }
+        counter.increment();
+    }
+
+    private LongAdder register(String code) {
+        LongAdder created = new LongAdder();
+        LongAdder existing = counters.putIfAbsent(code, created);
+        if (existing != null) {
+            return existing;
+        }
+        for (BiConsumer<String, LongAdder> listener : listeners) {
+            listener.accept(code, created);
+        }
+        return created;
+    }
+
+    long count(String code) {
+        LongAdder counter = counters.get(code);
+        return counter == null ? 0L : counter.sum();
+    }
+
+    long total() {
+        long total = 0L;
+        for (LongAdder counter : counters.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(counters).entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().sum());
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    void reset() {
+        for (LongAdder counter : counters.values()) {
+            counter.reset();
+        }
+    }
+
+    /**
+     * 添加监听器,已存在的计数器会立即回调一次
+     */
+    void addListener(BiConsumer<String, LongAdder> listener) {
+        listeners.add(listener);
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            listener.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    void removeListener(BiConsumer<String, LongAdder> listener) {
+        listeners.remove(listener);
+    }
+}
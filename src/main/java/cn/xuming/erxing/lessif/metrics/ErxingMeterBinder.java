@@ -0,0 +1,63 @@
+package cn.xuming.erxing.lessif.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 将 {@link ErxingMetrics} 绑定为Micrometer指标
+ * <ul>
+ *     <li><code>erxing.exceptions{code=...}</code> 异常触发次数</li>
+ *     <li><code>erxing.warnings{code=...}</code> 警告触发次数</li>
+ * </ul>
+ * 指标直接读取计数器的当前值,计数本身不经过Micrometer
+ * <p>{@link #close()} 移除绑定时注册到 {@link ErxingMetrics} 的监听,作为Spring bean时随容器关闭自动调用,
+ * 避免容器重启(如测试、devtools)后旧的MeterRegistry仍被静态监听引用</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-16 21:02:55
+ */
+public class ErxingMeterBinder implements MeterBinder, AutoCloseable {
+
+    public static final String EXCEPTIONS = "erxing.exceptions";
+
+    public static final String WARNINGS = "erxing.warnings";
+
+    /**
+     * 已注册的监听,可能绑定了多个MeterRegistry
+     */
+    private final List<BiConsumer<String, LongAdder>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        BiConsumer<String, LongAdder> exceptions = (code, counter) -> register(registry, EXCEPTIONS, "异常触发次数", code, counter);
+        BiConsumer<String, LongAdder> warnings = (code, counter) -> register(registry, WARNINGS, "警告触发次数", code, counter);
+        listeners.add(exceptions);
+        listeners.add(warnings);
+        ErxingMetrics.onNewExceptionCode(exceptions);
+        ErxingMetrics.onNewWarningCode(warnings);
+    }
+
+    /**
+     * 移除全部监听,之后新出现的错误码不再注册指标,已注册的指标不受影响
+     */
+    @Override
+    public void close() {
+        for (BiConsumer<String, LongAdder> listener : listeners) {
+            ErxingMetrics.removeListener(listener);
+        }
+        listeners.clear();
+    }
+
+    private static void register(MeterRegistry registry, String name, String description, String code, LongAdder counter) {
+        FunctionCounter.builder(name, counter, LongAdder::sum)
+                .tag("code", code)
+                .description(description)
+                .register(registry);
+    }
+}
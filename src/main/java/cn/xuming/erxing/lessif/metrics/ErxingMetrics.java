@@ -0,0 +1,132 @@
+package cn.xuming.erxing.lessif.metrics;
+
+import cn.xuming.erxing.lessif.core.ErxingCodeRegistry;
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 按异常码统计异常与警告的触发次数
+ * <p>Spring Boot项目中,classpath存在Micrometer时以 <code>erxing.exceptions</code>、<code>erxing.warnings</code>
+ * 指标暴露(tag为code),否则注册为JMX MBean {@value ErxingMetricsJmx#OBJECT_NAME}</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-16 20:20:44
+ */
+public final class ErxingMetrics {
+
+    private static final CodeCounters EXCEPTIONS = new CodeCounters();
+
+    private static final CodeCounters WARNINGS = new CodeCounters();
+
+    private ErxingMetrics() {
+    }
+
+    /**
+     * 记录一次异常
+     *
+     * @param code 异常码
+     */
+    public static void recordException(String code) {
+        EXCEPTIONS.increment(code);
+    }
+
+    /**
+     * 记录一次异常,已注册的错误枚举按id计数
+     *
+     * @param error 错误枚举
+     */
+    public static void recordException(ErxingExceptionAssert error) {
+        EXCEPTIONS.increment(ErxingCodeRegistry.id(error), error.getCode());
+    }
+
+    /**
+     * 记录一次警告,已注册的警告枚举按id计数
+     *
+     * @param warning 警告枚举
+     */
+    public static void recordWarning(ErxingWarningAssert warning) {
+        WARNINGS.increment(ErxingCodeRegistry.id(warning), warning.getCode());
+    }
+
+    /**
+     * 记录一次警告
+     *
+     * @param code 警告码
+     */
+    public static void recordWarning(String code) {
+        WARNINGS.increment(code);
+    }
+
+    /**
+     * @param code 异常码
+     * @return 异常码触发次数
+     */
+    public static long exceptionCount(String code) {
+        return EXCEPTIONS.count(code);
+    }
+
+    /**
+     * @param code 警告码
+     * @return 警告码触发次数
+     */
+    public static long warningCount(String code) {
+        return WARNINGS.count(code);
+    }
+
+    /**
+     * @return 所有异常码的触发次数,按异常码排序
+     */
+    public static Map<String, Long> exceptionCounts() {
+        return EXCEPTIONS.snapshot();
+    }
+
+    /**
+     * @return 所有警告码的触发次数,按警告码排序
+     */
+    public static Map<String, Long> warningCounts() {
+        return WARNINGS.snapshot();
+    }
+
+    public static long totalExceptions() {
+        return EXCEPTIONS.total();
+    }
+
+    public static long totalWarnings() {
+        return WARNINGS.total();
+    }
+
+    /**
+     * 所有计数清零
+     */
+    public static void reset() {
+        EXCEPTIONS.reset();
+        WARNINGS.reset();
+    }
+
+    /**
+     * 监听异常码计数器的创建,已存在的计数器会立即回调一次,用于对接外部监控
+     *
+     * @param listener 回调参数为异常码及其计数器
+     */
+    public static void onNewExceptionCode(BiConsumer<String, LongAdder> listener) {
+        EXCEPTIONS.addListener(listener);
+    }
+
+    /**
+     * 监听警告码计数器的创建,已存在的计数器会立即回调一次,用于对接外部监控
+     *
+     * @param listener 回调参数为警告码及其计数器
+     */
+    public static void onNewWarningCode(BiConsumer<String, LongAdder> listener) {
+        WARNINGS.addListener(listener);
+    }
+
+    public static void removeListener(BiConsumer<String, LongAdder> listener) {
+        EXCEPTIONS.removeListener(listener);
+        WARNINGS.removeListener(listener);
+    }
+}
@@ -0,0 +1,65 @@
+package cn.xuming.erxing.lessif.metrics;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 异常与警告计数的自动配置:容器中存在 <code>MeterRegistry</code> 时注册 {@link ErxingMeterBinder},否则注册JMX MBean
+ * <p>只引入micrometer-core而未配置 <code>MeterRegistry</code>(如未引入actuator)时同样注册JMX MBean;
+ * 在actuator的指标自动配置之后执行,以便判断其创建的 <code>MeterRegistry</code></p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-16 21:10:37
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(name = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"})
+public class ErxingMetricsAutoConfiguration {
+
+    private static final String METER_REGISTRY = "io.micrometer.core.instrument.MeterRegistry";
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = METER_REGISTRY)
+    @ConditionalOnBean(type = METER_REGISTRY)
+    static class MicrometerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ErxingMeterBinder erxingMeterBinder() {
+            return new ErxingMeterBinder();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnMissingBean(type = METER_REGISTRY)
+    static class JmxConfiguration {
+
+        @Bean
+        public ErxingMetricsJmxRegistrar erxingMetricsJmxRegistrar() {
+            return new ErxingMetricsJmxRegistrar();
+        }
+    }
+
+    /**
+     * 随Spring容器注册/注销MBean
+     */
+    static class ErxingMetricsJmxRegistrar implements InitializingBean, DisposableBean {
+
+        @Override
+        public void afterPropertiesSet() {
+            ErxingMetricsJmx.register();
+        }
+
+        @Override
+        public void destroy() {
+            ErxingMetricsJmx.unregister();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package cn.xuming.erxing.lessif.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+/**
+ * 以JMX MBean暴露 {@link ErxingMetrics},非Spring项目可直接调用 {@link #register()}
+ *
+ * @author : 徐铭
+ * @since: 2024-05-16 20:46:12
+ */
+public class ErxingMetricsJmx implements ErxingMetricsMXBean {
+
+    public static final String OBJECT_NAME = "cn.xuming.erxing:type=ErxingMetrics";
+
+    /**
+     * 注册到平台MBeanServer,已注册时忽略
+     */
+    public static void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(new ErxingMetricsJmx(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException ignored) {
+            // 已注册
+        } catch (JMException e) {
+            throw new IllegalStateException("注册ErxingMetrics MBean失败", e);
+        }
+    }
+
+    /**
+     * 从平台MBeanServer注销,未注册时忽略
+     */
+    public static void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (InstanceNotFoundException ignored) {
+            // 未注册
+        } catch (JMException e) {
+            throw new IllegalStateException("注销ErxingMetrics MBean失败", e);
+        }
+    }
+
+    @Override
+    public Map<String, Long> getExceptionCounts() {
+        return ErxingMetrics.exceptionCounts();
+    }
+
+    @Override
+    public Map<String, Long> getWarningCounts() {
+        return ErxingMetrics.warningCounts();
+    }
+
+    @Override
+    public long getTotalExceptions() {
+        return ErxingMetrics.totalExceptions();
+    }
+
+    @Override
+    public long getTotalWarnings() {
+        return ErxingMetrics.totalWarnings();
+    }
+
+    @Override
+    public void reset() {
+        ErxingMetrics.reset();
+    }
+}
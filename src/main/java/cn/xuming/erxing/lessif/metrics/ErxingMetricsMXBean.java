@@ -0,0 +1,37 @@
+package cn.xuming.erxing.lessif.metrics;
+
+import java.util.Map;
+
+/**
+ * 异常与警告计数的JMX接口
+ *
+ * @author : 徐铭
+ * @since: 2024-05-16 20:41:30
+ */
+public interface ErxingMetricsMXBean {
+
+    /**
+     * @return 所有异常码的触发次数
+     */
+    Map<String, Long> getExceptionCounts();
+
+    /**
+     * @return 所有警告码的触发次数
+     */
+    Map<String, Long> getWarningCounts();
+
+    /**
+     * @return 异常总次数
+     */
+    long getTotalExceptions();
+
+    /**
+     * @return 警告总次数
+     */
+    long getTotalWarnings();
+
+    /**
+     * 所有计数清零
+     */
+    void reset();
+}
@@ -0,0 +1,98 @@
+package cn.xuming.erxing.lessif.rule;
+
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 编译后的业务规则
+ * <p>配置中的规则字符串只解析一次,编译为由lambda组成的判断树并按表达式缓存,之后每次求值只是遍历判断树,
+ * 变量为Integer/Long/Double等常用类型时不创建任何对象</p>
+ * <pre>
+ *     ErxingRule rule = ErxingRule.compile("qty &gt; 0 &amp;&amp; price &lt;= 10000 &amp;&amp; code in (A,B,C)");
+ *     rule.check(variables, ErrorEnum.ORDER_RULE_INVALID, orderNo);
+ * </pre>
+ * <p>比较符号与 {@link cn.xuming.erxing.lessif.constant.CompareSymbolEnum} 对应,语法见 {@link RuleParser}</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-05 21:12:50
+ */
+public final class ErxingRule {
+
+    /**
+     * 缓存上限,防止动态拼接的表达式撑爆缓存
+     */
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    private static final ConcurrentMap<String, ErxingRule> CACHE = new ConcurrentHashMap<>();
+
+    private final String expression;
+
+    private final RuleNode root;
+
+    private ErxingRule(String expression) {
+        this.expression = expression;
+        this.root = RuleParser.parse(expression);
+    }
+
+    /**
+     * 编译规则,同一表达式只编译一次
+     *
+     * @param expression 规则表达式
+     * @return 规则
+     * @throws IllegalArgumentException 表达式语法错误
+     */
+    public static ErxingRule compile(String expression) {
+        if (expression == null) {
+            throw new IllegalArgumentException("规则表达式不能为空");
+        }
+        ErxingRule rule = CACHE.get(expression);
+        if (rule != null) {
+            return rule;
+        }
+        rule = new ErxingRule(expression);
+        if (CACHE.size() < MAX_CACHE_SIZE) {
+            ErxingRule existing = CACHE.putIfAbsent(expression, rule);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return rule;
+    }
+
+    /**
+     * 规则求值
+     *
+     * @param variables 变量,不存在的变量按null处理
+     * @return 规则是否成立
+     * @throws IllegalArgumentException 数值与无法解析为数值的字符串比较
+     */
+    public boolean test(Map<String, ?> variables) {
+        return root.test(variables);
+    }
+
+    /**
+     * 规则不成立时由code抛出异常
+     *
+     * @param variables 变量
+     * @param code      规则对应的异常枚举
+     * @param args      message占位符对应的参数列表
+     */
+    public void check(Map<String, ?> variables, ErxingExceptionAssert code, Object... args) {
+        code.isTrue(root.test(variables), args);
+    }
+
+    /**
+     * @return 规则表达式
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
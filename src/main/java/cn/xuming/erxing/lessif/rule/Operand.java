@@ -0,0 +1,19 @@
+package cn.xuming.erxing.lessif.rule;
+
+import java.util.Map;
+
+/**
+ * 比较运算的操作数:变量或常量
+ *
+ * @author : 徐铭
+ * @since: 2024-06-05 20:05:42
+ */
+@FunctionalInterface
+interface Operand {
+
+    /**
+     * @param variables 变量
+     * @return 操作数的值,变量不存在时为null
+     */
+    Object value(Map<String, ?> variables);
+}
@@ -0,0 +1,19 @@
+package cn.xuming.erxing.lessif.rule;
+
+import java.util.Map;
+
+/**
+ * 编译后的规则节点
+ *
+ * @author : 徐铭
+ * @since: 2024-06-05 20:03:16
+ */
+@FunctionalInterface
+interface RuleNode {
+
+    /**
+     * @param variables 变量
+     * @return 规则是否成立
+     */
+    boolean test(Map<String, ?> variables);
+}
@@ -0,0 +1,295 @@
+package cn.xuming.erxing.lessif.rule;
+
+import cn.xuming.erxing.lessif.constant.CompareSymbolEnum;
+import cn.xuming.erxing.lessif.support.MembershipSet;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 规则表达式解析器,递归下降解析并直接组装为 {@link RuleNode}
+ * <pre>
+ * expression := or
+ * or         := and ( '||' and )*
+ * and        := unary ( '&amp;&amp;' unary )*
+ * unary      := '!' unary | '(' expression ')' | comparison
+ * comparison := operand ( ( '&gt;' | '&gt;=' | '&lt;' | '&lt;=' | '==' | '!=' ) operand
+ *                       | 'in' '(' literal ( ',' literal )* ')'
+ *                       | 'not' 'in' '(' literal ( ',' literal )* ')' )?
+ * operand    := 变量名 | 数值 | '字符串' | "字符串" | true | false | null
+ * </pre>
+ * <p>in列表中可以直接写不带引号的单词,如 <code>code in (A,B,C)</code>;单独的变量要求为Boolean</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-05 20:41:27
+ */
+final class RuleParser {
+
+    private final String expression;
+
+    private int position;
+
+    private RuleParser(String expression) {
+        this.expression = expression;
+    }
+
+    static RuleNode parse(String expression) {
+        RuleParser parser = new RuleParser(expression);
+        RuleNode node = parser.parseOr();
+        parser.skipWhitespace();
+        if (parser.position < expression.length()) {
+            throw parser.error("多余的内容");
+        }
+        return node;
+    }
+
+    private RuleNode parseOr() {
+        RuleNode left = parseAnd();
+        while (consume("||")) {
+            RuleNode l = left;
+            RuleNode r = parseAnd();
+            left = variables -> l.test(variables) || r.test(variables);
+        }
+        return left;
+    }
+
+    private RuleNode parseAnd() {
+        RuleNode left = parseUnary();
+        while (consume("&&")) {
+            RuleNode l = left;
+            RuleNode r = parseUnary();
+            left = variables -> l.test(variables) && r.test(variables);
+        }
+        return left;
+    }
+
+    private RuleNode parseUnary() {
+        skipWhitespace();
+        if (peek() == '!' && peek(1) != '=') {
+            position++;
+            RuleNode operand = parseUnary();
+            return variables -> !operand.test(variables);
+        }
+        if (consume("(")) {
+            RuleNode inner = parseOr();
+            expect(")");
+            return inner;
+        }
+        return parseComparison();
+    }
+
+    private RuleNode parseComparison() {
+        Operand left = parseOperand();
+        CompareSymbolEnum symbol = parseSymbol();
+        if (symbol != null) {
+            Operand right = parseOperand();
+            return variables -> RuleValues.compare(left.value(variables), right.value(variables), symbol);
+        }
+        int mark = position;
+        String word = peekWord();
+        if ("not".equals(word)) {
+            position += word.length();
+            if (!"in".equals(peekWord())) {
+                position = mark;
+                throw error("not之后应为in");
+            }
+            position += 2;
+            RuleValues.InList list = parseList();
+            return variables -> !list.contains(left.value(variables));
+        }
+        if ("in".equals(word)) {
+            position += word.length();
+            RuleValues.InList list = parseList();
+            return variables -> list.contains(left.value(variables));
+        }
+        return variables -> Boolean.TRUE.equals(left.value(variables));
+    }
+
+    private CompareSymbolEnum parseSymbol() {
+        if (consume(">=")) {
+            return CompareSymbolEnum.GE;
+        }
+        if (consume("<=")) {
+            return CompareSymbolEnum.LE;
+        }
+        if (consume("==")) {
+            return CompareSymbolEnum.EQ;
+        }
+        if (consume("!=")) {
+            return CompareSymbolEnum.NE;
+        }
+        if (consume(">")) {
+            return CompareSymbolEnum.GT;
+        }
+        if (consume("<")) {
+            return CompareSymbolEnum.LT;
+        }
+        return null;
+    }
+
+    private Operand parseOperand() {
+        skipWhitespace();
+        char ch = peek();
+        if (ch == '\'' || ch == '"') {
+            String text = parseQuoted();
+            return variables -> text;
+        }
+        if (isNumberStart(ch)) {
+            Number number = parseNumber();
+            return variables -> number;
+        }
+        String word = peekWord();
+        if (word.isEmpty()) {
+            throw error("缺少操作数");
+        }
+        position += word.length();
+        switch (word) {
+            case "true":
+                return variables -> Boolean.TRUE;
+            case "false":
+                return variables -> Boolean.FALSE;
+            case "null":
+                return variables -> null;
+            default:
+                return variables -> variables.get(word);
+        }
+    }
+
+    private RuleValues.InList parseList() {
+        expect("(");
+        List<String> strings = new ArrayList<>();
+        List<Long> longs = new ArrayList<>();
+        List<Double> doubles = new ArrayList<>();
+        do {
+            skipWhitespace();
+            char ch = peek();
+            if (ch == '\'' || ch == '"') {
+                strings.add(parseQuoted());
+            } else if (isNumberStart(ch)) {
+                int start = position;
+                Number number = parseNumber();
+                String text = expression.substring(start, position);
+                strings.add(text);
+                strings.add(RuleValues.toBigDecimal(number).stripTrailingZeros().toPlainString());
+                if (number instanceof Long) {
+                    longs.add(number.longValue());
+                }
+                doubles.add(number.doubleValue());
+            } else {
+                String word = peekWord();
+                if (word.isEmpty()) {
+                    throw error("缺少in列表元素");
+                }
+                position += word.length();
+                strings.add(word);
+            }
+        } while (consume(","));
+        expect(")");
+        long[] longArray = new long[longs.size()];
+        for (int i = 0; i < longArray.length; i++) {
+            longArray[i] = longs.get(i);
+        }
+        double[] doubleArray = new double[doubles.size()];
+        for (int i = 0; i < doubleArray.length; i++) {
+            doubleArray[i] = doubles.get(i);
+        }
+        return new RuleValues.InList(MembershipSet.of(strings), longArray, doubleArray);
+    }
+
+    private String parseQuoted() {
+        char quote = expression.charAt(position);
+        int end = expression.indexOf(quote, position + 1);
+        if (end < 0) {
+            throw error("字符串缺少结束引号");
+        }
+        String text = expression.substring(position + 1, end);
+        position = end + 1;
+        return text;
+    }
+
+    /**
+     * 整数解析为Long,带小数点的解析为Double,超出long范围的整数解析为BigDecimal
+     */
+    private Number parseNumber() {
+        int start = position;
+        if (peek() == '-' || peek() == '+') {
+            position++;
+        }
+        while (position < expression.length()
+                && (Character.isDigit(expression.charAt(position)) || expression.charAt(position) == '.')) {
+            position++;
+        }
+        String text = expression.substring(start, position);
+        try {
+            if (text.indexOf('.') < 0) {
+                try {
+                    return Long.parseLong(text);
+                } catch (NumberFormatException overflow) {
+                    return new BigDecimal(text);
+                }
+            }
+            return Double.valueOf(text);
+        } catch (NumberFormatException e) {
+            position = start;
+            throw error("数值格式不正确: " + text);
+        }
+    }
+
+    private boolean isNumberStart(char ch) {
+        if (Character.isDigit(ch)) {
+            return true;
+        }
+        return (ch == '-' || ch == '+') && Character.isDigit(peek(1));
+    }
+
+    /**
+     * 当前位置的单词(字母、数字、下划线、点),不移动位置
+     */
+    private String peekWord() {
+        skipWhitespace();
+        int end = position;
+        while (end < expression.length()) {
+            char ch = expression.charAt(end);
+            if (!Character.isLetterOrDigit(ch) && ch != '_' && ch != '.') {
+                break;
+            }
+            end++;
+        }
+        return expression.substring(position, end);
+    }
+
+    private boolean consume(String token) {
+        skipWhitespace();
+        if (expression.startsWith(token, position)) {
+            position += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String token) {
+        if (!consume(token)) {
+            throw error("缺少 " + token);
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+
+    private char peek() {
+        return peek(0);
+    }
+
+    private char peek(int offset) {
+        int index = position + offset;
+        return index < expression.length() ? expression.charAt(index) : '\0';
+    }
+
+    private IllegalArgumentException error(String reason) {
+        return new IllegalArgumentException("规则表达式第" + (position + 1) + "个字符处" + reason + ": " + expression);
+    }
+}
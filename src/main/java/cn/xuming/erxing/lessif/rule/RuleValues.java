@@ -0,0 +1,150 @@
+package cn.xuming.erxing.lessif.rule;
+
+import cn.xuming.erxing.lessif.constant.CompareSymbolEnum;
+import cn.xuming.erxing.lessif.support.MembershipSet;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * 规则求值时的比较逻辑
+ * <p>两个整数类型按long比较,含BigDecimal/BigInteger时按BigDecimal比较,其余数值按double比较,
+ * 数值与字符串比较时字符串按BigDecimal解析,无法解析时抛出异常;
+ * 同类型的Comparable直接比较,其他情况按字符串比较。null只与null相等,不参与大小比较</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-05 20:19:08
+ */
+final class RuleValues {
+
+    private RuleValues() {
+    }
+
+    /**
+     * @throws IllegalArgumentException 数值与无法解析为数值的字符串比较
+     */
+    static boolean compare(Object left, Object right, CompareSymbolEnum symbol) {
+        if (left == null || right == null) {
+            if (symbol == CompareSymbolEnum.EQ) {
+                return left == right;
+            }
+            return symbol == CompareSymbolEnum.NE && left != right;
+        }
+        int result = compareTo(left, right);
+        switch (symbol) {
+            case EQ:
+                return result == 0;
+            case NE:
+                return result != 0;
+            case GT:
+                return result > 0;
+            case GE:
+                return result >= 0;
+            case LT:
+                return result < 0;
+            case LE:
+                return result <= 0;
+            default:
+                return false;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareTo(Object left, Object right) {
+        if (left instanceof Number && right instanceof Number) {
+            Number l = (Number) left;
+            Number r = (Number) right;
+            if (isIntegral(l) && isIntegral(r)) {
+                return Long.compare(l.longValue(), r.longValue());
+            }
+            if (isBig(l) || isBig(r)) {
+                return toBigDecimal(l).compareTo(toBigDecimal(r));
+            }
+            return Double.compare(l.doubleValue(), r.doubleValue());
+        }
+        if (left instanceof Number && right instanceof CharSequence) {
+            return toBigDecimal((Number) left).compareTo(parse((CharSequence) right, left));
+        }
+        if (left instanceof CharSequence && right instanceof Number) {
+            return parse((CharSequence) left, right).compareTo(toBigDecimal((Number) right));
+        }
+        if (left.getClass() == right.getClass() && left instanceof Comparable) {
+            return ((Comparable) left).compareTo(right);
+        }
+        return left.toString().compareTo(right.toString());
+    }
+
+    /**
+     * 与数值比较的字符串(如配置、表单中的数量)按BigDecimal解析,按字典序比较会得出"10" &lt; 9的错误结果
+     */
+    private static BigDecimal parse(CharSequence text, Object number) {
+        try {
+            return new BigDecimal(text.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("规则求值时数值" + number + "无法与非数值字符串\"" + text + "\"比较", e);
+        }
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    private static boolean isBig(Number number) {
+        return number instanceof BigDecimal || number instanceof BigInteger;
+    }
+
+    static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (isIntegral(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        return new BigDecimal(number.toString());
+    }
+
+    /**
+     * in列表:字符串走 {@link MembershipSet},整数走有序long数组二分,其他数值走有序double数组二分
+     */
+    static final class InList {
+
+        private final MembershipSet strings;
+
+        private final long[] longs;
+
+        private final double[] doubles;
+
+        InList(MembershipSet strings, long[] longs, double[] doubles) {
+            this.strings = strings;
+            this.longs = longs;
+            this.doubles = doubles;
+            Arrays.sort(longs);
+            Arrays.sort(doubles);
+        }
+
+        boolean contains(Object value) {
+            if (value == null) {
+                return false;
+            }
+            if (value instanceof String) {
+                return strings.contains((String) value);
+            }
+            if (value instanceof Number) {
+                Number number = (Number) value;
+                if (isIntegral(number)) {
+                    return Arrays.binarySearch(longs, number.longValue()) >= 0
+                            || Arrays.binarySearch(doubles, number.doubleValue()) >= 0;
+                }
+                if (number instanceof Double || number instanceof Float) {
+                    return Arrays.binarySearch(doubles, number.doubleValue()) >= 0;
+                }
+                return strings.contains(toBigDecimal(number).stripTrailingZeros().toPlainString());
+            }
+            return strings.contains(value.toString());
+        }
+    }
+}
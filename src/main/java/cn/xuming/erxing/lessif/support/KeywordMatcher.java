@@ -0,0 +1,264 @@
+package cn.xuming.erxing.lessif.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 预编译的多关键字匹配器(Aho-Corasick自动机)
+ * <p>全部关键字构建一次,之后每段文本只需从头到尾扫描一遍即可判断是否包含任意关键字,
+ * 耗时与关键字数量无关。适合用固定的敏感词、禁用词筛查自由文本</p>
+ * <pre>
+ *     private static final KeywordMatcher FORBIDDEN = KeywordMatcher.of(words);
+ *     ErrorEnum.REMARK_FORBIDDEN.containNone(remark, FORBIDDEN);
+ * </pre>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-30 20:17:35
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+
+    private final String[] keywords;
+
+    /**
+     * 每个状态的出边字符(升序)与目标状态,查找时二分
+     */
+    private final char[][] labels;
+
+    private final int[][] targets;
+
+    private final int[] failure;
+
+    /**
+     * 到达该状态时匹配到的关键字下标(自身或失败链上最近的关键字),没有为-1
+     */
+    private final int[] match;
+
+    private KeywordMatcher(String[] keywords) {
+        this.keywords = keywords;
+        Builder builder = new Builder();
+        for (int i = 0; i < keywords.length; i++) {
+            builder.add(keywords[i], i);
+        }
+        int states = builder.size();
+        this.labels = new char[states][];
+        this.targets = new int[states][];
+        this.failure = new int[states];
+        this.match = builder.outputs();
+        for (int state = 0; state < states; state++) {
+            labels[state] = builder.labels(state);
+            targets[state] = builder.targets(state);
+        }
+        buildFailureLinks();
+    }
+
+    /**
+     * 编译关键字,忽略null、空串与重复关键字
+     *
+     * @param keywords 关键字
+     * @return 匹配器
+     */
+    public static KeywordMatcher of(String... keywords) {
+        return of(keywords == null ? null : Arrays.asList(keywords));
+    }
+
+    /**
+     * 编译关键字,忽略null、空串与重复关键字
+     *
+     * @param keywords 关键字
+     * @return 匹配器
+     */
+    public static KeywordMatcher of(Collection<String> keywords) {
+        Set<String> distinct = new LinkedHashSet<>();
+        if (keywords != null) {
+            for (String keyword : keywords) {
+                if (keyword != null && !keyword.isEmpty()) {
+                    distinct.add(keyword);
+                }
+            }
+        }
+        return new KeywordMatcher(distinct.toArray(new String[0]));
+    }
+
+    /**
+     * 扫描text,返回最先出现(结束位置最靠前)的关键字
+     *
+     * @param text 待扫描文本
+     * @return 匹配到的关键字,未匹配或text为null时返回null
+     */
+    public String findFirst(String text) {
+        if (text == null || keywords.length == 0) {
+            return null;
+        }
+        int state = ROOT;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            state = next(state, text.charAt(i));
+            int index = match[state];
+            if (index >= 0) {
+                return keywords[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param text 待扫描文本
+     * @return text是否包含任意关键字
+     */
+    public boolean matches(String text) {
+        return findFirst(text) != null;
+    }
+
+    /**
+     * @return 关键字个数
+     */
+    public int size() {
+        return keywords.length;
+    }
+
+    /**
+     * @return 全部关键字
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(Arrays.asList(keywords));
+    }
+
+    private int next(int state, char ch) {
+        while (true) {
+            int target = transition(state, ch);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    private int transition(int state, char ch) {
+        char[] chars = labels[state];
+        int index = Arrays.binarySearch(chars, ch);
+        return index >= 0 ? targets[state][index] : -1;
+    }
+
+    /**
+     * 按层序计算失败链,并把失败链上的关键字合并到match
+     */
+    private void buildFailureLinks() {
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            char[] chars = labels[state];
+            int[] children = targets[state];
+            for (int i = 0; i < chars.length; i++) {
+                int child = children[i];
+                int fallback = failure[state];
+                int target;
+                while ((target = transition(fallback, chars[i])) < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target >= 0 && target != child ? target : ROOT;
+                if (match[child] < 0) {
+                    match[child] = match[failure[child]];
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 构建trie,构建完成后转为数组
+     */
+    private static final class Builder {
+
+        private final List<List<Character>> labels = new ArrayList<>();
+
+        private final List<List<Integer>> targets = new ArrayList<>();
+
+        private final List<Integer> outputs = new ArrayList<>();
+
+        private Builder() {
+            newState();
+        }
+
+        private int newState() {
+            labels.add(new ArrayList<>());
+            targets.add(new ArrayList<>());
+            outputs.add(-1);
+            return outputs.size() - 1;
+        }
+
+        private void add(String keyword, int index) {
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char ch = keyword.charAt(i);
+                List<Character> chars = labels.get(state);
+                int position = chars.indexOf(ch);
+                if (position >= 0) {
+                    state = targets.get(state).get(position);
+                } else {
+                    int created = newState();
+                    chars.add(ch);
+                    targets.get(state).add(created);
+                    state = created;
+                }
+            }
+            if (outputs.get(state) < 0) {
+                outputs.set(state, index);
+            }
+        }
+
+        private int size() {
+            return outputs.size();
+        }
+
+        private int[] outputs() {
+            int[] result = new int[outputs.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = outputs.get(i);
+            }
+            return result;
+        }
+
+        private char[] labels(int state) {
+            List<Character> chars = labels.get(state);
+            char[] result = new char[chars.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = chars.get(i);
+            }
+            Arrays.sort(result);
+            return result;
+        }
+
+        /**
+         * 与 {@link #labels(int)} 排序后的顺序一一对应
+         */
+        private int[] targets(int state) {
+            List<Character> chars = labels.get(state);
+            char[] sorted = labels(state);
+            int[] result = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                result[i] = targets.get(state).get(chars.indexOf(sorted[i]));
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(keywords);
+    }
+}
@@ -0,0 +1,158 @@
+package cn.xuming.erxing.lessif.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 预构建的不可变字符串集合,用于contain/notContain断言中固定的白名单、黑名单
+ * <p>开放寻址(线性探测)哈希表,构建时缓存每个元素的hash,查找时先比较hash再比较内容,
+ * 平均O(1),查找过程不创建任何对象。负载因子不超过0.5</p>
+ * <pre>
+ *     private static final MembershipSet ALLOWED = MembershipSet.of(codes);
+ *     ErrorEnum.CODE_NOT_ALLOWED.contain(code, ALLOWED, code);
+ * </pre>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-28 20:06:51
+ */
+public final class MembershipSet {
+
+    private static final MembershipSet EMPTY = new MembershipSet(new String[0]);
+
+    private final String[] keys;
+
+    private final int[] hashes;
+
+    private final int mask;
+
+    private final int size;
+
+    private MembershipSet(String[] elements) {
+        int capacity = tableSize(elements.length);
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        int count = 0;
+        for (String element : elements) {
+            if (element != null && insert(element)) {
+                count++;
+            }
+        }
+        this.size = count;
+    }
+
+    /**
+     * 构建集合,忽略null与重复元素
+     *
+     * @param elements 元素
+     * @return 集合
+     */
+    public static MembershipSet of(String... elements) {
+        if (elements == null || elements.length == 0) {
+            return EMPTY;
+        }
+        return new MembershipSet(elements);
+    }
+
+    /**
+     * 构建集合,忽略null与重复元素
+     *
+     * @param elements 元素
+     * @return 集合
+     */
+    public static MembershipSet of(Collection<String> elements) {
+        if (elements == null || elements.isEmpty()) {
+            return EMPTY;
+        }
+        return new MembershipSet(elements.toArray(new String[0]));
+    }
+
+    /**
+     * @param text 待查找字符串
+     * @return 是否包含text,text为null时返回false
+     */
+    public boolean contains(String text) {
+        if (text == null) {
+            return false;
+        }
+        int hash = text.hashCode();
+        for (int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+            String key = keys[i];
+            if (key == null) {
+                return false;
+            }
+            if (hashes[i] == hash && (key == text || key.equals(text))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return 元素个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return 全部元素,顺序不确定
+     */
+    public List<String> toList() {
+        List<String> list = new ArrayList<>(size);
+        for (String key : keys) {
+            if (key != null) {
+                list.add(key);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    private boolean insert(String element) {
+        int hash = element.hashCode();
+        for (int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+            String key = keys[i];
+            if (key == null) {
+                keys[i] = element;
+                hashes[i] = hash;
+                return true;
+            }
+            if (hashes[i] == hash && key.equals(element)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 混合高位,避免hash低位相同的字符串集中在相邻槽位
+     */
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 不小于元素个数2倍的2的幂,至少为2,保证总有空槽结束探测
+     */
+    private static int tableSize(int count) {
+        int capacity = 2;
+        while (capacity < count * 2 && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toList().toArray());
+    }
+}
@@ -0,0 +1,217 @@
+package cn.xuming.erxing.lessif.support;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 预编译的提示信息模板
+ * <p>枚举的message在首次使用时解析一次并缓存,之后每次格式化不再重复解析pattern</p>
+ * <p>输出与 {@link MessageFormat#format(String, Object...)} 完全一致:
+ * 仅包含<code>{0}</code>这类简单占位符且参数不是数值/日期时,直接拼接字符串;
+ * 其余情况(如<code>{0,number}</code>、<code>{0,choice,...}</code>或数值参数)交由线程内复用的 {@link MessageFormat} 处理</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-06 21:13:42
+ */
+public final class MessageTemplate {
+
+    /**
+     * 缓存上限,防止动态拼接的message撑爆缓存
+     */
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    private static final ConcurrentMap<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String pattern;
+
+    /**
+     * 简单模板的文本片段,长度为 argumentIndexes.length + 1;复杂模板为null
+     */
+    private final String[] literals;
+
+    /**
+     * 简单模板中各占位符对应的参数下标
+     */
+    private final int[] argumentIndexes;
+
+    /**
+     * 模板是否包含占位符
+     */
+    private final boolean hasArguments;
+
+    /**
+     * 拼接结果的预估长度,减少StringBuilder扩容
+     */
+    private final int estimatedLength;
+
+    private final ThreadLocal<MessageFormat> formatter;
+
+    private MessageTemplate(String pattern) {
+        this.pattern = pattern;
+        MessageFormat prototype = new MessageFormat(pattern);
+        this.hasArguments = prototype.getFormatsByArgumentIndex().length > 0;
+        this.formatter = ThreadLocal.withInitial(() -> (MessageFormat) prototype.clone());
+        Parsed parsed = parse(pattern);
+        if (parsed == null) {
+            this.literals = null;
+            this.argumentIndexes = null;
+            this.estimatedLength = pattern.length() + 16;
+        } else {
+            this.literals = parsed.literals;
+            this.argumentIndexes = parsed.argumentIndexes;
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.estimatedLength = length + argumentIndexes.length * 16;
+        }
+    }
+
+    /**
+     * 获取pattern对应的模板,同一pattern只会编译一次
+     *
+     * @param pattern {@link MessageFormat} 格式的提示信息
+     * @return 模板
+     */
+    public static MessageTemplate of(String pattern) {
+        MessageTemplate template = CACHE.get(pattern);
+        if (template != null) {
+            return template;
+        }
+        template = new MessageTemplate(pattern);
+        if (CACHE.size() < MAX_CACHE_SIZE) {
+            MessageTemplate existing = CACHE.putIfAbsent(pattern, template);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return template;
+    }
+
+    /**
+     * 等同于 {@link MessageFormat#format(String, Object...)},但pattern只解析一次
+     *
+     * @param pattern 提示信息
+     * @param args    占位符对应的参数列表
+     * @return 格式化后的提示信息
+     */
+    public static String format(String pattern, Object... args) {
+        return of(pattern).format(args);
+    }
+
+    /**
+     * 格式化提示信息
+     *
+     * @param args 占位符对应的参数列表
+     * @return 格式化后的提示信息
+     */
+    public String format(Object... args) {
+        if (literals == null) {
+            return formatter.get().format(args);
+        }
+        if (argumentIndexes.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(estimatedLength);
+        builder.append(literals[0]);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            int index = argumentIndexes[i];
+            if (args == null || index >= args.length) {
+                builder.append('{').append(index).append('}');
+            } else {
+                Object arg = args[index];
+                if (arg == null) {
+                    builder.append("null");
+                } else if (arg instanceof String) {
+                    builder.append((String) arg);
+                } else if (arg instanceof Number || arg instanceof Date) {
+                    // 数值与日期依赖Locale格式化,交由MessageFormat保证输出一致
+                    return formatter.get().format(args);
+                } else {
+                    String text = arg.toString();
+                    builder.append(text == null ? "null" : text);
+                }
+            }
+            builder.append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return 原始pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return 模板是否包含占位符,不包含时格式化结果与参数无关
+     */
+    public boolean hasArguments() {
+        return hasArguments;
+    }
+
+    /**
+     * 按 {@link MessageFormat#applyPattern(String)} 的规则拆分pattern,
+     * 只处理<code>{数字}</code>形式的占位符,遇到其他形式返回null
+     */
+    private static Parsed parse(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        StringBuilder raw = new StringBuilder(pattern.length());
+        boolean inQuote = false;
+        int length = pattern.length();
+        for (int i = 0; i < length; i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    raw.append(ch);
+                    i++;
+                } else {
+                    inQuote = !inQuote;
+                }
+            } else if (ch == '{' && !inQuote) {
+                int end = i + 1;
+                while (end < length && pattern.charAt(end) >= '0' && pattern.charAt(end) <= '9') {
+                    end++;
+                }
+                if (end == i + 1 || end >= length || pattern.charAt(end) != '}' || end - i > 10) {
+                    return null;
+                }
+                literals.add(raw.toString());
+                raw.setLength(0);
+                indexes.add(Integer.parseInt(pattern.substring(i + 1, end)));
+                i = end;
+            } else {
+                raw.append(ch);
+            }
+        }
+        literals.add(raw.toString());
+        int[] argumentIndexes = new int[indexes.size()];
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            argumentIndexes[i] = indexes.get(i);
+        }
+        return new Parsed(literals.toArray(new String[0]), argumentIndexes);
+    }
+
+    private static final class Parsed {
+
+        private final String[] literals;
+
+        private final int[] argumentIndexes;
+
+        private Parsed(String[] literals, int[] argumentIndexes) {
+            this.literals = literals;
+            this.argumentIndexes = argumentIndexes;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,215 @@
+package cn.xuming.erxing.lessif.support;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 查找数组/集合中第一个null元素的下标
+ * <p>数组和随机访问的List长度超过阈值时拆分为fork/join任务并行扫描,任一任务找到null后,
+ * 位于其后的任务立即停止;未超过阈值或无法随机访问的集合在当前线程顺序扫描</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-26 19:42:08
+ */
+public final class NullElementScanner {
+
+    /**
+     * 默认并行阈值
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
+    /**
+     * 叶子任务每扫描多少个元素检查一次是否可以提前结束
+     */
+    private static final int CHECK_INTERVAL = 1024;
+
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    private NullElementScanner() {
+    }
+
+    /**
+     * 设置并行阈值,长度超过阈值才并行扫描,每个叶子任务最多扫描阈值个元素
+     *
+     * @param threshold 阈值,不能小于 {@value #CHECK_INTERVAL}
+     */
+    public static void setParallelThreshold(int threshold) {
+        if (threshold < CHECK_INTERVAL) {
+            throw new IllegalArgumentException("threshold不能小于" + CHECK_INTERVAL);
+        }
+        parallelThreshold = threshold;
+    }
+
+    /**
+     * @return 并行阈值
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * 第一个null元素的下标
+     *
+     * @param array 待扫描数组,不能为null
+     * @return 下标,没有null元素时返回-1
+     */
+    public static int indexOfNull(Object[] array) {
+        int threshold = parallelThreshold;
+        if (array.length <= threshold) {
+            return scan(array, 0, array.length);
+        }
+        AtomicInteger first = new AtomicInteger(Integer.MAX_VALUE);
+        ForkJoinPool.commonPool().invoke(new ArrayScanTask(array, 0, array.length, threshold, first));
+        return result(first);
+    }
+
+    /**
+     * 第一个null元素的下标,随机访问的List按下标扫描,其他集合按迭代顺序计算下标
+     *
+     * @param collection 待扫描集合,不能为null
+     * @return 下标,没有null元素时返回-1
+     */
+    public static int indexOfNull(Collection<?> collection) {
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<?> list = (List<?>) collection;
+            int size = list.size();
+            int threshold = parallelThreshold;
+            if (size <= threshold) {
+                return scan(list, 0, size);
+            }
+            AtomicInteger first = new AtomicInteger(Integer.MAX_VALUE);
+            ForkJoinPool.commonPool().invoke(new ListScanTask(list, 0, size, threshold, first));
+            return result(first);
+        }
+        int index = 0;
+        for (Object o : collection) {
+            if (o == null) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    private static int result(AtomicInteger first) {
+        int index = first.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    private static int scan(Object[] array, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (array[i] == null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int scan(List<?> list, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (list.get(i) == null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 记录更小的null下标
+     */
+    private static void found(AtomicInteger first, int index) {
+        int current = first.get();
+        while (index < current && !first.compareAndSet(current, index)) {
+            current = first.get();
+        }
+    }
+
+    private abstract static class ScanTask extends RecursiveAction {
+
+        final int from;
+
+        final int to;
+
+        final int threshold;
+
+        final AtomicInteger first;
+
+        ScanTask(int from, int to, int threshold, AtomicInteger first) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.first = first;
+        }
+
+        @Override
+        protected void compute() {
+            // 前面的任务已找到null,本段不可能包含第一个null
+            if (first.get() < from) {
+                return;
+            }
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(split(from, middle), split(middle, to));
+                return;
+            }
+            for (int start = from; start < to; start += CHECK_INTERVAL) {
+                if (first.get() < start) {
+                    return;
+                }
+                int index = scanChunk(start, Math.min(start + CHECK_INTERVAL, to));
+                if (index >= 0) {
+                    found(first, index);
+                    return;
+                }
+            }
+        }
+
+        abstract ScanTask split(int from, int to);
+
+        abstract int scanChunk(int from, int to);
+    }
+
+    private static final class ArrayScanTask extends ScanTask {
+
+        private final Object[] array;
+
+        ArrayScanTask(Object[] array, int from, int to, int threshold, AtomicInteger first) {
+            super(from, to, threshold, first);
+            this.array = array;
+        }
+
+        @Override
+        ScanTask split(int from, int to) {
+            return new ArrayScanTask(array, from, to, threshold, first);
+        }
+
+        @Override
+        int scanChunk(int from, int to) {
+            return scan(array, from, to);
+        }
+    }
+
+    private static final class ListScanTask extends ScanTask {
+
+        private final List<?> list;
+
+        ListScanTask(List<?> list, int from, int to, int threshold, AtomicInteger first) {
+            super(from, to, threshold, first);
+            this.list = list;
+        }
+
+        @Override
+        ScanTask split(int from, int to) {
+            return new ListScanTask(list, from, to, threshold, first);
+        }
+
+        @Override
+        int scanChunk(int from, int to) {
+            return scan(list, from, to);
+        }
+    }
+}
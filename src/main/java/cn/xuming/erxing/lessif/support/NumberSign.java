@@ -0,0 +1,87 @@
+package cn.xuming.erxing.lessif.support;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 数值符号判断
+ * <p>每个 {@link Number} 实现类第一次出现时选定判断方式并通过 {@link ClassValue} 缓存,之后按类型直接查表,
+ * 不再逐个instanceof;未知的Number子类按 {@link Number#doubleValue()} 判断</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-03 20:12:27
+ */
+public final class NumberSign {
+
+    public static final int NEGATIVE = -1;
+
+    public static final int ZERO = 0;
+
+    public static final int POSITIVE = 1;
+
+    /**
+     * NaN既不是正数、负数,也不是0
+     */
+    public static final int NAN = 2;
+
+    private static final Signum LONG = number -> Long.signum(number.longValue());
+
+    private static final Signum DOUBLE = number -> of(number.doubleValue());
+
+    private static final Signum BIG_DECIMAL = number -> ((BigDecimal) number).signum();
+
+    private static final Signum BIG_INTEGER = number -> ((BigInteger) number).signum();
+
+    private static final ClassValue<Signum> DISPATCH = new ClassValue<Signum>() {
+        @Override
+        protected Signum computeValue(Class<?> type) {
+            if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                    || type == AtomicInteger.class || type == AtomicLong.class
+                    || type == LongAdder.class || type == LongAccumulator.class) {
+                return LONG;
+            }
+            if (BigDecimal.class.isAssignableFrom(type)) {
+                return BIG_DECIMAL;
+            }
+            if (BigInteger.class.isAssignableFrom(type)) {
+                return BIG_INTEGER;
+            }
+            return DOUBLE;
+        }
+    };
+
+    private NumberSign() {
+    }
+
+    /**
+     * @param number 数值,不能为null
+     * @return {@link #NEGATIVE}、{@link #ZERO}、{@link #POSITIVE} 或 {@link #NAN}
+     */
+    public static int of(Number number) {
+        return DISPATCH.get(number.getClass()).signum(number);
+    }
+
+    /**
+     * @param value 数值
+     * @return {@link #NEGATIVE}、{@link #ZERO}、{@link #POSITIVE} 或 {@link #NAN},-0.0视为0
+     */
+    public static int of(double value) {
+        if (value > 0) {
+            return POSITIVE;
+        }
+        if (value < 0) {
+            return NEGATIVE;
+        }
+        return value == 0 ? ZERO : NAN;
+    }
+
+    @FunctionalInterface
+    private interface Signum {
+
+        int signum(Number number);
+    }
+}
@@ -0,0 +1,29 @@
+package cn.xuming.erxing.lessif.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 字段必须为正数,支持int、long、double及任意 {@link Number},对应 {@link cn.xuming.erxing.lessif.core.ErxingExceptionAssert#isPositive(Number, Object...)},基本类型字段对应 {@link cn.xuming.erxing.lessif.core.ErxingExceptionAssert#isPositiveInt(int, Object...)} 等不装箱的方法
+ *
+ * @author : 徐铭
+ * @since: 2024-06-08 19:24:52
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ErxingPositive {
+
+    /**
+     * @return 错误码,在 {@link ErxingValidated} 声明的错误枚举中查找,未声明时从 {@link cn.xuming.erxing.lessif.core.ErxingCodeRegistry} 查找
+     */
+    String code();
+
+    /**
+     * @return message占位符对应的参数列表
+     */
+    String[] args() default {};
+}
@@ -0,0 +1,28 @@
+package cn.xuming.erxing.lessif.validation;
+
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 声明DTO中校验注解的code从哪些错误枚举中查找
+ *
+ * @author : 徐铭
+ * @since: 2024-06-08 19:20:41
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ErxingValidated {
+
+    /**
+     * @return 实现了 {@link ErxingExceptionAssert} 的错误枚举
+     */
+    Class<? extends ErxingExceptionAssert>[] value();
+}
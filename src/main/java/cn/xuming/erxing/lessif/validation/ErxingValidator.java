@@ -0,0 +1,94 @@
+package cn.xuming.erxing.lessif.validation;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 注解驱动的DTO校验
+ * <p>DTO类上用 {@link ErxingValidated} 声明错误枚举,字段上用 {@link ErxingNotNull}、{@link ErxingNotEmpty}、
+ * {@link ErxingPositive} 指定错误码:</p>
+ * <pre>
+ *     &#64;ErxingValidated(ErrorEnum.class)
+ *     public class OrderDTO {
+ *         &#64;ErxingNotNull(code = "E10001")
+ *         private Long id;
+ *         &#64;ErxingNotEmpty(code = "E10002", args = "名称")
+ *         private String name;
+ *     }
+ *
+ *     ErxingValidator.validate(dto);
+ * </pre>
+ * <p>每个DTO类第一次校验时生成校验方法并通过 {@link ClassValue} 缓存,之后直接调用断言方法,不再反射;
+ * 注解配置错误(类型不支持、错误码不存在)在生成时抛出 {@link IllegalStateException}。
+ * 断言不通过的行为与直接调用断言方法一致,在 {@link cn.xuming.erxing.lessif.core.ErxingValidationContext} 中同样只记录失败</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-08 20:15:33
+ */
+public final class ErxingValidator {
+
+    private static final ClassValue<ErxingValidator> VALIDATORS = new ClassValue<ErxingValidator>() {
+        @Override
+        protected ErxingValidator computeValue(Class<?> type) {
+            return new ErxingValidator(type, ValidatorFactory.create(type));
+        }
+    };
+
+    private final Class<?> type;
+
+    /**
+     * <code>(Object)void</code>
+     */
+    private final MethodHandle handle;
+
+    private ErxingValidator(Class<?> type, MethodHandle handle) {
+        this.type = type;
+        this.handle = handle;
+    }
+
+    /**
+     * 获取DTO类对应的校验器,同一个类只生成一次
+     *
+     * @param type DTO类
+     * @return 校验器
+     */
+    public static ErxingValidator of(Class<?> type) {
+        return VALIDATORS.get(type);
+    }
+
+    /**
+     * 按dto字段上的注解校验
+     *
+     * @param dto 待校验对象,不能为null
+     */
+    public static void validate(Object dto) {
+        if (dto == null) {
+            throw new IllegalArgumentException("待校验对象不能为空");
+        }
+        VALIDATORS.get(dto.getClass()).check(dto);
+    }
+
+    /**
+     * 校验dto
+     *
+     * @param dto 待校验对象,类型必须为 {@link #getType()}
+     */
+    public void check(Object dto) {
+        if (dto == null || dto.getClass() != type) {
+            throw new IllegalArgumentException("待校验对象类型应为 " + type.getName());
+        }
+        try {
+            handle.invokeExact(dto);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return DTO类
+     */
+    public Class<?> getType() {
+        return type;
+    }
+}
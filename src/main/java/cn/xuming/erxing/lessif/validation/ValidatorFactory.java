@@ -0,0 +1,213 @@
+package cn.xuming.erxing.lessif.validation;
+
+import cn.xuming.erxing.lessif.core.ErxingCodeRegistry;
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按DTO上的校验注解生成校验方法
+ * <p>每个字段的校验为"读取字段 → 调用错误枚举的断言方法",错误枚举与message参数在生成时绑定为常量,
+ * 所有字段的校验按声明顺序(父类字段在前)串联为一个 <code>(Object)void</code> 的 {@link MethodHandle},
+ * 校验时不再读取注解也不再反射</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-08 19:41:16
+ */
+final class ValidatorFactory {
+
+    /**
+     * 固定参数的断言重载最多支持3个message参数,更多时使用不定参重载
+     */
+    private static final int MAX_FIXED_ARGS = 3;
+
+    private static final MethodHandle NOOP;
+
+    static {
+        try {
+            NOOP = MethodHandles.lookup().findStatic(ValidatorFactory.class, "noop",
+                    MethodType.methodType(void.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ValidatorFactory() {
+    }
+
+    static MethodHandle create(Class<?> type) {
+        List<MethodHandle> checks = new ArrayList<>();
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c);
+        }
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                for (Annotation annotation : field.getDeclaredAnnotations()) {
+                    MethodHandle check = fieldCheck(type, field, annotation);
+                    if (check != null) {
+                        checks.add(check);
+                    }
+                }
+            }
+        }
+        MethodHandle chain = NOOP;
+        for (int i = checks.size() - 1; i >= 0; i--) {
+            chain = MethodHandles.foldArguments(chain, checks.get(i));
+        }
+        return chain;
+    }
+
+    private static MethodHandle fieldCheck(Class<?> type, Field field, Annotation annotation) {
+        String method;
+        String code;
+        String[] args;
+        Class<?> parameterType;
+        if (annotation instanceof ErxingNotNull) {
+            ErxingNotNull notNull = (ErxingNotNull) annotation;
+            method = "isNotNull";
+            code = notNull.code();
+            args = notNull.args();
+            parameterType = field.getType().isPrimitive() ? null : Object.class;
+        } else if (annotation instanceof ErxingNotEmpty) {
+            ErxingNotEmpty notEmpty = (ErxingNotEmpty) annotation;
+            method = "isNotEmpty";
+            code = notEmpty.code();
+            args = notEmpty.args();
+            parameterType = notEmptyType(field.getType());
+        } else if (annotation instanceof ErxingPositive) {
+            ErxingPositive positive = (ErxingPositive) annotation;
+            code = positive.code();
+            args = positive.args();
+            parameterType = positiveType(field.getType());
+            method = positiveMethod(parameterType);
+        } else {
+            return null;
+        }
+        if (parameterType == null) {
+            throw new IllegalStateException(field + " 的类型不支持 @" + annotation.annotationType().getSimpleName());
+        }
+        ErxingExceptionAssert error = resolve(type, code, field);
+        try {
+            MethodHandle assertion = assertion(method, parameterType, error, args);
+            field.setAccessible(true);
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field)
+                    .asType(MethodType.methodType(parameterType, Object.class));
+            return MethodHandles.filterArguments(assertion, 0, getter);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("无法生成 " + field + " 的校验方法", e);
+        }
+    }
+
+    /**
+     * 错误枚举绑定为接收者,message参数绑定为常量,得到 <code>(parameterType)void</code>
+     */
+    private static MethodHandle assertion(String method, Class<?> parameterType, ErxingExceptionAssert error,
+                                          String[] args) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle handle;
+        if (args.length <= MAX_FIXED_ARGS) {
+            Class<?>[] parameters = new Class<?>[args.length + 1];
+            parameters[0] = parameterType;
+            for (int i = 1; i < parameters.length; i++) {
+                parameters[i] = Object.class;
+            }
+            handle = lookup.findVirtual(ErxingExceptionAssert.class, method, MethodType.methodType(void.class, parameters));
+            handle = MethodHandles.insertArguments(handle.bindTo(error), 1, (Object[]) args);
+        } else {
+            handle = lookup.findVirtual(ErxingExceptionAssert.class, method,
+                    MethodType.methodType(void.class, parameterType, Object[].class)).asFixedArity();
+            handle = MethodHandles.insertArguments(handle.bindTo(error), 1, (Object) args.clone());
+        }
+        return handle;
+    }
+
+    private static Class<?> notEmptyType(Class<?> fieldType) {
+        if (fieldType == String.class) {
+            return String.class;
+        }
+        if (fieldType.isArray() && !fieldType.getComponentType().isPrimitive()) {
+            return Object[].class;
+        }
+        if (Collection.class.isAssignableFrom(fieldType)) {
+            return Collection.class;
+        }
+        if (Map.class.isAssignableFrom(fieldType)) {
+            return Map.class;
+        }
+        return null;
+    }
+
+    /**
+     * 基本类型按int、long、double拓宽后使用不装箱的断言方法,其余数值类型按 {@link Number} 处理
+     */
+    private static Class<?> positiveType(Class<?> fieldType) {
+        if (fieldType == int.class || fieldType == short.class || fieldType == byte.class) {
+            return int.class;
+        }
+        if (fieldType == long.class) {
+            return long.class;
+        }
+        if (fieldType == double.class || fieldType == float.class) {
+            return double.class;
+        }
+        if (fieldType.isPrimitive()) {
+            return null;
+        }
+        return Number.class.isAssignableFrom(fieldType) ? Number.class : null;
+    }
+
+    private static String positiveMethod(Class<?> parameterType) {
+        if (parameterType == int.class) {
+            return "isPositiveInt";
+        }
+        if (parameterType == long.class) {
+            return "isPositiveLong";
+        }
+        if (parameterType == double.class) {
+            return "isPositiveDouble";
+        }
+        return "isPositive";
+    }
+
+    /**
+     * 优先在 {@link ErxingValidated} 声明的错误枚举中查找,未声明时从 {@link ErxingCodeRegistry} 查找
+     */
+    private static ErxingExceptionAssert resolve(Class<?> type, String code, Field field) {
+        ErxingValidated validated = type.getAnnotation(ErxingValidated.class);
+        if (validated == null) {
+            Object registered = ErxingCodeRegistry.get(code);
+            if (registered instanceof ErxingExceptionAssert) {
+                return (ErxingExceptionAssert) registered;
+            }
+            throw new IllegalStateException(field + " 的错误码 " + code + " 未注册,且 " + type.getName() + " 缺少 @ErxingValidated");
+        }
+        for (Class<? extends ErxingExceptionAssert> errors : validated.value()) {
+            ErxingExceptionAssert[] constants = errors.getEnumConstants();
+            if (constants == null) {
+                continue;
+            }
+            for (ErxingExceptionAssert constant : constants) {
+                if (code.equals(constant.getCode())) {
+                    return constant;
+                }
+            }
+        }
+        throw new IllegalStateException(field + " 的错误码 " + code + " 不存在");
+    }
+
+    private static void noop(Object dto) {
+    }
+}
@@ -0,0 +1,222 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.constant.OverflowPolicyEnum;
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * 异步输出警告日志
+ * <p>开启后,警告先写入有界无锁环形队列,由后台守护线程拼接警告信息并输出,请求线程不再竞争日志Handler的锁。
+ * 队列满时按 {@link OverflowPolicyEnum} 丢弃或阻塞;JVM关闭时输出队列中剩余的警告</p>
+ * <pre>
+ *     AsyncWarningWriter.enable(8192, OverflowPolicyEnum.DROP);
+ * </pre>
+ * <p>注意:警告信息在后台线程中拼接,args在断言之后不应再被修改</p>
+ * <p>sink输出时抛出的异常通过JUL({@link ErxingWarningAssert#logger})报告并计数,后台线程继续输出后续警告</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-18 20:15:33
+ */
+public final class AsyncWarningWriter {
+
+    /**
+     * 队列为空时后台线程的休眠时间
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final long STOP_TIMEOUT_MILLIS = 5000L;
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    private static final LongAdder FAILED = new LongAdder();
+
+    private static volatile AsyncWarningWriter current;
+
+    private static Thread shutdownHook;
+
+    private final WarningRingBuffer buffer;
+
+    private final OverflowPolicyEnum overflowPolicy;
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    /**
+     * 后台线程已输出完剩余警告并退出,之后由入队的请求线程自行输出,读写都在this锁内
+     */
+    private boolean finished;
+
+    private AsyncWarningWriter(int capacity, OverflowPolicyEnum overflowPolicy) {
+        this.buffer = new WarningRingBuffer(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.worker = new Thread(this::drainLoop, "erxing-async-warning");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * 开启异步输出,已开启时先关闭原队列(输出剩余警告)再按新参数开启
+     *
+     * @param capacity       队列容量,向上取整为2的幂
+     * @param overflowPolicy 队列满时的处理方式
+     */
+    public static synchronized void enable(int capacity, OverflowPolicyEnum overflowPolicy) {
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("overflowPolicy不能为空");
+        }
+        AsyncWarningWriter writer = new AsyncWarningWriter(capacity, overflowPolicy);
+        disable();
+        writer.worker.start();
+        current = writer;
+        if (shutdownHook == null) {
+            shutdownHook = new Thread(AsyncWarningWriter::disable, "erxing-async-warning-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    /**
+     * 关闭异步输出,输出队列中剩余的警告后恢复为同步输出
+     */
+    public static synchronized void disable() {
+        AsyncWarningWriter writer = current;
+        if (writer == null) {
+            return;
+        }
+        current = null;
+        writer.stop();
+    }
+
+    /**
+     * @return 是否已开启异步输出
+     */
+    public static boolean isEnabled() {
+        return current != null;
+    }
+
+    /**
+     * 等待队列中已有的警告输出完毕
+     *
+     * @param timeout 最长等待时间
+     * @param unit    时间单位
+     * @return true已输出完毕, false超时
+     */
+    public static boolean flush(long timeout, TimeUnit unit) {
+        AsyncWarningWriter writer = current;
+        if (writer == null) {
+            return true;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (writer.buffer.size() > 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.unpark(writer.worker);
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * @return 队列满时丢弃的警告数量
+     */
+    public static long getDroppedCount() {
+        return DROPPED.sum();
+    }
+
+    /**
+     * @return sink输出时抛出异常的警告数量
+     */
+    public static long getFailedCount() {
+        return FAILED.sum();
+    }
+
+    /**
+     * 提交警告
+     *
+     * @return false未开启异步输出,由调用方同步输出
+     */
+    static boolean submit(ErxingWarningAssert warning, Object[] args) {
+        AsyncWarningWriter writer = current;
+        return writer != null && writer.offer(warning, args);
+    }
+
+    private boolean offer(ErxingWarningAssert warning, Object[] args) {
+        while (!buffer.offer(warning, args)) {
+            if (!running) {
+                return false;
+            }
+            if (overflowPolicy == OverflowPolicyEnum.DROP) {
+                DROPPED.increment();
+                return true;
+            }
+            LockSupport.unpark(worker);
+            Thread.yield();
+        }
+        if (!running) {
+            drainAfterStop();
+        }
+        return true;
+    }
+
+    /**
+     * 关闭时读取current早于disable()的请求线程可能在后台线程最后一次输出之后才入队,
+     * 此时由请求线程在锁内输出,后台线程未退出时留给它的最后一次输出
+     */
+    private void drainAfterStop() {
+        synchronized (this) {
+            if (finished) {
+                drainRemaining();
+            }
+        }
+    }
+
+    private void drainRemaining() {
+        while (buffer.poll(AsyncWarningWriter::write)) {
+            // 输出剩余警告
+        }
+    }
+
+    private void drainLoop() {
+        WarningRingBuffer.Consumer consumer = AsyncWarningWriter::write;
+        while (running) {
+            if (!buffer.poll(consumer)) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        synchronized (this) {
+            finished = true;
+            // 关闭前输出剩余警告
+            drainRemaining();
+        }
+    }
+
+    /**
+     * 输出一条警告,sink抛出的异常不能终止后台线程,否则BLOCK策略下请求线程会一直等待
+     */
+    private static void write(ErxingWarningAssert warning, Object[] args) {
+        try {
+            WarningDispatcher.write(warning, args);
+        } catch (Throwable t) {
+            FAILED.increment();
+            try {
+                ErxingWarningAssert.logger.log(Level.SEVERE, "警告" + warning.getCode() + "输出失败", t);
+            } catch (Throwable ignored) {
+                // JUL同样失败时只计数
+            }
+        }
+    }
+
+    private void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
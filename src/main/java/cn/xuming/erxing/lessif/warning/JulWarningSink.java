@@ -0,0 +1,32 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+
+import java.util.logging.Level;
+
+/**
+ * 通过 {@link ErxingWarningAssert#logger} 输出警告,与之前版本行为一致,为默认的sink
+ *
+ * @author : 徐铭
+ * @since: 2024-05-22 20:16:37
+ */
+public class JulWarningSink implements WarningSink {
+
+    public static final String NAME = "jul";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ErxingWarningAssert.logger.isLoggable(Level.WARNING);
+    }
+
+    @Override
+    public void warn(String code, MessageTemplate template, Object[] args) {
+        ErxingWarningAssert.logger.warning(template.format(args));
+    }
+}
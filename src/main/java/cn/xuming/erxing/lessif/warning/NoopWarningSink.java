@@ -0,0 +1,29 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+
+/**
+ * 不输出任何警告,断言与计数照常进行
+ *
+ * @author : 徐铭
+ * @since: 2024-05-22 20:24:09
+ */
+public class NoopWarningSink implements WarningSink {
+
+    public static final String NAME = "noop";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void warn(String code, MessageTemplate template, Object[] args) {
+        // 不输出
+    }
+}
@@ -0,0 +1,36 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 直接通过SLF4J输出警告,不再经过JUL桥接。logger名称与 {@link ErxingWarningAssert#logger} 相同
+ *
+ * @author : 徐铭
+ * @since: 2024-05-22 20:21:52
+ */
+public class Slf4jWarningSink implements WarningSink {
+
+    public static final String NAME = "slf4j";
+
+    private final Logger logger = LoggerFactory.getLogger(ErxingWarningAssert.class);
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return logger.isWarnEnabled();
+    }
+
+    @Override
+    public void warn(String code, MessageTemplate template, Object[] args) {
+        if (logger.isWarnEnabled()) {
+            logger.warn(template.format(args));
+        }
+    }
+}
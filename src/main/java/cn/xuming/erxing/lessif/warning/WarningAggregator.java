@@ -0,0 +1,291 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 重复警告的窗口去重与采样
+ * <p>开启聚合后,同一警告码(或同一警告码+同一组参数)在一个时间窗口内只输出第一次,
+ * 窗口结束后输出一行汇总,例如 <code>W10002 suppressed 41,233 times in 60s</code></p>
+ * <p>采样按警告码配置,每N次只输出1次,可单独使用,也可与聚合同时使用。计数({@link cn.xuming.erxing.lessif.metrics.ErxingMetrics})不受影响</p>
+ * <pre>
+ *     WarningAggregator.enable(60, TimeUnit.SECONDS, false);
+ *     WarningAggregator.setSampleRate("W10002", 100);
+ * </pre>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-20 20:31:05
+ */
+public final class WarningAggregator {
+
+    /**
+     * 按参数区分时最多跟踪的参数组合数,超出后按警告码聚合
+     */
+    private static final int MAX_ARGUMENT_KEYS = 10000;
+
+    private static final ConcurrentMap<String, Sampler> SAMPLERS = new ConcurrentHashMap<>();
+
+    private static volatile Aggregation aggregation;
+
+    private WarningAggregator() {
+    }
+
+    /**
+     * 开启窗口聚合,已开启时先输出原窗口的汇总再按新参数开启
+     *
+     * @param window       窗口长度
+     * @param unit         时间单位
+     * @param perArguments true同一警告码的不同参数分别聚合, false只按警告码聚合
+     */
+    public static synchronized void enable(long window, TimeUnit unit, boolean perArguments) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window必须大于0");
+        }
+        Aggregation created = new Aggregation(unit.toNanos(window), perArguments);
+        disable();
+        aggregation = created;
+        created.start();
+    }
+
+    /**
+     * 关闭窗口聚合,输出所有窗口中被抑制警告的汇总
+     */
+    public static synchronized void disable() {
+        Aggregation current = aggregation;
+        if (current == null) {
+            return;
+        }
+        aggregation = null;
+        current.stop();
+    }
+
+    /**
+     * @return 是否已开启窗口聚合
+     */
+    public static boolean isEnabled() {
+        return aggregation != null;
+    }
+
+    /**
+     * 设置警告码的采样率
+     *
+     * @param code 警告码
+     * @param rate 每rate次输出1次,小于等于1时取消采样
+     */
+    public static void setSampleRate(String code, int rate) {
+        if (rate <= 1) {
+            SAMPLERS.remove(code);
+        } else {
+            SAMPLERS.put(code, new Sampler(rate));
+        }
+    }
+
+    /**
+     * 取消全部采样配置
+     */
+    public static void clearSampleRates() {
+        SAMPLERS.clear();
+    }
+
+    /**
+     * 判断本次警告是否需要输出
+     *
+     * @return false已被采样或窗口聚合抑制
+     */
+    static boolean admit(ErxingWarningAssert warning, Object[] args) {
+        if (!SAMPLERS.isEmpty()) {
+            Sampler sampler = SAMPLERS.get(warning.getCode());
+            if (sampler != null && !sampler.sample()) {
+                return false;
+            }
+        }
+        Aggregation current = aggregation;
+        return current == null || current.admit(warning, args);
+    }
+
+    private static final class Sampler {
+
+        private final int rate;
+
+        private final AtomicLong counter = new AtomicLong();
+
+        private Sampler(int rate) {
+            this.rate = rate;
+        }
+
+        private boolean sample() {
+            return counter.getAndIncrement() % rate == 0;
+        }
+    }
+
+    private static final class Aggregation {
+
+        private final long windowNanos;
+
+        private final boolean perArguments;
+
+        private final ConcurrentMap<Object, Window> windows = new ConcurrentHashMap<>();
+
+        private final ScheduledExecutorService sweeper;
+
+        private Aggregation(long windowNanos, boolean perArguments) {
+            this.windowNanos = windowNanos;
+            this.perArguments = perArguments;
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "erxing-warning-aggregator");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private void start() {
+            // 窗口结束后即使不再出现同一警告也要输出汇总
+            sweeper.scheduleWithFixedDelay(this::sweep, windowNanos, windowNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void stop() {
+            sweeper.shutdownNow();
+            for (Window window : windows.values()) {
+                long suppressed = window.suppressed.sumThenReset();
+                if (suppressed > 0) {
+                    WarningDispatcher.writeSummary(window.warning, suppressed, System.nanoTime() - window.start);
+                }
+            }
+            windows.clear();
+        }
+
+        private boolean admit(ErxingWarningAssert warning, Object[] args) {
+            long now = System.nanoTime();
+            Object key = key(warning, args);
+            Window window = windows.get(key);
+            if (window == null) {
+                if (key instanceof ArgumentsKey) {
+                    // 参数组合过多时退化为按警告码聚合
+                    key = windows.size() < MAX_ARGUMENT_KEYS ? ((ArgumentsKey) key).copy() : warning;
+                }
+                window = windows.putIfAbsent(key, new Window(warning, now));
+                if (window == null) {
+                    return true;
+                }
+            }
+            return admit(window, now);
+        }
+
+        private boolean admit(Window window, long now) {
+            long start = window.start;
+            if (now - start >= windowNanos && window.roll(start, now)) {
+                long suppressed = window.suppressed.sumThenReset();
+                if (suppressed > 0) {
+                    WarningDispatcher.writeSummary(window.warning, suppressed, now - start);
+                }
+                return true;
+            }
+            window.suppressed.increment();
+            return false;
+        }
+
+        private Object key(ErxingWarningAssert warning, Object[] args) {
+            if (!perArguments || args == null || args.length == 0) {
+                return warning;
+            }
+            return new ArgumentsKey(warning, args);
+        }
+
+        private void sweep() {
+            long now = System.nanoTime();
+            Iterator<Map.Entry<Object, Window>> iterator = windows.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Window window = iterator.next().getValue();
+                long start = window.start;
+                if (now - start < windowNanos) {
+                    continue;
+                }
+                long suppressed = window.suppressed.sumThenReset();
+                if (suppressed > 0) {
+                    if (window.roll(start, now)) {
+                        WarningDispatcher.writeSummary(window.warning, suppressed, now - start);
+                    } else {
+                        window.suppressed.add(suppressed);
+                    }
+                } else {
+                    // 整个窗口内没有被抑制的警告,移除后下一次出现时直接输出
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private static final class Window {
+
+        private static final AtomicLongFieldUpdater<Window> START =
+                AtomicLongFieldUpdater.newUpdater(Window.class, "start");
+
+        private final ErxingWarningAssert warning;
+
+        private final LongAdder suppressed = new LongAdder();
+
+        private volatile long start;
+
+        private Window(ErxingWarningAssert warning, long start) {
+            this.warning = warning;
+            this.start = start;
+        }
+
+        /**
+         * 开启新窗口,并发时只有一个线程成功
+         */
+        private boolean roll(long expected, long now) {
+            return START.compareAndSet(this, expected, now);
+        }
+    }
+
+    private static final class ArgumentsKey {
+
+        private final ErxingWarningAssert warning;
+
+        private final Object[] args;
+
+        private final int hash;
+
+        private ArgumentsKey(ErxingWarningAssert warning, Object[] args) {
+            this.warning = warning;
+            this.args = args;
+            this.hash = 31 * warning.hashCode() + Arrays.hashCode(args);
+        }
+
+        /**
+         * 放入map的key复制参数数组,避免调用方之后修改数组
+         */
+        private ArgumentsKey copy() {
+            return new ArgumentsKey(warning, args.clone());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ArgumentsKey)) {
+                return false;
+            }
+            ArgumentsKey other = (ArgumentsKey) o;
+            return warning == other.warning && hash == other.hash && Arrays.equals(args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 警告输出入口,经 {@link WarningAggregator} 去重采样后同步输出或交给 {@link AsyncWarningWriter} 异步输出,
+ * 最终由 {@link WarningSinks#get()} 选出的 {@link WarningSink} 输出
+ *
+ * @author : 徐铭
+ * @since: 2024-05-18 20:02:17
+ */
+public final class WarningDispatcher {
+
+    private static final String SUMMARY_FORMAT = "%s suppressed %,d times in %ds";
+
+    private static final MessageTemplate SUMMARY_TEMPLATE = MessageTemplate.of("{0}");
+
+    private WarningDispatcher() {
+    }
+
+    /**
+     * 输出一条验证不通过的警告
+     *
+     * @param warning 警告枚举
+     * @param args    message占位符对应的参数列表
+     */
+    public static void dispatch(ErxingWarningAssert warning, Object[] args) {
+        if (!WarningSinks.get().isEnabled() || !WarningAggregator.admit(warning, args)) {
+            return;
+        }
+        if (!AsyncWarningWriter.submit(warning, args)) {
+            write(warning, args);
+        }
+    }
+
+    /**
+     * 交给sink输出,格式化由sink决定
+     */
+    static void write(ErxingWarningAssert warning, Object[] args) {
+        WarningSinks.get().warn(warning.getCode(), MessageTemplate.of(warning.getMessage()), args);
+    }
+
+    /**
+     * 输出窗口聚合的汇总,如 <code>W10002 suppressed 41,233 times in 60s</code>
+     *
+     * @param warning      警告枚举
+     * @param suppressed   窗口内被抑制的次数
+     * @param elapsedNanos 窗口实际时长
+     */
+    static void writeSummary(ErxingWarningAssert warning, long suppressed, long elapsedNanos) {
+        WarningSink sink = WarningSinks.get();
+        if (sink.isEnabled()) {
+            String summary = String.format(Locale.ROOT, SUMMARY_FORMAT,
+                    warning.getCode(), suppressed, TimeUnit.NANOSECONDS.toSeconds(elapsedNanos));
+            sink.warn(warning.getCode(), SUMMARY_TEMPLATE, new Object[]{summary});
+        }
+    }
+}
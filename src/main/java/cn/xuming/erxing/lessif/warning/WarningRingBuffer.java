@@ -0,0 +1,116 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 有界无锁环形队列,多生产者单消费者
+ * <p>每个槽位带序号(Vyukov bounded queue):生产者CAS抢占写入位置,写完后发布序号;消费者按序号判断槽位是否可读。
+ * 入队只写两个数组元素,不创建任何对象</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-18 19:52:40
+ */
+final class WarningRingBuffer {
+
+    private final int mask;
+
+    private final AtomicLongArray sequences;
+
+    private final ErxingWarningAssert[] warnings;
+
+    private final Object[][] arguments;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 仅消费者线程写入
+     */
+    private volatile long head;
+
+    WarningRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity必须大于1");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.warnings = new ErxingWarningAssert[size];
+        this.arguments = new Object[size][];
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 入队
+     *
+     * @return false队列已满
+     */
+    boolean offer(ErxingWarningAssert warning, Object[] args) {
+        long position = tail.get();
+        for (; ; ) {
+            long sequence = sequences.get((int) position & mask);
+            long difference = sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+        int slot = (int) position & mask;
+        warnings[slot] = warning;
+        arguments[slot] = args;
+        sequences.lazySet(slot, position + 1);
+        return true;
+    }
+
+    /**
+     * 出队,仅消费者线程调用
+     *
+     * @param consumer 警告处理
+     * @return false队列为空
+     */
+    boolean poll(Consumer consumer) {
+        long position = head;
+        int slot = (int) position & mask;
+        if (sequences.get(slot) != position + 1) {
+            return false;
+        }
+        ErxingWarningAssert warning = warnings[slot];
+        Object[] args = arguments[slot];
+        warnings[slot] = null;
+        arguments[slot] = null;
+        sequences.lazySet(slot, position + mask + 1);
+        try {
+            consumer.accept(warning, args);
+        } finally {
+            // 处理完成后再推进,flush据此判断警告已输出
+            head = position + 1;
+        }
+        return true;
+    }
+
+    /**
+     * @return 已入队未消费的近似数量
+     */
+    long size() {
+        return Math.max(0L, tail.get() - head);
+    }
+
+    interface Consumer {
+
+        void accept(ErxingWarningAssert warning, Object[] args);
+    }
+}
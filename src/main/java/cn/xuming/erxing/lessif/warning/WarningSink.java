@@ -0,0 +1,38 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+
+/**
+ * 警告输出SPI
+ * <p>实现类通过 {@link java.util.ServiceLoader} 发现(在<code>META-INF/services/cn.xuming.erxing.lessif.warning.WarningSink</code>中声明),
+ * 由 {@link WarningSinks} 选择其中一个使用。内置 {@link Slf4jWarningSink}、{@link JulWarningSink}、{@link NoopWarningSink}</p>
+ * <p>sink拿到的是模板与原始参数,可以在级别关闭时跳过格式化,或交给日志框架延迟格式化</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-22 20:08:14
+ */
+public interface WarningSink {
+
+    /**
+     * 名称,可通过系统属性 {@value WarningSinks#SINK_PROPERTY} 指定
+     *
+     * @return 名称
+     */
+    String name();
+
+    /**
+     * 返回false时不再格式化与输出警告
+     *
+     * @return 是否输出警告
+     */
+    boolean isEnabled();
+
+    /**
+     * 输出警告
+     *
+     * @param code     警告码
+     * @param template 警告信息模板
+     * @param args     模板占位符对应的参数列表,可能为null
+     */
+    void warn(String code, MessageTemplate template, Object[] args);
+}
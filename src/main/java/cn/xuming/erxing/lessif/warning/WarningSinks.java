@@ -0,0 +1,106 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+
+/**
+ * 选择警告输出使用的 {@link WarningSink}
+ * <p>选择顺序:</p>
+ * <ol>
+ *     <li>{@link #set(WarningSink)} 手动指定</li>
+ *     <li>系统属性 {@value #SINK_PROPERTY},值为sink名称(slf4j、jul、noop)或实现类全名;
+ *     找不到(如指定slf4j但SLF4J不在classpath中)时通过 {@link ErxingWarningAssert#logger} 报告一次并使用 {@link JulWarningSink}</li>
+ *     <li>{@link ServiceLoader} 发现的第一个非内置实现</li>
+ *     <li>{@link JulWarningSink}</li>
+ * </ol>
+ *
+ * @author : 徐铭
+ * @since: 2024-05-22 20:33:46
+ */
+public final class WarningSinks {
+
+    public static final String SINK_PROPERTY = "erxing.warning.sink";
+
+    private static volatile WarningSink current;
+
+    private WarningSinks() {
+    }
+
+    /**
+     * @return 当前使用的sink
+     */
+    public static WarningSink get() {
+        WarningSink sink = current;
+        if (sink == null) {
+            synchronized (WarningSinks.class) {
+                sink = current;
+                if (sink == null) {
+                    sink = resolve();
+                    current = sink;
+                }
+            }
+        }
+        return sink;
+    }
+
+    /**
+     * 手动指定sink
+     *
+     * @param sink sink,为null时重新按默认顺序选择
+     */
+    public static void set(WarningSink sink) {
+        current = sink;
+    }
+
+    /**
+     * @return {@link ServiceLoader} 发现的全部sink,无法加载的实现(如缺少SLF4J)会被跳过
+     */
+    public static List<WarningSink> available() {
+        List<WarningSink> sinks = new ArrayList<>();
+        Iterator<WarningSink> iterator = ServiceLoader.load(WarningSink.class, WarningSinks.class.getClassLoader()).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                sinks.add(iterator.next());
+            } catch (ServiceConfigurationError | LinkageError ignored) {
+                // 依赖不在classpath中
+            }
+        }
+        return Collections.unmodifiableList(sinks);
+    }
+
+    private static WarningSink resolve() {
+        List<WarningSink> sinks = available();
+        String configured = System.getProperty(SINK_PROPERTY);
+        if (configured != null && !configured.trim().isEmpty()) {
+            String name = configured.trim();
+            for (WarningSink sink : sinks) {
+                if (sink.name().equalsIgnoreCase(name) || sink.getClass().getName().equals(name)) {
+                    return sink;
+                }
+            }
+            // 配置错误不能让验证不通过的警告断言抛出异常,报告后退回JUL,结果由get()缓存,不再重复查找
+            ErxingWarningAssert.logger.log(Level.WARNING, "未找到警告输出sink: " + name + ",使用jul输出警告");
+            return new JulWarningSink();
+        }
+        for (WarningSink sink : sinks) {
+            if (!isBuiltIn(sink)) {
+                return sink;
+            }
+        }
+        return new JulWarningSink();
+    }
+
+    private static boolean isBuiltIn(WarningSink sink) {
+        return sink instanceof JulWarningSink || sink instanceof Slf4jWarningSink || sink instanceof NoopWarningSink;
+    }
+}
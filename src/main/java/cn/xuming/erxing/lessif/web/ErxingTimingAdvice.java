@@ -0,0 +1,65 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.R;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 输出前为 {@link R} 填充timestamp和elapsedMillis,替代README中旧版的AOP代码
+ * <p>controller与 {@link org.springframework.web.bind.annotation.ExceptionHandler} 返回的 {@link R} 均会填充;
+ * 开始时间由 {@link ErxingTimingInterceptor} 记录,请求未经过拦截器时只填充timestamp</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-16 20:06:48
+ */
+@ControllerAdvice
+public class ErxingTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean legacyElapsed;
+
+    /**
+     * @param legacyElapsed 是否同时填充文字形式的elapsed
+     */
+    public ErxingTimingAdvice(boolean legacyElapsed) {
+        this.legacyElapsed = legacyElapsed;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof R) {
+            fill((R<?>) body, request);
+        }
+        return body;
+    }
+
+    private void fill(R<?> r, ServerHttpRequest request) {
+        r.setTimestamp(LocalDateTime.now());
+        if (!(request instanceof ServletServerHttpRequest)) {
+            return;
+        }
+        Object start = ((ServletServerHttpRequest) request).getServletRequest().getAttribute(ErxingTimingInterceptor.START_ATTRIBUTE);
+        if (start instanceof Long) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) start);
+            r.setElapsedMillis(millis);
+            if (legacyElapsed) {
+                r.setElapsed("耗时:" + millis + "ms");
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package cn.xuming.erxing.lessif.web;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 记录请求开始时间({@link System#nanoTime()}),由 {@link ErxingTimingAdvice} 计算耗时
+ *
+ * @author : 徐铭
+ * @since: 2024-06-16 19:55:31
+ */
+public class ErxingTimingInterceptor implements HandlerInterceptor {
+
+    /**
+     * 保存开始时间的request属性名
+     */
+    public static final String START_ATTRIBUTE = ErxingTimingInterceptor.class.getName() + ".START";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,101 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.R;
+import cn.xuming.erxing.lessif.core.ErxingAggregateException;
+import cn.xuming.erxing.lessif.core.ErxingException;
+import cn.xuming.erxing.lessif.core.ErxingExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * WebFlux项目中把 {@link ErxingException}、{@link ErxingAggregateException} 转换为与Spring MVC相同的 {@link R} 响应
+ * <p>响应内容由 {@link ErxingExceptionHandler} 生成,JSON直接序列化到响应的 {@link DataBuffer},
+ * 错误信息不含参数时输出 {@link PreparedR} 缓存的JSON;整个过程只有内存操作,不会阻塞事件循环线程</p>
+ * <p>注解式controller抛出的异常仍由 {@link ErxingExceptionHandler} 处理,
+ * 这里处理路由函数、WebFilter等其余位置抛出的异常。排在Spring Boot默认的错误处理之前,其余异常原样交给后续处理</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-20 20:34:17
+ */
+public class ErxingWebExceptionHandler implements WebExceptionHandler, Ordered {
+
+    /**
+     * Spring Boot的DefaultErrorWebExceptionHandler为-1,需要排在它之前
+     */
+    public static final int ORDER = -2;
+
+    private final ErxingExceptionHandler handler;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean timing;
+
+    /**
+     * @param handler      生成响应内容
+     * @param objectMapper 与WebFlux Jackson编码器相同的ObjectMapper,保证输出一致
+     * @param timing       是否填充timestamp
+     */
+    public ErxingWebExceptionHandler(ErxingExceptionHandler handler, ObjectMapper objectMapper, boolean timing) {
+        this.handler = handler;
+        this.objectMapper = objectMapper;
+        this.timing = timing;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+        R<?> r;
+        if (ex instanceof ErxingAggregateException) {
+            r = handler.handleAggregateException((ErxingAggregateException) ex);
+        } else if (ex instanceof ErxingException) {
+            r = handler.handleCustomException((ErxingException) ex);
+        } else {
+            return Mono.error(ex);
+        }
+        if (timing) {
+            r.setTimestamp(LocalDateTime.now());
+        }
+        DataBuffer buffer = response.bufferFactory().allocateBuffer();
+        try {
+            write(r, buffer.asOutputStream());
+        } catch (IOException | RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            e.addSuppressed(ex);
+            return Mono.error(e);
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(buffer.readableByteCount());
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    private void write(R<?> r, OutputStream out) throws IOException {
+        if (r instanceof PreparedR) {
+            PreparedBody body = ((PreparedR) r).body();
+            if (body != null && body.write((PreparedR) r, objectMapper, out)) {
+                return;
+            }
+        }
+        objectMapper.writeValue(out, r);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,36 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.ErxingProperties;
+import cn.xuming.erxing.lessif.core.ErxingExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.server.WebExceptionHandler;
+
+/**
+ * Spring WebFlux项目的自动配置,注册 {@link ErxingWebExceptionHandler}
+ * <p>Spring MVC项目由 {@link ErxingWebMvcConfiguration} 配置,两者按实际使用的web框架二选一生效</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-20 21:02:48
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass({WebExceptionHandler.class, ObjectMapper.class})
+@EnableConfigurationProperties(ErxingProperties.class)
+public class ErxingWebFluxConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ErxingWebExceptionHandler erxingWebExceptionHandler(ErxingExceptionHandler handler,
+                                                               ObjectProvider<ObjectMapper> objectMapper,
+                                                               ErxingProperties properties) {
+        return new ErxingWebExceptionHandler(handler, objectMapper.getIfAvailable(ObjectMapper::new),
+                properties.getTiming().isEnabled());
+    }
+}
@@ -0,0 +1,67 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.ErxingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC项目的自动配置
+ * <ul>
+ *     <li>在Jackson消息转换器之前加入 {@link PreparedRHttpMessageConverter},并与其共用ObjectMapper,
+ *     可通过 <code>erxing.prepared-response.enabled=false</code> 关闭</li>
+ *     <li>注册 {@link ErxingTimingInterceptor} 和 {@link ErxingTimingAdvice},
+ *     可通过 <code>erxing.timing.enabled=false</code> 关闭</li>
+ * </ul>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-12 21:18:40
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(WebMvcConfigurer.class)
+@EnableConfigurationProperties(ErxingProperties.class)
+public class ErxingWebMvcConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MappingJackson2HttpMessageConverter.class)
+    @ConditionalOnProperty(prefix = "erxing.prepared-response", name = "enabled", matchIfMissing = true)
+    static class PreparedResponseConfiguration implements WebMvcConfigurer {
+
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+            for (int i = 0; i < converters.size(); i++) {
+                HttpMessageConverter<?> converter = converters.get(i);
+                if (converter instanceof MappingJackson2HttpMessageConverter) {
+                    converters.add(i, new PreparedRHttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper()));
+                    return;
+                }
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "erxing.timing", name = "enabled", matchIfMissing = true)
+    static class TimingConfiguration implements WebMvcConfigurer {
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new ErxingTimingInterceptor()).order(Ordered.HIGHEST_PRECEDENCE);
+        }
+
+        @Bean
+        public ErxingTimingAdvice erxingTimingAdvice(ErxingProperties properties) {
+            return new ErxingTimingAdvice(properties.getTiming().isLegacyElapsed());
+        }
+    }
+}
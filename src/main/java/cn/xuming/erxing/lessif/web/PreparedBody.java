@@ -0,0 +1,199 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.R;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 某个错误码的失败响应预先序列化的UTF-8 JSON
+ * <p>JSON由实际使用的 {@link ObjectMapper} 序列化一个普通的 {@link R} 得到,因此与正常序列化逐字节一致;
+ * timestamp、elapsed、elapsedMillis用哨兵值占位,输出时只替换这几个字段。按各字段是否为null分为8种模板,首次用到时生成</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-12 20:26:52
+ */
+final class PreparedBody {
+
+    private static final int TIMESTAMP = 0;
+
+    private static final int ELAPSED = 1;
+
+    private static final int ELAPSED_MILLIS = 2;
+
+    private static final int VARIANTS = 1 << 3;
+
+    private static final LocalDateTime TIMESTAMP_SENTINEL = LocalDateTime.of(1970, 1, 1, 0, 0, 0);
+
+    private static final String ELAPSED_SENTINEL = "erxing-elapsed-7f3a9c51";
+
+    private static final Long ELAPSED_MILLIS_SENTINEL = 7_390_215_846_173L;
+
+    private final String code;
+
+    private final String msg;
+
+    private volatile Templates templates;
+
+    PreparedBody(String code, String msg) {
+        this.code = code;
+        this.msg = msg;
+    }
+
+    String getCode() {
+        return code;
+    }
+
+    String getMsg() {
+        return msg;
+    }
+
+    /**
+     * 输出JSON
+     *
+     * @return 是否已输出,为false时需要正常序列化
+     */
+    boolean write(PreparedR r, ObjectMapper mapper, OutputStream out) throws IOException {
+        Templates current = templates;
+        if (current == null || current.mapper != mapper) {
+            current = new Templates(mapper);
+            templates = current;
+        }
+        LocalDateTime timestamp = r.getTimestamp();
+        String elapsed = r.getElapsed();
+        Long elapsedMillis = r.getElapsedMillis();
+        int variant = (timestamp == null ? 0 : 1 << TIMESTAMP)
+                | (elapsed == null ? 0 : 1 << ELAPSED)
+                | (elapsedMillis == null ? 0 : 1 << ELAPSED_MILLIS);
+        Template template = current.get(variant, this);
+        if (template == null) {
+            return false;
+        }
+        for (int i = 0; i < template.slots.length; i++) {
+            out.write(template.segments[i]);
+            switch (template.slots[i]) {
+                case TIMESTAMP:
+                    out.write('"');
+                    out.write(RSerializer.format(timestamp).getBytes(StandardCharsets.UTF_8));
+                    out.write('"');
+                    break;
+                case ELAPSED:
+                    out.write(mapper.writeValueAsBytes(elapsed));
+                    break;
+                default:
+                    out.write(Long.toString(elapsedMillis).getBytes(StandardCharsets.US_ASCII));
+                    break;
+            }
+        }
+        out.write(template.segments[template.slots.length]);
+        return true;
+    }
+
+    private Template build(ObjectMapper mapper, int variant) throws JsonProcessingException {
+        R<Void> prototype = new R<>(false, code, msg);
+        byte[][] sentinels = new byte[3][];
+        if ((variant & 1 << TIMESTAMP) != 0) {
+            prototype.setTimestamp(TIMESTAMP_SENTINEL);
+            sentinels[TIMESTAMP] = ('"' + RSerializer.format(TIMESTAMP_SENTINEL) + '"').getBytes(StandardCharsets.UTF_8);
+        }
+        if ((variant & 1 << ELAPSED) != 0) {
+            prototype.setElapsed(ELAPSED_SENTINEL);
+            sentinels[ELAPSED] = mapper.writeValueAsBytes(ELAPSED_SENTINEL);
+        }
+        if ((variant & 1 << ELAPSED_MILLIS) != 0) {
+            prototype.setElapsedMillis(ELAPSED_MILLIS_SENTINEL);
+            sentinels[ELAPSED_MILLIS] = ELAPSED_MILLIS_SENTINEL.toString().getBytes(StandardCharsets.US_ASCII);
+        }
+        byte[] json = mapper.writeValueAsBytes(prototype);
+        List<int[]> positions = new ArrayList<>(3);
+        for (int slot = 0; slot < sentinels.length; slot++) {
+            if (sentinels[slot] == null) {
+                continue;
+            }
+            int at = indexOfOnce(json, sentinels[slot]);
+            if (at < 0) {
+                // mapper的配置改变了字段的输出方式,无法替换
+                return null;
+            }
+            positions.add(new int[]{at, sentinels[slot].length, slot});
+        }
+        positions.sort((a, b) -> Integer.compare(a[0], b[0]));
+        byte[][] segments = new byte[positions.size() + 1][];
+        int[] slots = new int[positions.size()];
+        int start = 0;
+        for (int i = 0; i < slots.length; i++) {
+            int[] position = positions.get(i);
+            segments[i] = Arrays.copyOfRange(json, start, position[0]);
+            slots[i] = position[2];
+            start = position[0] + position[1];
+        }
+        segments[slots.length] = Arrays.copyOfRange(json, start, json.length);
+        return new Template(segments, slots);
+    }
+
+    /**
+     * @return target在json中仅出现一次时的位置,否则为-1
+     */
+    private static int indexOfOnce(byte[] json, byte[] target) {
+        int found = -1;
+        for (int i = 0; i <= json.length - target.length; i++) {
+            int j = 0;
+            while (j < target.length && json[i + j] == target[j]) {
+                j++;
+            }
+            if (j == target.length) {
+                if (found >= 0) {
+                    return -1;
+                }
+                found = i;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 某个 {@link ObjectMapper} 对应的全部模板
+     */
+    private static final class Templates {
+
+        private final ObjectMapper mapper;
+
+        private final Template[] variants = new Template[VARIANTS];
+
+        private final boolean[] built = new boolean[VARIANTS];
+
+        private Templates(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        private synchronized Template get(int variant, PreparedBody body) throws JsonProcessingException {
+            if (!built[variant]) {
+                variants[variant] = body.build(mapper, variant);
+                built[variant] = true;
+            }
+            return variants[variant];
+        }
+    }
+
+    /**
+     * 固定片段与动态字段交替排列:segments[0] slots[0] segments[1] ... segments[n]
+     */
+    private static final class Template {
+
+        private final byte[][] segments;
+
+        private final int[] slots;
+
+        private Template(byte[][] segments, int[] slots) {
+            this.segments = segments;
+            this.slots = slots;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.R;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 错误信息固定的失败响应
+ * <p>与 {@link R#fail(String, String)} 完全相同,可照常修改timestamp、elapsed等字段;
+ * 额外携带同一错误码共用的 {@link PreparedBody},由 {@link PreparedRHttpMessageConverter} 直接输出缓存的JSON</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-12 20:11:36
+ */
+public class PreparedR extends R<Void> {
+
+    /**
+     * 缓存上限,防止错误码过多撑爆缓存
+     */
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    private static final ConcurrentMap<String, PreparedBody> CACHE = new ConcurrentHashMap<>();
+
+    private final transient PreparedBody body;
+
+    private PreparedR(PreparedBody body) {
+        super(false, body.getCode(), body.getMsg());
+        this.body = body;
+    }
+
+    /**
+     * 创建失败响应,同一错误码共用一份缓存的JSON
+     *
+     * @param code 错误码
+     * @param msg  不含参数的错误信息
+     * @return 失败响应
+     */
+    public static PreparedR fail(String code, String msg) {
+        PreparedBody body = CACHE.get(code);
+        if (body == null || !body.getMsg().equals(msg)) {
+            body = new PreparedBody(code, msg);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.put(code, body);
+            }
+        }
+        return new PreparedR(body);
+    }
+
+    /**
+     * @return 缓存的JSON,响应的success、code、msg、data被修改过时返回null
+     */
+    PreparedBody body() {
+        if (body == null || isSuccess() || getData() != null
+                || !Objects.equals(body.getCode(), getCode()) || !Objects.equals(body.getMsg(), getMsg())) {
+            return null;
+        }
+        return body;
+    }
+}
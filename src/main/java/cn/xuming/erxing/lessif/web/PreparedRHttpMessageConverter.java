@@ -0,0 +1,55 @@
+package cn.xuming.erxing.lessif.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 直接输出 {@link PreparedR} 缓存的JSON,无法使用缓存时交由同一个 {@link ObjectMapper} 正常序列化
+ *
+ * @author : 徐铭
+ * @since: 2024-06-12 21:02:14
+ */
+public class PreparedRHttpMessageConverter extends AbstractHttpMessageConverter<PreparedR> {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param objectMapper 与Jackson消息转换器相同的ObjectMapper,保证输出一致
+     */
+    public PreparedRHttpMessageConverter(ObjectMapper objectMapper) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PreparedR.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PreparedR readInternal(Class<? extends PreparedR> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("PreparedR仅用于输出", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PreparedR r, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = outputMessage.getBody();
+        PreparedBody body = r.body();
+        if (body == null || !body.write(r, objectMapper, out)) {
+            out.write(objectMapper.writeValueAsBytes(r));
+        }
+    }
+}
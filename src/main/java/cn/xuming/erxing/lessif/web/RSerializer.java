@@ -0,0 +1,262 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.R;
+import cn.xuming.erxing.lessif.RStream;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+
+/**
+ * {@link R} 的专用序列化器,按字段顺序直接输出,不经过getter反射
+ * <p>输出与Jackson默认的bean序列化一致:timestamp按 {@link R} 上 {@link JsonFormat} 的pattern格式化,
+ * 同一秒内的时间只格式化一次;data交由ObjectMapper中对应类型的序列化器处理;
+ * 支持 <code>ALWAYS</code>、<code>NON_NULL</code>、<code>NON_ABSENT</code>、<code>NON_EMPTY</code> 全局包含策略,不支持属性命名策略</p>
+ * <p>{@link R} 上的 <code>@JsonSerialize</code> 会被子类继承,只有 {@link R}、{@link PreparedR}、{@link RStream} 按字段直接输出,
+ * 其他子类(如带total的分页结果)交由Jackson默认的bean序列化器,不会丢失子类的字段</p>
+ *
+ * @author : 徐铭
+ * @since: 2024-06-14 20:08:33
+ */
+public class RSerializer extends StdSerializer<R<?>> implements ContextualSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString ELAPSED = new SerializedString("elapsed");
+    private static final SerializableString ELAPSED_MILLIS = new SerializedString("elapsedMillis");
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString MSG = new SerializedString("msg");
+    private static final SerializableString DATA = new SerializedString("data");
+
+    private static final DateTimeFormatter FORMATTER;
+
+    /**
+     * pattern不含秒以下的精度时才能按秒缓存
+     */
+    private static final boolean CACHEABLE;
+
+    static {
+        try {
+            String pattern = R.class.getDeclaredField("timestamp").getAnnotation(JsonFormat.class).pattern();
+            FORMATTER = DateTimeFormatter.ofPattern(pattern);
+            CACHEABLE = pattern.indexOf('S') < 0 && pattern.indexOf('n') < 0 && pattern.indexOf('N') < 0;
+        } catch (NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * 最近一秒的格式化结果
+     */
+    private static volatile CachedSecond cached = new CachedSecond(Long.MIN_VALUE, null);
+
+    private final boolean skipNull;
+
+    private final boolean skipEmpty;
+
+    /**
+     * data各运行时类型对应的序列化器,与Jackson的bean属性相同的缓存方式
+     */
+    private transient PropertySerializerMap dataSerializers = PropertySerializerMap.emptyForProperties();
+
+    /**
+     * {@link R} 的其他子类对应的bean序列化器
+     */
+    private transient PropertySerializerMap subclassSerializers = PropertySerializerMap.emptyForRootValues();
+
+    public RSerializer() {
+        this(false, false);
+    }
+
+    private RSerializer(boolean skipNull, boolean skipEmpty) {
+        super(R.class, false);
+        this.skipNull = skipNull;
+        this.skipEmpty = skipEmpty;
+    }
+
+    /**
+     * 按ObjectMapper的全局包含策略创建序列化器,Jackson会缓存结果,每个ObjectMapper只调用一次
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(R.class).getValueInclusion();
+        boolean skipEmpty = inclusion == JsonInclude.Include.NON_EMPTY;
+        boolean skipNull = skipEmpty || inclusion == JsonInclude.Include.NON_NULL || inclusion == JsonInclude.Include.NON_ABSENT;
+        return new RSerializer(skipNull, skipEmpty);
+    }
+
+    @Override
+    public void serialize(R<?> r, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Class<?> type = r.getClass();
+        if (type != R.class && type != PreparedR.class && !(r instanceof RStream)) {
+            subclassSerializer(type, provider).serialize(r, gen, provider);
+            return;
+        }
+        gen.writeStartObject(r);
+        if (r instanceof RStream) {
+            writeStream((RStream<?>) r, gen, provider);
+            return;
+        }
+        writeHead(r, gen);
+        writeString(gen, MSG, r.getMsg());
+        Object data = r.getData();
+        if (data != null) {
+            JsonSerializer<Object> serializer = dataSerializer(data.getClass(), provider);
+            if (!skipEmpty || !serializer.isEmpty(provider, data)) {
+                gen.writeFieldName(DATA);
+                serializer.serialize(data, gen, provider);
+            }
+        } else if (!skipNull) {
+            gen.writeFieldName(DATA);
+            gen.writeNull();
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * data数组逐行输出,行数确定后再输出msg;data始终输出,不受NON_EMPTY影响
+     */
+    private void writeStream(RStream<?> stream, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeHead(stream, gen);
+        gen.writeFieldName(DATA);
+        gen.writeStartArray();
+        try {
+            Iterator<?> rows = stream.iterator();
+            while (rows.hasNext()) {
+                Object row = rows.next();
+                if (row == null) {
+                    gen.writeNull();
+                } else {
+                    dataSerializer(row.getClass(), provider).serialize(row, gen, provider);
+                }
+            }
+        } catch (Throwable e) {
+            try {
+                stream.close();
+            } catch (IOException | RuntimeException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+        try {
+            stream.close();
+        } catch (IOException | RuntimeException e) {
+            provider.reportMappingProblem(e, "关闭RStream的数据来源失败");
+        }
+        gen.writeEndArray();
+        writeString(gen, MSG, stream.getMsg());
+        gen.writeEndObject();
+    }
+
+    private void writeHead(R<?> r, JsonGenerator gen) throws IOException {
+        LocalDateTime timestamp = r.getTimestamp();
+        if (timestamp != null) {
+            gen.writeFieldName(TIMESTAMP);
+            gen.writeString(format(timestamp));
+        } else if (!skipNull) {
+            gen.writeFieldName(TIMESTAMP);
+            gen.writeNull();
+        }
+        writeString(gen, ELAPSED, r.getElapsed());
+        // 字段上声明了NON_NULL
+        Long elapsedMillis = r.getElapsedMillis();
+        if (elapsedMillis != null) {
+            gen.writeFieldName(ELAPSED_MILLIS);
+            gen.writeNumber(elapsedMillis);
+        }
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(r.isSuccess());
+        writeString(gen, CODE, r.getCode());
+    }
+
+    private JsonSerializer<Object> dataSerializer(Class<?> type, SerializerProvider provider) throws JsonMappingException {
+        PropertySerializerMap map = dataSerializers;
+        JsonSerializer<Object> serializer = map.serializerFor(type);
+        if (serializer == null) {
+            PropertySerializerMap.SerializerAndMapResult result = map.findAndAddPrimarySerializer(type, provider, null);
+            dataSerializers = result.map;
+            serializer = result.serializer;
+        }
+        return serializer;
+    }
+
+    /**
+     * 直接构造bean序列化器,绕过从父类继承的 <code>@JsonSerialize</code>,否则会再次找到本序列化器
+     */
+    @SuppressWarnings("unchecked")
+    private JsonSerializer<Object> subclassSerializer(Class<?> type, SerializerProvider provider) throws JsonMappingException {
+        PropertySerializerMap map = subclassSerializers;
+        JsonSerializer<Object> serializer = map.serializerFor(type);
+        if (serializer == null) {
+            JavaType javaType = provider.constructType(type);
+            serializer = BeanSerializerFactory.instance.findBeanOrAddOnSerializer(provider, javaType,
+                    provider.getConfig().introspect(javaType), false);
+            if (serializer instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) serializer).resolve(provider);
+            }
+            serializer = (JsonSerializer<Object>) provider.handlePrimaryContextualization(serializer, null);
+            subclassSerializers = map.newWith(type, serializer);
+        }
+        return serializer;
+    }
+
+    private void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value == null) {
+            if (!skipNull) {
+                gen.writeFieldName(name);
+                gen.writeNull();
+            }
+        } else if (!skipEmpty || !value.isEmpty()) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    /**
+     * 同一秒内的时间返回缓存的文本
+     */
+    static String format(LocalDateTime timestamp) {
+        if (!CACHEABLE) {
+            return FORMATTER.format(timestamp);
+        }
+        long second = timestamp.toEpochSecond(ZoneOffset.UTC);
+        CachedSecond current = cached;
+        if (current.second == second) {
+            return current.text;
+        }
+        String text = FORMATTER.format(timestamp);
+        cached = new CachedSecond(second, text);
+        return text;
+    }
+
+    private static final class CachedSecond {
+
+        private final long second;
+
+        private final String text;
+
+        private CachedSecond(long second, String text) {
+            this.second = second;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package cn.xuming.erxing.lessif.core;
+
+import cn.xuming.erxing.lessif.constant.BoundTypeEnum;
+import cn.xuming.erxing.lessif.constant.CompareSymbolEnum;
+import cn.xuming.erxing.lessif.support.MembershipSet;
+import junit.framework.TestCase;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 断言通过时不应分配任何内存
+ *
+ * @author: 徐铭
+ * @since: 2024-05-12 21:36:08
+ **/
+public class AllocationFreeAssertTest extends TestCase {
+
+    /**
+     * 次数控制在C2编译阈值以下,避免逃逸分析消除参数数组而掩盖问题
+     */
+    private static final int ITERATIONS = 2_000;
+
+    private final Object obj = new Object();
+    private final String text = "kis001";
+    private final Object[] array = {"a", "b"};
+    private final String[] strings = {"kis001", "kis002"};
+    private final List<String> list = new ArrayList<>(Collections.singletonList("kis001"));
+    private final Map<String, String> map = Collections.singletonMap("kis001", "金蝶");
+    private final Map<String, Object> variables = Collections.singletonMap("qty", 1);
+    private final MembershipSet set = MembershipSet.of(strings);
+    private final Integer one = 1;
+    private final Integer two = 2;
+    private final String a1 = "a1";
+    private final String a2 = "a2";
+    private final String a3 = "a3";
+
+    private com.sun.management.ThreadMXBean threadBean;
+
+    @Override
+    protected void setUp() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threadBean = (com.sun.management.ThreadMXBean) bean;
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    public void testExceptionAssertPassingPathAllocatesNothing() {
+        if (threadBean == null) {
+            return;
+        }
+        assertZeroAllocation(this::exceptionAsserts);
+    }
+
+    public void testWarningAssertPassingPathAllocatesNothing() {
+        if (threadBean == null) {
+            return;
+        }
+        assertZeroAllocation(this::warningAsserts);
+    }
+
+    private void assertZeroAllocation(Runnable calls) {
+        // 预热,仅完成类加载
+        for (int i = 0; i < 3; i++) {
+            calls.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        long baseline = threadBean.getThreadAllocatedBytes(threadId) - before;
+        before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            calls.run();
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before - baseline;
+        assertTrue("断言通过时分配了 " + allocated + " bytes", allocated < ITERATIONS);
+    }
+
+    private void exceptionAsserts() {
+        CusError e = CusError.ACCOUNT_DB_NOT_EXISTS;
+        e.isTrue(true);
+        e.isTrue(true, a1);
+        e.isTrue(true, a1, a2);
+        e.isTrue(true, a1, a2, a3);
+        e.rule("qty > 0 && qty <= 10000 && qty in (1,2,3)", variables, a1);
+        e.isFalse(false, a1);
+        e.isNull(null, a1);
+        e.isNotNull(obj, a1, a2);
+        e.isNotEmpty(text, a1);
+        e.isNotEmpty(array, a1);
+        e.isNotEmpty(list, a1);
+        e.isNotEmpty(map, a1);
+        e.isEmpty((String) null, a1);
+        e.contain(text, "kis", a1);
+        e.notContain(text, "jde", a1);
+        e.contain(text, strings, a1);
+        e.notContain("jde", strings, a1);
+        e.contain(text, list, a1);
+        e.notContain("jde", list, a1);
+        e.contain(text, map, a1);
+        e.notContain("jde", map, a1);
+        e.contain(text, set, a1);
+        e.notContain("jde", set, a1);
+        e.noNullElements(array, a1);
+        e.noNullElements(list, a1);
+        e.compare(two, one, CompareSymbolEnum.GT, a1, a2, a3);
+        e.compareInt(2, 1, CompareSymbolEnum.GT, a1);
+        e.compareLong(2L, 2L, CompareSymbolEnum.EQ, a1, a2);
+        e.compareDouble(0.5d, 1d, CompareSymbolEnum.LT);
+        e.betweenInt(5, 1, 10, BoundTypeEnum.CLOSED, a1);
+        e.betweenLong(10L, 1L, 10L, BoundTypeEnum.OPEN_CLOSED, a1, a2, a3);
+        e.notBetweenDouble(1.5d, 0d, 1d, BoundTypeEnum.CLOSED_OPEN, a1);
+        e.isPositive(one, a1);
+        e.isNonNegativeInt(0, a1);
+        e.isNegativeLong(-1L, a1, a2);
+        e.isZeroInt(0);
+        e.isPositiveDouble(0.5d, a1, a2, a3);
+    }
+
+    private void warningAsserts() {
+        CusWarning w = CusWarning.ITEM_NOT_EXISTS;
+        w.isTrue(true, a1);
+        w.isTrue(true, a1, a2);
+        w.isTrue(true, a1, a2, a3);
+        w.isFalse(false, a1);
+        w.isNull(null, a1);
+        w.isNotNull(obj, a1);
+        w.isNotEmpty(text, a1);
+        w.isNotEmpty(list, a1);
+        w.contain(text, strings, a1);
+        w.notContain("jde", strings, a1);
+        w.contain(text, map, a1);
+        w.contain(text, set, a1);
+        w.notContain("jde", set, a1);
+        w.noNullElements(array, a1);
+        w.noNullElements(list, a1);
+        w.isPositive(one, a1);
+        w.isZeroInt(0, a1);
+        w.isPositiveLong(1L, a1, a2);
+        w.isNonNegative(two, a1);
+        w.compare(two, one, CompareSymbolEnum.GE, a1);
+        w.compareInt(2, 1, CompareSymbolEnum.GE, a1);
+        w.betweenLong(5L, 1L, 10L, BoundTypeEnum.OPEN, a1);
+        w.notBetweenInt(11, 1, 10, BoundTypeEnum.CLOSED, a1, a2);
+    }
+
+    public enum CusError implements ErxingExceptionAssert {
+
+        ACCOUNT_DB_NOT_EXISTS;
+
+        @Override
+        public String getCode() {
+            return "E10001";
+        }
+
+        @Override
+        public String getMessage() {
+            return "账套编码(不区分大小写)【{0}】不存在";
+        }
+    }
+
+    public enum CusWarning implements ErxingWarningAssert {
+
+        ITEM_NOT_EXISTS;
+
+        @Override
+        public String getCode() {
+            return "W10002";
+        }
+
+        @Override
+        public String getMessage() {
+            return "商品编码(不区分大小写)【{0}】不存在";
+        }
+    }
+}
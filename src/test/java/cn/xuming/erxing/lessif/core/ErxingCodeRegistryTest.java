@@ -0,0 +1,159 @@
+package cn.xuming.erxing.lessif.core;
+
+import cn.xuming.erxing.lessif.metrics.ErxingMetrics;
+import cn.xuming.erxing.lessif.validation.ErxingNotNull;
+import cn.xuming.erxing.lessif.validation.ErxingValidator;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-06-10 21:07:25
+ **/
+public class ErxingCodeRegistryTest extends TestCase {
+
+    public void testServiceLoader() {
+        ErxingCodeRegistry.load();
+        assertSame(ProvidedErrors.PROVIDED, ErxingCodeRegistry.get("E90001"));
+        int id = ErxingCodeRegistry.id("E90001");
+        assertEquals(id, ErxingCodeRegistry.id(ProvidedErrors.PROVIDED));
+        assertEquals("E90001", ErxingCodeRegistry.code(id));
+        assertEquals(id + 1, ErxingCodeRegistry.id(ProvidedWarnings.PROVIDED_WARNING));
+    }
+
+    public void testDenseIds() {
+        ErxingCodeRegistry.register(Errors.class);
+        ErxingCodeRegistry.register(Errors.class);
+        int first = ErxingCodeRegistry.id(Errors.FIRST);
+        assertEquals(first + 1, ErxingCodeRegistry.id(Errors.SECOND));
+        assertEquals(first + 1, ErxingCodeRegistry.id("E90102"));
+        assertEquals(ErxingCodeRegistry.size(), ErxingCodeRegistry.codes().size());
+        assertEquals("E90102", ErxingCodeRegistry.codes().get(first + 1));
+        assertEquals(ErxingCodeRegistry.UNREGISTERED, ErxingCodeRegistry.id("E99999"));
+        assertEquals(ErxingCodeRegistry.UNREGISTERED, ErxingCodeRegistry.id((Object) "E90101"));
+    }
+
+    public void testDuplicateFailsFast() {
+        ErxingCodeRegistry.register(Errors.class);
+        int size = ErxingCodeRegistry.size();
+        try {
+            ErxingCodeRegistry.register(Duplicates.class);
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("E90101"));
+            assertTrue(e.getMessage(), e.getMessage().contains("Duplicates.DUPLICATE"));
+        }
+        assertEquals(size, ErxingCodeRegistry.size());
+        assertEquals(ErxingCodeRegistry.UNREGISTERED, ErxingCodeRegistry.id(Duplicates.UNIQUE));
+        try {
+            ErxingCodeRegistry.register(String.class);
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("java.lang.String"));
+        }
+    }
+
+    public void testLoadFailureIsRethrown() throws Exception {
+        ErxingCodeRegistry.register(Errors.class);
+        Field loaded = ErxingCodeRegistry.class.getDeclaredField("loaded");
+        Field loadFailure = ErxingCodeRegistry.class.getDeclaredField("loadFailure");
+        loaded.setAccessible(true);
+        loadFailure.setAccessible(true);
+        loaded.set(null, false);
+        Provider.duplicate = true;
+        try {
+            for (int i = 0; i < 2; i++) {
+                try {
+                    ErxingCodeRegistry.load();
+                    fail();
+                } catch (IllegalStateException e) {
+                    assertTrue(e.getMessage(), e.getMessage().contains("E90101"));
+                }
+            }
+        } finally {
+            Provider.duplicate = false;
+            loadFailure.set(null, null);
+            loaded.set(null, true);
+        }
+    }
+
+    public void testMetricsAndValidatorUseRegistry() {
+        ErxingCodeRegistry.register(Errors.class);
+        long before = ErxingMetrics.exceptionCount("E90101");
+        Errors.FIRST.newException();
+        Errors.FIRST.newException();
+        assertEquals(before + 2, ErxingMetrics.exceptionCount("E90101"));
+
+        try {
+            ErxingValidator.validate(new UndeclaredDTO());
+            fail();
+        } catch (ErxingException e) {
+            assertEquals("E90001", e.getCode());
+        }
+    }
+
+    public static class Provider implements ErxingCodeProvider {
+
+        static volatile boolean duplicate;
+
+        @Override
+        public Collection<Class<?>> codeEnums() {
+            if (duplicate) {
+                return Arrays.asList(ProvidedErrors.class, ProvidedWarnings.class, Duplicates.class);
+            }
+            return Arrays.asList(ProvidedErrors.class, ProvidedWarnings.class);
+        }
+    }
+
+    static class UndeclaredDTO {
+        @ErxingNotNull(code = "E90001")
+        String id;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum ProvidedErrors implements ErxingExceptionAssert {
+        PROVIDED("E90001", "由ServiceLoader注册");
+
+        private final String code;
+
+        private final String message;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum ProvidedWarnings implements ErxingWarningAssert {
+        PROVIDED_WARNING("W90001", "由ServiceLoader注册的警告");
+
+        private final String code;
+
+        private final String message;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum Errors implements ErxingExceptionAssert {
+        FIRST("E90101", "第一个"),
+        SECOND("E90102", "第二个");
+
+        private final String code;
+
+        private final String message;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum Duplicates implements ErxingExceptionAssert {
+        UNIQUE("E90199", "不重复"),
+        DUPLICATE("E90101", "重复");
+
+        private final String code;
+
+        private final String message;
+    }
+}
@@ -0,0 +1,220 @@
+package cn.xuming.erxing.lessif.core;
+
+import cn.xuming.erxing.lessif.R;
+import cn.xuming.erxing.lessif.constant.BoundTypeEnum;
+import cn.xuming.erxing.lessif.constant.CompareSymbolEnum;
+import cn.xuming.erxing.lessif.support.KeywordMatcher;
+import cn.xuming.erxing.lessif.support.MembershipSet;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-10 20:18:31
+ **/
+public class ErxingExceptionTest extends TestCase {
+
+    public void testArgRenderedOnce() {
+        AtomicInteger renders = new AtomicInteger();
+        Object account = new Object() {
+            @Override
+            public String toString() {
+                renders.incrementAndGet();
+                return "kis001";
+            }
+        };
+        ErxingException e = new ErxingException(CusError.ACCOUNT_DB_NOT_EXISTS, account);
+        assertEquals(1, renders.get());
+        assertEquals("账套编码(不区分大小写)【kis001】不存在", e.getMessage());
+        assertEquals("账套编码(不区分大小写)【kis001】不存在", e.getMessage());
+        assertEquals(1, renders.get());
+    }
+
+    public void testArgsSnapshotAtConstruction() {
+        StringBuilder account = new StringBuilder("kis001");
+        Object[] args = {account};
+        ErxingException e = new ErxingException(CusError.ACCOUNT_DB_NOT_EXISTS, args);
+        account.append("-changed");
+        args[0] = "kis002";
+        assertEquals("账套编码(不区分大小写)【kis001】不存在", e.getMessage());
+
+        Object[] callerArgs = {account, null};
+        ErxingException created = CusError.ACCOUNT_DB_NOT_EXISTS.newException(callerArgs);
+        assertSame(account, callerArgs[0]);
+        callerArgs[0] = "kis003";
+        assertEquals("账套编码(不区分大小写)【kis001-changed】不存在", created.getMessage());
+    }
+
+    public void testNewException() {
+        try {
+            CusError.ACCOUNT_DB_NOT_EXISTS.isNotNull(null, "kis001");
+            fail();
+        } catch (ErxingException e) {
+            assertEquals("E10001", e.getCode());
+            assertEquals("账套编码(不区分大小写)【kis001】不存在", e.getMessage());
+            assertTrue(e.toString().contains("账套编码(不区分大小写)【kis001】不存在"));
+            R<Void> r = R.fail(e.getCode(), e.getMessage());
+            assertEquals("账套编码(不区分大小写)【kis001】不存在", r.getMsg());
+        }
+    }
+
+    public void testNoNullElementsParallelReportsIndex() {
+        Object[] rows = new Object[100_000];
+        Arrays.fill(rows, "row");
+        CusError.ACCOUNT_DB_NOT_EXISTS.noNullElementsParallel(rows);
+        rows[65_536] = null;
+        try {
+            CusError.ACCOUNT_DB_NOT_EXISTS.noNullElementsParallel(Arrays.asList(rows));
+            fail();
+        } catch (ErxingException e) {
+            assertEquals("账套编码(不区分大小写)【65536】不存在", e.getMessage());
+        }
+    }
+
+    public void testContainMembershipSet() {
+        MembershipSet accounts = MembershipSet.of("kis001", "kis002");
+        CusError.ACCOUNT_DB_NOT_EXISTS.contain("kis001", accounts, "kis001");
+        CusError.ACCOUNT_DB_NOT_EXISTS.notContain("kis003", accounts, "kis003");
+        try {
+            CusError.ACCOUNT_DB_NOT_EXISTS.contain("kis003", accounts, "kis003");
+            fail();
+        } catch (ErxingException e) {
+            assertEquals("账套编码(不区分大小写)【kis003】不存在", e.getMessage());
+        }
+    }
+
+    public void testContainNoneReportsToken() {
+        KeywordMatcher forbidden = KeywordMatcher.of("测试", "作废");
+        CusError.ACCOUNT_DB_NOT_EXISTS.containAny("kis001作废", forbidden);
+        CusError.ACCOUNT_DB_NOT_EXISTS.containNone("kis001", forbidden);
+        try {
+            CusError.ACCOUNT_DB_NOT_EXISTS.containNone("kis001作废账套", forbidden);
+            fail();
+        } catch (ErxingException e) {
+            assertEquals("账套编码(不区分大小写)【作废】不存在", e.getMessage());
+        }
+    }
+
+    public void testBetweenBounds() {
+        CusError e = CusError.ACCOUNT_DB_NOT_EXISTS;
+        e.betweenInt(1, 1, 10, BoundTypeEnum.CLOSED);
+        e.betweenInt(10, 1, 10, BoundTypeEnum.OPEN_CLOSED);
+        e.betweenLong(1L, 1L, 10L, BoundTypeEnum.CLOSED_OPEN);
+        e.notBetweenDouble(10d, 1d, 10d, BoundTypeEnum.CLOSED_OPEN);
+        e.notBetweenDouble(Double.NaN, 1d, 10d, BoundTypeEnum.CLOSED);
+        e.compareInt(3, 2, CompareSymbolEnum.GT, "qty");
+        try {
+            e.betweenInt(1, 1, 10, BoundTypeEnum.OPEN, "qty");
+            fail();
+        } catch (ErxingException ex) {
+            assertEquals("账套编码(不区分大小写)【qty】不存在", ex.getMessage());
+        }
+        try {
+            e.compareLong(2L, 3L, CompareSymbolEnum.GE);
+            fail();
+        } catch (ErxingException ignored) {
+            // 2 < 3
+        }
+        e.compareDouble(1d, 1d, CompareSymbolEnum.EQ, "a", "b", "c", "d");
+        try {
+            e.compareInt(1, 2, CompareSymbolEnum.GT, "qty", "b", "c", "d");
+            fail();
+        } catch (ErxingException ex) {
+            assertEquals("账套编码(不区分大小写)【qty】不存在", ex.getMessage());
+        }
+        assertFalse(ErxingWarningAssertTest.CusWarning.ITEM_NOT_EXISTS.compareLong(1L, 2L, CompareSymbolEnum.EQ, "a", "b", "c", "d"));
+    }
+
+    public void testCompareBoxedStillResolvesToGeneric() {
+        CusError e = CusError.ACCOUNT_DB_NOT_EXISTS;
+        Integer qty = 3;
+        Long id = 5L;
+        // 包装类型与基本类型混用时仍调用泛型的compare
+        e.compare(qty, 0, CompareSymbolEnum.GT);
+        e.compare(id, 5L, CompareSymbolEnum.EQ, "id");
+    }
+
+    public void testPrimitiveSign() {
+        CusError e = CusError.ACCOUNT_DB_NOT_EXISTS;
+        e.isPositiveInt(1);
+        e.isNegativeLong(-1L, "qty");
+        e.isNonNegativeDouble(0d, "a", "b", "c", "d");
+        e.isZeroDouble(-0d);
+        try {
+            e.isPositiveDouble(Double.NaN, "price");
+            fail();
+        } catch (ErxingException ex) {
+            assertEquals("账套编码(不区分大小写)【price】不存在", ex.getMessage());
+        }
+        try {
+            e.isZeroInt(1, "a", "b", "c", "d");
+            fail();
+        } catch (ErxingException ex) {
+            assertEquals("账套编码(不区分大小写)【a】不存在", ex.getMessage());
+        }
+        ErxingWarningAssertTest.CusWarning w = ErxingWarningAssertTest.CusWarning.ITEM_NOT_EXISTS;
+        assertTrue(w.isNonNegativeInt(0, "row"));
+        assertFalse(w.isNegativeDouble(Double.NaN));
+        assertFalse(w.isPositiveLong(0L, "a", "b", "c", "d"));
+    }
+
+    public void testNumberSign() {
+        CusError e = CusError.ACCOUNT_DB_NOT_EXISTS;
+        e.isPositive(new BigInteger("1"));
+        e.isNegative(-1);
+        e.isNonNegative(0L);
+        e.isZero(BigDecimal.ZERO, "qty");
+        e.isNonNegative(new AtomicLong(3));
+        Integer qty = 2;
+        int row = 1;
+        e.isPositive(qty, row);
+        try {
+            e.isPositive(Double.NaN, "price");
+            fail();
+        } catch (ErxingException ex) {
+            assertEquals("账套编码(不区分大小写)【price】不存在", ex.getMessage());
+        }
+        try {
+            e.isNegative((Number) null);
+            fail();
+        } catch (ErxingException ignored) {
+            // null不是负数
+        }
+    }
+
+    public void testSerializationKeepsRenderedMessage() throws Exception {
+        ErxingException e = CusError.ACCOUNT_DB_NOT_EXISTS.newException("kis001");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(e);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ErxingException copy = (ErxingException) in.readObject();
+            assertEquals("E10001", copy.getCode());
+            assertEquals("账套编码(不区分大小写)【kis001】不存在", copy.getMessage());
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public enum CusError implements ErxingExceptionAssert {
+
+        ACCOUNT_DB_NOT_EXISTS("E10001", "账套编码(不区分大小写)【{0}】不存在"),
+        ;
+
+        private final String code;
+        private final String message;
+
+    }
+}
@@ -0,0 +1,91 @@
+package cn.xuming.erxing.lessif.core;
+
+import cn.xuming.erxing.lessif.R;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-24 21:02:11
+ **/
+public class ErxingValidationContextTest extends TestCase {
+
+    public void testCollectAllFailures() {
+        List<ErxingFailure> failures = ErxingValidationContext.collect(() -> {
+            Errors.NAME_EMPTY.isNotEmpty("");
+            Errors.QTY_INVALID.isTrue(false, -1);
+            Errors.QTY_INVALID.isTrue(true, 1);
+            Errors.NAME_EMPTY.isNotNull(null);
+        });
+        assertEquals(3, failures.size());
+        assertEquals(new ErxingFailure("E60001", "名称不能为空"), failures.get(0));
+        assertEquals(new ErxingFailure("E60002", "数量【-1】不正确"), failures.get(1));
+        assertNull(ErxingValidationContext.current());
+    }
+
+    public void testThrowsOnce() {
+        try {
+            ErxingValidationContext.validate(() -> {
+                Errors.NAME_EMPTY.isNotEmpty("");
+                Errors.QTY_INVALID.isTrue(false, 0);
+            });
+            fail();
+        } catch (ErxingAggregateException e) {
+            assertEquals("E60001", e.getCode());
+            assertEquals("名称不能为空;数量【0】不正确", e.getMessage());
+            assertEquals(2, e.getFailures().size());
+
+            R<List<ErxingFailure>> r = new ErxingExceptionHandler().handleAggregateException(e);
+            assertFalse(r.isSuccess());
+            assertEquals("E60001", r.getCode());
+            assertEquals(e.getFailures(), r.getData());
+        }
+        ErxingValidationContext.validate(() -> Errors.QTY_INVALID.isTrue(true, 1));
+    }
+
+    public void testNestedContext() {
+        try (ErxingValidationContext outer = ErxingValidationContext.open()) {
+            Errors.NAME_EMPTY.isNotEmpty("");
+            try (ErxingValidationContext inner = ErxingValidationContext.open()) {
+                Errors.QTY_INVALID.isTrue(false, 1);
+                assertEquals(1, inner.size());
+            }
+            assertEquals(1, outer.size());
+            assertSame(outer, ErxingValidationContext.current());
+        }
+        try {
+            Errors.NAME_EMPTY.isNotEmpty("");
+            fail();
+        } catch (ErxingException e) {
+            assertFalse(e instanceof ErxingAggregateException);
+        }
+    }
+
+    public void testCallerArgsUntouched() {
+        Object[] args = {-1};
+        List<ErxingFailure> failures = ErxingValidationContext.collect(() -> Errors.QTY_INVALID.isTrue(false, args));
+        assertEquals("数量【-1】不正确", failures.get(0).getMsg());
+        assertEquals(-1, args[0]);
+        // 错误枚举可以声明自己的fail方法
+        assertEquals("E60002", Errors.QTY_INVALID.fail(1).getCode());
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public enum Errors implements ErxingExceptionAssert {
+
+        NAME_EMPTY("E60001", "名称不能为空"),
+        QTY_INVALID("E60002", "数量【{0}】不正确"),
+        ;
+
+        private final String code;
+        private final String message;
+
+        public R<Void> fail(Object... args) {
+            return R.fail(code, message);
+        }
+    }
+}
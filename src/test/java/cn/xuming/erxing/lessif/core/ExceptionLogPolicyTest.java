@@ -0,0 +1,104 @@
+package cn.xuming.erxing.lessif.core;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import cn.xuming.erxing.lessif.ErxingProperties;
+import cn.xuming.erxing.lessif.constant.LogLevelEnum;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-06-22 20:31:09
+ **/
+public class ExceptionLogPolicyTest extends TestCase {
+
+    private Logger logger;
+
+    private ListAppender<ILoggingEvent> appender;
+
+    @Override
+    protected void setUp() {
+        logger = new LoggerContext().getLogger(ExceptionLogPolicyTest.class);
+        logger.setLevel(Level.INFO);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    public void testDefaultIsOneLineWarn() {
+        ExceptionLogPolicy policy = new ExceptionLogPolicy(logger, new ErxingProperties.Logging());
+        policy.log(Errors.ACCOUNT_NOT_EXISTS.newException("kis001"));
+        ILoggingEvent event = single();
+        assertEquals(Level.WARN, event.getLevel());
+        assertEquals("E50201 账套【kis001】不存在", event.getFormattedMessage());
+        assertNull(event.getThrowableProxy());
+    }
+
+    public void testCauseAlwaysLogsStackTrace() {
+        ErxingProperties.Logging properties = new ErxingProperties.Logging();
+        properties.setLevel(LogLevelEnum.INFO);
+        ExceptionLogPolicy policy = new ExceptionLogPolicy(logger, properties);
+        policy.log(new ErxingException("E50202", "调用网关失败", new IllegalStateException("timeout")));
+        ILoggingEvent event = single();
+        assertEquals(Level.ERROR, event.getLevel());
+        assertEquals("timeout", event.getThrowableProxy().getCause().getMessage());
+    }
+
+    public void testPerCodeOverrides() {
+        ErxingProperties.Logging properties = new ErxingProperties.Logging();
+        ErxingProperties.Code off = new ErxingProperties.Code();
+        off.setLevel(LogLevelEnum.OFF);
+        ErxingProperties.Code full = new ErxingProperties.Code();
+        full.setLevel(LogLevelEnum.ERROR);
+        full.setStackTrace(true);
+        ErxingProperties.Code debug = new ErxingProperties.Code();
+        debug.setLevel(LogLevelEnum.DEBUG);
+        properties.getCodes().put("E50201", off);
+        properties.getCodes().put("E50203", full);
+        properties.getCodes().put("E50204", debug);
+        ExceptionLogPolicy policy = new ExceptionLogPolicy(logger, properties);
+        policy.log(Errors.ACCOUNT_NOT_EXISTS.newException("kis001"));
+        policy.log(Errors.STOCK_SHORTAGE.newException());
+        policy.log(new ErxingException("E50204", "未开启的级别"));
+        ILoggingEvent event = single();
+        assertEquals(Level.ERROR, event.getLevel());
+        assertNotNull(event.getThrowableProxy());
+    }
+
+    public void testRateLimitPerCode() {
+        ErxingProperties.Logging properties = new ErxingProperties.Logging();
+        properties.setRateLimit(3);
+        ExceptionLogPolicy policy = new ExceptionLogPolicy(logger, properties);
+        for (int i = 0; i < 1000; i++) {
+            policy.log(Errors.ACCOUNT_NOT_EXISTS.newException(i));
+            policy.log(Errors.STOCK_SHORTAGE.newException());
+        }
+        // 恰好跨过一秒时最多再输出一轮
+        int size = appender.list.size();
+        assertTrue(String.valueOf(size), size >= 6 && size <= 12);
+    }
+
+    private ILoggingEvent single() {
+        List<ILoggingEvent> events = appender.list;
+        assertEquals(1, events.size());
+        return events.get(0);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum Errors implements ErxingExceptionAssert {
+        ACCOUNT_NOT_EXISTS("E50201", "账套【{0}】不存在"),
+        STOCK_SHORTAGE("E50203", "库存不足");
+
+        private final String code;
+
+        private final String message;
+    }
+}
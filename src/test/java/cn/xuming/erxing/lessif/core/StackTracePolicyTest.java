@@ -0,0 +1,118 @@
+package cn.xuming.erxing.lessif.core;
+
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-08 21:10:44
+ **/
+public class StackTracePolicyTest extends TestCase {
+
+    @Override
+    protected void tearDown() {
+        StackTracePolicy.reset();
+    }
+
+    public void testDefaultIsFull() {
+        assertTrue(new ErxingException("E1", "msg").getStackTrace().length > 0);
+    }
+
+    public void testNone() {
+        StackTracePolicy.setDefault(StackTracePolicy.NONE);
+        ErxingException e = new ErxingException("E1", "msg");
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals("msg", e.getMessage());
+    }
+
+    public void testSampled() {
+        StackTracePolicy.setDefault(StackTracePolicy.sampled(3));
+        int captured = 0;
+        for (int i = 0; i < 9; i++) {
+            if (new ErxingException("E1", "msg").getStackTrace().length > 0) {
+                captured++;
+            }
+        }
+        assertEquals(3, captured);
+    }
+
+    public void testCodePolicyOverridesDefault() {
+        StackTracePolicy.setDefault(StackTracePolicy.NONE);
+        StackTracePolicy.set("E2", StackTracePolicy.FULL);
+        assertEquals(0, new ErxingException("E1", "msg").getStackTrace().length);
+        assertTrue(new ErxingException("E2", "msg").getStackTrace().length > 0);
+        StackTracePolicy.set("E2", null);
+        assertEquals(0, new ErxingException("E2", "msg").getStackTrace().length);
+    }
+
+    public void testInitCauseWithoutStackTrace() {
+        StackTracePolicy.setDefault(StackTracePolicy.NONE);
+        IllegalStateException cause = new IllegalStateException("timeout");
+        ErxingException e = new ErxingException("E1", "msg");
+        assertSame(e, e.initCause(cause));
+        assertSame(cause, e.getCause());
+        assertEquals(0, e.getStackTrace().length);
+        ErxingException fromEnum = Errors.ACCOUNT_NOT_EXISTS.newException("kis001");
+        fromEnum.initCause(cause);
+        assertSame(cause, fromEnum.getCause());
+        // 构造时已确定cause的仍与JDK一致
+        try {
+            new ErxingException("E1", "msg", (Throwable) null).initCause(cause);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+        // 构造完成后显式调用时正常采集
+        assertTrue(e.fillInStackTrace().getStackTrace().length > 0);
+    }
+
+    public void testSharedReusesInstanceForConstantMessages() {
+        StackTracePolicy.setDefault(StackTracePolicy.SHARED);
+        ErxingException e = Errors.GATEWAY_TIMEOUT.newException();
+        assertSame(e, Errors.GATEWAY_TIMEOUT.newException());
+        assertNotSame(e, Errors.NETWORK_ERROR.newException());
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals("E50301", e.getCode());
+        assertEquals("网关超时", e.getMessage());
+        assertTrue(e.hasConstantMessage());
+        // 带占位符的错误信息每次创建新的异常,同样不采集堆栈
+        ErxingException withArgs = Errors.ACCOUNT_NOT_EXISTS.newException("kis001");
+        assertNotSame(withArgs, Errors.ACCOUNT_NOT_EXISTS.newException("kis001"));
+        assertEquals(0, withArgs.getStackTrace().length);
+    }
+
+    public void testSharedIsImmutable() {
+        StackTracePolicy.set("E50301", StackTracePolicy.SHARED);
+        ErxingException e = Errors.GATEWAY_TIMEOUT.newException();
+        e.addSuppressed(new IllegalStateException("close failed"));
+        assertEquals(0, e.getSuppressed().length);
+        e.setStackTrace(new StackTraceElement[]{new StackTraceElement("A", "b", "A.java", 1)});
+        assertEquals(0, e.getStackTrace().length);
+        try {
+            e.initCause(new IllegalStateException());
+            fail();
+        } catch (IllegalStateException expected) {
+            assertNull(e.getCause());
+        }
+        try {
+            e.setMessage("已修改");
+            fail();
+        } catch (UnsupportedOperationException expected) {
+            assertEquals("网关超时", Errors.GATEWAY_TIMEOUT.newException().getMessage());
+        }
+        // 未设置SHARED的错误码不受影响
+        assertTrue(Errors.NETWORK_ERROR.newException().getStackTrace().length > 0);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum Errors implements ErxingExceptionAssert {
+        GATEWAY_TIMEOUT("E50301", "网关超时"),
+        NETWORK_ERROR("E50302", "网络异常"),
+        ACCOUNT_NOT_EXISTS("E50303", "账套【{0}】不存在");
+
+        private final String code;
+
+        private final String message;
+    }
+}
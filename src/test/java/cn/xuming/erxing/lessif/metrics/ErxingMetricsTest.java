@@ -0,0 +1,95 @@
+package cn.xuming.erxing.lessif.metrics;
+
+import cn.xuming.erxing.lessif.core.ErxingException;
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-16 21:31:18
+ **/
+public class ErxingMetricsTest extends TestCase {
+
+    public void testCountsPerCode() {
+        long exceptions = ErxingMetrics.exceptionCount("E20001");
+        long warnings = ErxingMetrics.warningCount("W20001");
+        for (int i = 0; i < 3; i++) {
+            try {
+                Codes.ORDER_NOT_EXISTS.isNotNull(null, "SO001");
+            } catch (ErxingException ignored) {
+                // 计数
+            }
+        }
+        Codes.ORDER_NOT_EXISTS.isNotNull(new Object(), "SO001");
+        Warnings.ORDER_CLOSED.isFalse(true, "SO001");
+        assertEquals(exceptions + 3, ErxingMetrics.exceptionCount("E20001"));
+        assertEquals(warnings + 1, ErxingMetrics.warningCount("W20001"));
+    }
+
+    public void testMicrometer() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new ErxingMeterBinder().bindTo(registry);
+        try {
+            Codes.ORDER_NOT_EXISTS.isTrue(false);
+        } catch (ErxingException ignored) {
+            // 计数
+        }
+        double count = registry.get(ErxingMeterBinder.EXCEPTIONS).tag("code", "E20001").functionCounter().count();
+        assertEquals((double) ErxingMetrics.exceptionCount("E20001"), count);
+    }
+
+    public void testCloseRemovesListeners() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ErxingMeterBinder binder = new ErxingMeterBinder();
+        binder.bindTo(registry);
+        binder.close();
+        try {
+            Codes.ORDER_CANCELLED.isTrue(false);
+        } catch (ErxingException ignored) {
+            // 计数
+        }
+        assertEquals(1, ErxingMetrics.exceptionCount("E20002"));
+        assertNull(registry.find(ErxingMeterBinder.EXCEPTIONS).tag("code", "E20002").functionCounter());
+    }
+
+    public void testJmx() throws Exception {
+        ErxingMetricsJmx.register();
+        try {
+            Object total = ManagementFactory.getPlatformMBeanServer()
+                    .getAttribute(new ObjectName(ErxingMetricsJmx.OBJECT_NAME), "TotalExceptions");
+            assertEquals(ErxingMetrics.totalExceptions(), ((Long) total).longValue());
+        } finally {
+            ErxingMetricsJmx.unregister();
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public enum Codes implements ErxingExceptionAssert {
+
+        ORDER_NOT_EXISTS("E20001", "订单【{0}】不存在"),
+        ORDER_CANCELLED("E20002", "订单已取消"),
+        ;
+
+        private final String code;
+        private final String message;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public enum Warnings implements ErxingWarningAssert {
+
+        ORDER_CLOSED("W20001", "订单【{0}】已关闭"),
+        ;
+
+        private final String code;
+        private final String message;
+    }
+}
@@ -0,0 +1,117 @@
+package cn.xuming.erxing.lessif.rule;
+
+import cn.xuming.erxing.lessif.core.ErxingException;
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-06-05 21:40:36
+ **/
+public class ErxingRuleTest extends TestCase {
+
+    public void testCompileOnce() {
+        String expression = "qty > 0 && price <= 10000 && code in (A,B,C)";
+        ErxingRule rule = ErxingRule.compile(expression);
+        assertSame(rule, ErxingRule.compile(expression));
+        assertEquals(expression, rule.getExpression());
+
+        assertTrue(rule.test(order(5, 99.5, "B")));
+        assertFalse(rule.test(order(0, 99.5, "B")));
+        assertFalse(rule.test(order(5, 10000.01, "B")));
+        assertFalse(rule.test(order(5, 99.5, "D")));
+        assertFalse(rule.test(new HashMap<>()));
+    }
+
+    public void testOperators() {
+        Map<String, Object> variables = order(3, 12.5, "A");
+        variables.put("vip", Boolean.TRUE);
+        variables.put("amount", new BigDecimal("12.50"));
+        variables.put("name", "x'y");
+
+        assertTrue(ErxingRule.compile("!(qty < 3) && qty >= 3 && qty != 4 && qty == 3").test(variables));
+        assertTrue(ErxingRule.compile("qty > 10 || vip").test(variables));
+        assertFalse(ErxingRule.compile("qty > 10 || !vip").test(variables));
+        assertTrue(ErxingRule.compile("price == 12.5 && amount == 12.5 && amount == price").test(variables));
+        assertTrue(ErxingRule.compile("qty in (1, 2, 3) && code not in ('B', \"C\")").test(variables));
+        assertTrue(ErxingRule.compile("amount in (12.5) && price in (12.50, 1)").test(variables));
+        assertTrue(ErxingRule.compile("name == \"x'y\" && missing == null && code != null").test(variables));
+        assertTrue(ErxingRule.compile("qty > -1 && qty < 99999999999999999999").test(variables));
+        assertFalse(ErxingRule.compile("missing > 0 || missing in (A)").test(variables));
+    }
+
+    public void testNumericString() {
+        Map<String, Object> variables = order(9, 1, "A");
+        variables.put("total", "10");
+        variables.put("limit", " 12.50 ");
+        assertTrue(ErxingRule.compile("total > 9 && total == 10.0 && total != 11").test(variables));
+        assertTrue(ErxingRule.compile("qty < total && limit >= 12.5 && limit < 13").test(variables));
+        assertFalse(ErxingRule.compile("total < qty").test(variables));
+    }
+
+    public void testNumberWithNonNumericString() {
+        Map<String, Object> variables = order(9, 1, "A");
+        for (String expression : new String[]{"code > 0", "qty == code"}) {
+            try {
+                ErxingRule.compile(expression).test(variables);
+                fail(expression);
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith("规则求值时"));
+            }
+        }
+    }
+
+    public void testSyntaxError() {
+        String[] invalid = {"", "qty >", "qty > 0 &&", "(qty > 0", "qty in A", "qty not (A)", "qty > 0 extra", "code == 'A"};
+        for (String expression : invalid) {
+            try {
+                ErxingRule.compile(expression);
+                fail(expression);
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith("规则表达式第"));
+            }
+        }
+    }
+
+    public void testCheck() {
+        ErxingRule rule = ErxingRule.compile("qty > 0 && code in (A,B,C)");
+        rule.check(order(1, 1, "A"), Errors.ORDER_RULE_INVALID, "NO1");
+        try {
+            rule.check(order(1, 1, "D"), Errors.ORDER_RULE_INVALID, "NO2");
+            fail();
+        } catch (ErxingException e) {
+            assertEquals("E70001", e.getCode());
+            assertEquals("订单【NO2】不满足下单规则", e.getMessage());
+        }
+        try {
+            Errors.ORDER_RULE_INVALID.rule("qty > 0", order(0, 1, "A"), "NO3");
+            fail();
+        } catch (ErxingException e) {
+            assertEquals("订单【NO3】不满足下单规则", e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> order(int qty, double price, String code) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("qty", qty);
+        variables.put("price", price);
+        variables.put("code", code);
+        return variables;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum Errors implements ErxingExceptionAssert {
+        ORDER_RULE_INVALID("E70001", "订单【{0}】不满足下单规则");
+
+        private final String code;
+
+        private final String message;
+    }
+}
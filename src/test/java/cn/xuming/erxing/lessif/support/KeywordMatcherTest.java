@@ -0,0 +1,43 @@
+package cn.xuming.erxing.lessif.support;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-30 21:08:52
+ **/
+public class KeywordMatcherTest extends TestCase {
+
+    public void testFindFirst() {
+        KeywordMatcher matcher = KeywordMatcher.of("he", "she", "his", "hers");
+        assertEquals("she", matcher.findFirst("ushers"));
+        assertEquals("his", matcher.findFirst("this"));
+        assertNull(matcher.findFirst("hxsx"));
+        assertNull(matcher.findFirst(null));
+    }
+
+    public void testSuffixThroughFailureLink() {
+        KeywordMatcher matcher = KeywordMatcher.of("abcd", "bc");
+        assertEquals("bc", matcher.findFirst("xabcx"));
+        assertEquals("bc", matcher.findFirst("abce"));
+    }
+
+    public void testChineseAndLargeSet() {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            words.add("禁用词" + i);
+        }
+        words.add(null);
+        words.add("");
+        KeywordMatcher matcher = KeywordMatcher.of(words);
+        assertEquals(500, matcher.size());
+        // "禁用词4"比"禁用词42"先结束
+        assertEquals("禁用词4", matcher.findFirst("备注中包含禁用词42x"));
+        assertEquals("禁用词7", matcher.findFirst("xx禁用词7"));
+        assertFalse(matcher.matches("备注正常"));
+        assertFalse(KeywordMatcher.of().matches("任意文本"));
+    }
+}
@@ -0,0 +1,45 @@
+package cn.xuming.erxing.lessif.support;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-28 20:44:19
+ **/
+public class MembershipSetTest extends TestCase {
+
+    public void testContains() {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            codes.add("C" + i);
+        }
+        MembershipSet set = MembershipSet.of(codes);
+        assertEquals(5000, set.size());
+        for (String code : codes) {
+            assertTrue(set.contains(new String(code.toCharArray())));
+        }
+        assertFalse(set.contains("C5000"));
+        assertFalse(set.contains(""));
+        assertFalse(set.contains(null));
+    }
+
+    public void testIgnoresNullAndDuplicates() {
+        MembershipSet set = MembershipSet.of("A", null, "B", "A");
+        assertEquals(2, set.size());
+        assertTrue(set.toList().containsAll(Arrays.asList("A", "B")));
+        assertTrue(MembershipSet.of().isEmpty());
+        assertFalse(MembershipSet.of().contains("A"));
+    }
+
+    public void testCollidingHashes() {
+        // "Aa"与"BB"的hashCode相同
+        MembershipSet set = MembershipSet.of("Aa", "BB");
+        assertTrue(set.contains("Aa"));
+        assertTrue(set.contains("BB"));
+        assertFalse(set.contains("AaAa".substring(2, 4) + "x"));
+    }
+}
@@ -0,0 +1,86 @@
+package cn.xuming.erxing.lessif.support;
+
+import junit.framework.TestCase;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.Date;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-06 22:05:10
+ **/
+public class MessageTemplateTest extends TestCase {
+
+    private static final String[] PATTERNS = {
+            "",
+            "账套编码(不区分大小写)【{0}】不存在",
+            "{0}{1}{0}",
+            "没有占位符",
+            "It''s {0}",
+            "'{0}' 是字面量 {0}",
+            "未闭合的引号 '{0}",
+            "{1} 跳过了 {0} 和 {3}",
+            "数量 {0,number} 金额 {1,number,#.##}",
+            "{0,choice,0#没有|1#一个|1<{0,number,integer}个}",
+            "右括号}单独出现",
+            "'''{0}'''",
+    };
+
+    private static final Object[][] ARGS = {
+            null,
+            {},
+            {"A"},
+            {"A", "B"},
+            {1234567, new BigDecimal("3.14159")},
+            {null, "B", 3L},
+            {new Object() {
+                @Override
+                public String toString() {
+                    return "自定义";
+                }
+            }, 'c', true, 9.5d},
+            {new Date(0L), "x"},
+    };
+
+    public void testSameOutputAsMessageFormat() {
+        for (String pattern : PATTERNS) {
+            MessageTemplate template = MessageTemplate.of(pattern);
+            for (Object[] args : ARGS) {
+                String expected;
+                try {
+                    expected = MessageFormat.format(pattern, args);
+                } catch (IllegalArgumentException e) {
+                    try {
+                        template.format(args);
+                        fail("应当与MessageFormat一样抛出异常: " + pattern);
+                    } catch (IllegalArgumentException ignored) {
+                        // 与MessageFormat行为一致
+                    }
+                    continue;
+                }
+                assertEquals(pattern, expected, template.format(args));
+            }
+        }
+    }
+
+    public void testCompiledOnce() {
+        assertSame(MessageTemplate.of("商品编码【{0}】不存在"), MessageTemplate.of("商品编码【{0}】不存在"));
+    }
+
+    public void testHasArguments() {
+        assertFalse(MessageTemplate.of("请求失败").hasArguments());
+        assertFalse(MessageTemplate.of("'{0}'").hasArguments());
+        assertTrue(MessageTemplate.of("{0}").hasArguments());
+        assertTrue(MessageTemplate.of("{0,number}").hasArguments());
+    }
+
+    public void testInvalidPattern() {
+        try {
+            MessageTemplate.of("{0");
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 与MessageFormat一致
+        }
+    }
+}
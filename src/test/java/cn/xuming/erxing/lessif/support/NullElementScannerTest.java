@@ -0,0 +1,60 @@
+package cn.xuming.erxing.lessif.support;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-26 20:31:47
+ **/
+public class NullElementScannerTest extends TestCase {
+
+    private static final int SIZE = 200_000;
+
+    @Override
+    protected void tearDown() {
+        NullElementScanner.setParallelThreshold(NullElementScanner.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public void testFirstNullInLargeArray() {
+        Object[] array = filled(SIZE);
+        assertEquals(-1, NullElementScanner.indexOfNull(array));
+        array[150_000] = null;
+        array[SIZE - 1] = null;
+        assertEquals(150_000, NullElementScanner.indexOfNull(array));
+        array[7] = null;
+        assertEquals(7, NullElementScanner.indexOfNull(array));
+    }
+
+    public void testFirstNullInLargeList() {
+        Object[] array = filled(SIZE);
+        array[99_999] = null;
+        array[100_001] = null;
+        List<Object> list = new ArrayList<>(Arrays.asList(array));
+        assertEquals(99_999, NullElementScanner.indexOfNull(list));
+        assertEquals(99_999, NullElementScanner.indexOfNull(new LinkedList<>(list)));
+    }
+
+    public void testThreshold() {
+        NullElementScanner.setParallelThreshold(1024);
+        Object[] array = filled(10_000);
+        array[5_000] = null;
+        assertEquals(5_000, NullElementScanner.indexOfNull(array));
+        try {
+            NullElementScanner.setParallelThreshold(10);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+            // 阈值过小
+        }
+    }
+
+    private static Object[] filled(int size) {
+        Object[] array = new Object[size];
+        Arrays.fill(array, Boolean.TRUE);
+        return array;
+    }
+}
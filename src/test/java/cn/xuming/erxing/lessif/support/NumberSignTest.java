@@ -0,0 +1,42 @@
+package cn.xuming.erxing.lessif.support;
+
+import junit.framework.TestCase;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-06-03 20:58:14
+ **/
+public class NumberSignTest extends TestCase {
+
+    public void testBuiltInTypes() {
+        assertEquals(NumberSign.POSITIVE, NumberSign.of(Integer.valueOf(1)));
+        assertEquals(NumberSign.NEGATIVE, NumberSign.of(Long.valueOf(-1)));
+        assertEquals(NumberSign.ZERO, NumberSign.of(Short.valueOf((short) 0)));
+        assertEquals(NumberSign.NEGATIVE, NumberSign.of(Byte.valueOf((byte) -3)));
+        assertEquals(NumberSign.POSITIVE, NumberSign.of(Double.valueOf(0.001)));
+        assertEquals(NumberSign.ZERO, NumberSign.of(Double.valueOf(-0.0)));
+        assertEquals(NumberSign.NAN, NumberSign.of(Float.NaN));
+        assertEquals(NumberSign.POSITIVE, NumberSign.of(new BigDecimal("0.0000000000000000001")));
+        assertEquals(NumberSign.ZERO, NumberSign.of(new BigDecimal("0.000")));
+    }
+
+    public void testOtherNumberTypes() {
+        assertEquals(NumberSign.POSITIVE, NumberSign.of(new BigInteger("123456789012345678901234567890")));
+        assertEquals(NumberSign.NEGATIVE, NumberSign.of(new AtomicInteger(-1)));
+        assertEquals(NumberSign.POSITIVE, NumberSign.of(new AtomicLong(Long.MAX_VALUE)));
+        LongAdder adder = new LongAdder();
+        assertEquals(NumberSign.ZERO, NumberSign.of(adder));
+        DoubleAdder doubleAdder = new DoubleAdder();
+        doubleAdder.add(-0.5);
+        assertEquals(NumberSign.NEGATIVE, NumberSign.of(doubleAdder));
+        assertEquals(NumberSign.POSITIVE, NumberSign.of(new BigDecimal("1") {
+        }));
+    }
+}
@@ -0,0 +1,142 @@
+package cn.xuming.erxing.lessif.validation;
+
+import cn.xuming.erxing.lessif.core.ErxingException;
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+import cn.xuming.erxing.lessif.core.ErxingFailure;
+import cn.xuming.erxing.lessif.core.ErxingValidationContext;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-06-08 20:36:19
+ **/
+public class ErxingValidatorTest extends TestCase {
+
+    public void testValid() {
+        assertSame(ErxingValidator.of(OrderDTO.class), ErxingValidator.of(OrderDTO.class));
+        ErxingValidator.validate(validOrder());
+    }
+
+    public void testFirstFailureThrows() {
+        OrderDTO order = validOrder();
+        order.name = "";
+        order.qty = 0;
+        try {
+            ErxingValidator.validate(order);
+            fail();
+        } catch (ErxingException e) {
+            assertEquals("E80002", e.getCode());
+            assertEquals("【名称】不能为空", e.getMessage());
+        }
+    }
+
+    public void testInheritedFieldsCheckedFirst() {
+        OrderDTO order = validOrder();
+        order.id = null;
+        order.name = null;
+        List<ErxingFailure> failures = ErxingValidationContext.collect(() -> ErxingValidator.validate(order));
+        assertEquals(2, failures.size());
+        assertEquals(new ErxingFailure("E80001", "编号不能为空"), failures.get(0));
+        assertEquals(new ErxingFailure("E80002", "【名称】不能为空"), failures.get(1));
+    }
+
+    public void testAllAnnotations() {
+        OrderDTO order = validOrder();
+        order.lines = Collections.emptyList();
+        order.qty = -1;
+        order.price = 0;
+        order.amount = BigDecimal.ZERO;
+        order.rows = 0;
+        order.tags = new String[0];
+        List<ErxingFailure> failures = ErxingValidationContext.collect(() -> ErxingValidator.validate(order));
+        assertEquals(6, failures.size());
+        assertEquals("【明细】不能为空", failures.get(0).getMsg());
+        assertEquals("【数量】必须大于0", failures.get(1).getMsg());
+        assertEquals("【单价】必须大于0", failures.get(2).getMsg());
+        assertEquals("【金额】必须大于0", failures.get(3).getMsg());
+        assertEquals("【行数】必须大于0", failures.get(4).getMsg());
+        assertEquals("【标签】不能为空", failures.get(5).getMsg());
+    }
+
+    public void testInvalidDeclaration() {
+        try {
+            ErxingValidator.of(UnknownCodeDTO.class);
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("E89999"));
+        }
+        try {
+            ErxingValidator.of(UnsupportedTypeDTO.class);
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("@ErxingNotEmpty"));
+        }
+    }
+
+    private static OrderDTO validOrder() {
+        OrderDTO order = new OrderDTO();
+        order.id = 1L;
+        order.name = "订单";
+        order.lines = Collections.singletonList("明细1");
+        order.qty = 1;
+        order.price = 0.5;
+        order.amount = new BigDecimal("0.01");
+        order.rows = 1;
+        order.tags = new String[]{"a"};
+        return order;
+    }
+
+    @ErxingValidated(Errors.class)
+    static class BaseDTO {
+        @ErxingNotNull(code = "E80001")
+        Long id;
+    }
+
+    static class OrderDTO extends BaseDTO {
+        @ErxingNotEmpty(code = "E80002", args = "名称")
+        String name;
+        @ErxingNotEmpty(code = "E80002", args = "明细")
+        List<String> lines;
+        @ErxingPositive(code = "E80003", args = "数量")
+        int qty;
+        @ErxingPositive(code = "E80003", args = "单价")
+        double price;
+        @ErxingPositive(code = "E80003", args = {"金额", "", "", ""})
+        BigDecimal amount;
+        @ErxingPositive(code = "E80003", args = {"行数", "", "", ""})
+        short rows;
+        @ErxingNotEmpty(code = "E80002", args = "标签")
+        String[] tags;
+        String remark;
+    }
+
+    @ErxingValidated(Errors.class)
+    static class UnknownCodeDTO {
+        @ErxingNotNull(code = "E89999")
+        String id;
+    }
+
+    @ErxingValidated(Errors.class)
+    static class UnsupportedTypeDTO {
+        @ErxingNotEmpty(code = "E80002")
+        Long id;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum Errors implements ErxingExceptionAssert {
+        ID_NULL("E80001", "编号不能为空"),
+        EMPTY("E80002", "【{0}】不能为空"),
+        NOT_POSITIVE("E80003", "【{0}】必须大于0");
+
+        private final String code;
+
+        private final String message;
+    }
+}
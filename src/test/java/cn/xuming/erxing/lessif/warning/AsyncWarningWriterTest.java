@@ -0,0 +1,187 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.constant.OverflowPolicyEnum;
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-18 21:06:50
+ **/
+public class AsyncWarningWriterTest extends TestCase {
+
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @Override
+    protected void setUp() {
+        ErxingWarningAssert.logger.addHandler(handler);
+    }
+
+    @Override
+    protected void tearDown() {
+        AsyncWarningWriter.disable();
+        ErxingWarningAssert.logger.removeHandler(handler);
+    }
+
+    public void testAsyncWriteAndFlush() {
+        AsyncWarningWriter.enable(64, OverflowPolicyEnum.BLOCK);
+        assertTrue(AsyncWarningWriter.isEnabled());
+        for (int i = 0; i < 200; i++) {
+            assertFalse(Warnings.STOCK_LOW.isTrue(false, "SKU" + i));
+        }
+        assertTrue(AsyncWarningWriter.flush(5, TimeUnit.SECONDS));
+        assertEquals(200, messages.size());
+        assertTrue(messages.contains("商品【SKU199】库存不足"));
+    }
+
+    public void testDisableWritesRemaining() {
+        AsyncWarningWriter.enable(1024, OverflowPolicyEnum.BLOCK);
+        for (int i = 0; i < 100; i++) {
+            Warnings.STOCK_LOW.isTrue(false, "SKU" + i);
+        }
+        AsyncWarningWriter.disable();
+        assertFalse(AsyncWarningWriter.isEnabled());
+        assertEquals(100, messages.size());
+
+        Warnings.STOCK_LOW.isTrue(false, "SYNC");
+        assertEquals("商品【SYNC】库存不足", messages.get(100));
+    }
+
+    public void testDisableRacingProducersLosesNothing() throws Exception {
+        AtomicInteger written = new AtomicInteger();
+        WarningSinks.set(new WarningSink() {
+            @Override
+            public String name() {
+                return "counting";
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return true;
+            }
+
+            @Override
+            public void warn(String code, MessageTemplate template, Object[] args) {
+                written.incrementAndGet();
+            }
+        });
+        try {
+            for (int round = 0; round < 20; round++) {
+                written.set(0);
+                AsyncWarningWriter.enable(16, OverflowPolicyEnum.BLOCK);
+                Thread[] producers = new Thread[4];
+                for (int t = 0; t < producers.length; t++) {
+                    int id = t;
+                    producers[t] = new Thread(() -> {
+                        for (int i = 0; i < 500; i++) {
+                            Warnings.STOCK_LOW.isTrue(false, id + "-" + i);
+                        }
+                    });
+                    producers[t].start();
+                }
+                Thread.yield();
+                AsyncWarningWriter.disable();
+                for (Thread producer : producers) {
+                    producer.join();
+                }
+                assertEquals(producers.length * 500, written.get());
+            }
+        } finally {
+            WarningSinks.set(null);
+        }
+    }
+
+    public void testRingBufferOverflow() {
+        WarningRingBuffer buffer = new WarningRingBuffer(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(Warnings.STOCK_LOW, new Object[]{i}));
+        }
+        assertFalse(buffer.offer(Warnings.STOCK_LOW, new Object[]{4}));
+        List<Object> polled = new ArrayList<>();
+        while (buffer.poll((warning, args) -> polled.add(args[0]))) {
+            // 取出全部
+        }
+        assertEquals(4, polled.size());
+        assertEquals(0, polled.get(0));
+        assertEquals(3, polled.get(3));
+        assertEquals(0L, buffer.size());
+        assertTrue(buffer.offer(Warnings.STOCK_LOW, new Object[]{5}));
+    }
+
+    public void testSinkFailureKeepsDraining() {
+        AtomicInteger written = new AtomicInteger();
+        WarningSinks.set(new WarningSink() {
+            @Override
+            public String name() {
+                return "failing";
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return true;
+            }
+
+            @Override
+            public void warn(String code, MessageTemplate template, Object[] args) {
+                if ("boom".equals(args[0])) {
+                    throw new IllegalStateException("sink failed");
+                }
+                written.incrementAndGet();
+            }
+        });
+        try {
+            long failed = AsyncWarningWriter.getFailedCount();
+            AsyncWarningWriter.enable(4, OverflowPolicyEnum.BLOCK);
+            Warnings.STOCK_LOW.isTrue(false, "boom");
+            // 队列容量为4,后台线程已终止时BLOCK策略会在这里一直等待
+            for (int i = 0; i < 100; i++) {
+                Warnings.STOCK_LOW.isTrue(false, "SKU" + i);
+            }
+            assertTrue(AsyncWarningWriter.flush(5, TimeUnit.SECONDS));
+            assertEquals(100, written.get());
+            assertEquals(failed + 1, AsyncWarningWriter.getFailedCount());
+            assertTrue(messages.contains("警告W30001输出失败"));
+        } finally {
+            AsyncWarningWriter.disable();
+            WarningSinks.set(null);
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public enum Warnings implements ErxingWarningAssert {
+
+        STOCK_LOW("W30001", "商品【{0}】库存不足"),
+        ;
+
+        private final String code;
+        private final String message;
+    }
+}
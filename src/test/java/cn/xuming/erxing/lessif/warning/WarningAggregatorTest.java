@@ -0,0 +1,103 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-20 21:12:37
+ **/
+public class WarningAggregatorTest extends TestCase {
+
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @Override
+    protected void setUp() {
+        ErxingWarningAssert.logger.addHandler(handler);
+    }
+
+    @Override
+    protected void tearDown() {
+        WarningAggregator.disable();
+        WarningAggregator.clearSampleRates();
+        ErxingWarningAssert.logger.removeHandler(handler);
+    }
+
+    public void testSuppressWithinWindow() {
+        WarningAggregator.enable(1, TimeUnit.HOURS, false);
+        for (int i = 0; i < 1001; i++) {
+            assertFalse(Warnings.ITEM_NOT_EXISTS.isNotNull(null, "A" + i));
+        }
+        assertEquals(Collections.singletonList("商品【A0】不存在"), messages);
+
+        WarningAggregator.disable();
+        assertEquals(2, messages.size());
+        assertEquals("W40001 suppressed 1,000 times in 0s", messages.get(1));
+    }
+
+    public void testPerArguments() {
+        WarningAggregator.enable(1, TimeUnit.HOURS, true);
+        for (int i = 0; i < 10; i++) {
+            Warnings.ITEM_NOT_EXISTS.isNotNull(null, "A");
+            Warnings.ITEM_NOT_EXISTS.isNotNull(null, "B");
+        }
+        assertEquals(2, messages.size());
+        WarningAggregator.disable();
+        assertEquals(4, messages.size());
+        assertTrue(messages.contains("W40001 suppressed 9 times in 0s"));
+    }
+
+    public void testWindowRollsOver() throws InterruptedException {
+        WarningAggregator.enable(50, TimeUnit.MILLISECONDS, false);
+        Warnings.ITEM_NOT_EXISTS.isNotNull(null, "A");
+        Warnings.ITEM_NOT_EXISTS.isNotNull(null, "A");
+        Thread.sleep(200);
+        assertTrue(messages.contains("W40001 suppressed 1 times in 0s"));
+        Warnings.ITEM_NOT_EXISTS.isNotNull(null, "A");
+        assertEquals("商品【A】不存在", messages.get(messages.size() - 1));
+    }
+
+    public void testSampling() {
+        WarningAggregator.setSampleRate("W40001", 3);
+        for (int i = 0; i < 9; i++) {
+            Warnings.ITEM_NOT_EXISTS.isNotNull(null, i);
+        }
+        assertEquals(3, messages.size());
+        assertEquals("商品【3】不存在", messages.get(1));
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public enum Warnings implements ErxingWarningAssert {
+
+        ITEM_NOT_EXISTS("W40001", "商品【{0}】不存在"),
+        ;
+
+        private final String code;
+        private final String message;
+    }
+}
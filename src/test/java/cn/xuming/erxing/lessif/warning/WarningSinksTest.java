@@ -0,0 +1,141 @@
+package cn.xuming.erxing.lessif.warning;
+
+import cn.xuming.erxing.lessif.core.ErxingWarningAssert;
+import cn.xuming.erxing.lessif.support.MessageTemplate;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-05-22 21:05:18
+ **/
+public class WarningSinksTest extends TestCase {
+
+    @Override
+    protected void tearDown() {
+        WarningSinks.set(null);
+        System.clearProperty(WarningSinks.SINK_PROPERTY);
+    }
+
+    public void testDefaultIsJul() {
+        WarningSinks.set(null);
+        assertTrue(WarningSinks.get() instanceof JulWarningSink);
+    }
+
+    public void testSelectByProperty() {
+        System.setProperty(WarningSinks.SINK_PROPERTY, "slf4j");
+        WarningSinks.set(null);
+        assertTrue(WarningSinks.get() instanceof Slf4jWarningSink);
+        assertEquals(3, WarningSinks.available().size());
+    }
+
+    public void testUnknownSinkFallsBackToJul() {
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        ErxingWarningAssert.logger.addHandler(handler);
+        try {
+            System.setProperty(WarningSinks.SINK_PROPERTY, "log4j");
+            WarningSinks.set(null);
+            WarningSink sink = WarningSinks.get();
+            assertTrue(sink instanceof JulWarningSink);
+            assertSame(sink, WarningSinks.get());
+            assertFalse(Warnings.ACCOUNT_MISSING.isNotNull(null, "kis001"));
+            int reported = 0;
+            for (LogRecord record : records) {
+                if (record.getMessage().contains("log4j")) {
+                    reported++;
+                    assertEquals(Level.WARNING, record.getLevel());
+                }
+            }
+            assertEquals(1, reported);
+        } finally {
+            ErxingWarningAssert.logger.removeHandler(handler);
+        }
+    }
+
+    public void testSinkReceivesRawArguments() {
+        RecordingSink sink = new RecordingSink(true);
+        WarningSinks.set(sink);
+        Object arg = new Object();
+        assertFalse(Warnings.ACCOUNT_MISSING.isNotNull(null, arg));
+        assertEquals(1, sink.codes.size());
+        assertEquals("W50001", sink.codes.get(0));
+        assertEquals("账户【{0}】不存在", sink.templates.get(0).getPattern());
+        assertSame(arg, sink.args.get(0)[0]);
+    }
+
+    public void testDisabledSinkSkipsFormatting() {
+        RecordingSink sink = new RecordingSink(false);
+        WarningSinks.set(sink);
+        assertFalse(Warnings.ACCOUNT_MISSING.isNotNull(null, new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("不应格式化");
+            }
+        }));
+        assertTrue(sink.codes.isEmpty());
+    }
+
+    private static final class RecordingSink implements WarningSink {
+
+        private final boolean enabled;
+
+        private final List<String> codes = new ArrayList<>();
+
+        private final List<MessageTemplate> templates = new ArrayList<>();
+
+        private final List<Object[]> args = new ArrayList<>();
+
+        private RecordingSink(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public void warn(String code, MessageTemplate template, Object[] args) {
+            codes.add(code);
+            templates.add(template);
+            this.args.add(args);
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public enum Warnings implements ErxingWarningAssert {
+
+        ACCOUNT_MISSING("W50001", "账户【{0}】不存在"),
+        ;
+
+        private final String code;
+        private final String message;
+    }
+}
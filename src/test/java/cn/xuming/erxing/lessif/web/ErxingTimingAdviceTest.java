@@ -0,0 +1,61 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.R;
+import junit.framework.TestCase;
+import org.springframework.http.server.ServletServerHttpRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-06-16 20:31:52
+ **/
+public class ErxingTimingAdviceTest extends TestCase {
+
+    public void testFillsTimestampAndElapsedMillis() throws InterruptedException {
+        HttpServletRequest request = request();
+        new ErxingTimingInterceptor().preHandle(request, null, null);
+        Thread.sleep(20);
+        R<Void> r = R.ok();
+        Object body = new ErxingTimingAdvice(false).beforeBodyWrite(r, null, null, null, new ServletServerHttpRequest(request), null);
+        assertSame(r, body);
+        assertNotNull(r.getTimestamp());
+        assertTrue(r.getElapsedMillis() >= 20);
+        assertNull(r.getElapsed());
+    }
+
+    public void testLegacyElapsed() {
+        HttpServletRequest request = request();
+        request.setAttribute(ErxingTimingInterceptor.START_ATTRIBUTE, System.nanoTime());
+        R<Void> r = R.fail("E10001", "请求失败");
+        new ErxingTimingAdvice(true).beforeBodyWrite(r, null, null, null, new ServletServerHttpRequest(request), null);
+        assertEquals("耗时:" + r.getElapsedMillis() + "ms", r.getElapsed());
+    }
+
+    public void testWithoutInterceptor() {
+        R<Void> r = R.ok();
+        new ErxingTimingAdvice(true).beforeBodyWrite(r, null, null, null, new ServletServerHttpRequest(request()), null);
+        assertNotNull(r.getTimestamp());
+        assertNull(r.getElapsedMillis());
+        assertEquals("text", new ErxingTimingAdvice(true).beforeBodyWrite("text", null, null, null, null, null));
+    }
+
+    private static HttpServletRequest request() {
+        Map<String, Object> attributes = new HashMap<>();
+        return (HttpServletRequest) Proxy.newProxyInstance(ErxingTimingAdviceTest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getAttribute":
+                            return attributes.get(args[0]);
+                        case "setAttribute":
+                            attributes.put((String) args[0], args[1]);
+                            return null;
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
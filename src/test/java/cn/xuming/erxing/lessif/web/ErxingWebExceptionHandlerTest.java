@@ -0,0 +1,92 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.R;
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+import cn.xuming.erxing.lessif.core.ErxingExceptionHandler;
+import cn.xuming.erxing.lessif.core.ErxingValidationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.time.Duration;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-06-20 21:20:36
+ **/
+public class ErxingWebExceptionHandlerTest extends TestCase {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final ErxingWebExceptionHandler handler = new ErxingWebExceptionHandler(new ErxingExceptionHandler(), mapper, false);
+
+    public void testSameJsonAsMvc() throws Exception {
+        assertEquals(mapper.writeValueAsString(R.fail("E50101", "网关超时")), handle(Errors.GATEWAY_TIMEOUT.newException()));
+        assertEquals(mapper.writeValueAsString(R.fail("E50102", "账套【kis001】不存在")),
+                handle(Errors.ACCOUNT_NOT_EXISTS.newException("kis001")));
+    }
+
+    public void testAggregate() throws Exception {
+        try {
+            ErxingValidationContext.validate(() -> {
+                Errors.GATEWAY_TIMEOUT.isTrue(false);
+                Errors.ACCOUNT_NOT_EXISTS.isTrue(false, "kis001");
+            });
+            fail();
+        } catch (RuntimeException e) {
+            String json = handle(e);
+            assertTrue(json, json.contains("\"data\":[{"));
+            assertTrue(json, json.contains("账套【kis001】不存在"));
+        }
+    }
+
+    public void testStatusAndContentType() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        handler.handle(exchange, Errors.GATEWAY_TIMEOUT.newException()).block(Duration.ofSeconds(5));
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, exchange.getResponse().getHeaders().getContentType());
+    }
+
+    public void testTimestamp() {
+        ErxingWebExceptionHandler timing = new ErxingWebExceptionHandler(new ErxingExceptionHandler(), mapper, true);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        timing.handle(exchange, Errors.GATEWAY_TIMEOUT.newException()).block(Duration.ofSeconds(5));
+        String json = exchange.getResponse().getBodyAsString().block(Duration.ofSeconds(5));
+        assertTrue(json, json.matches("\\{\"timestamp\":\"\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\".*"));
+    }
+
+    public void testOtherExceptionsPassThrough() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        IllegalStateException error = new IllegalStateException("boom");
+        try {
+            handler.handle(exchange, error).block(Duration.ofSeconds(5));
+            fail();
+        } catch (IllegalStateException e) {
+            assertSame(error, e);
+        }
+        assertFalse(exchange.getResponse().isCommitted());
+    }
+
+    private String handle(Throwable e) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        handler.handle(exchange, e).block(Duration.ofSeconds(5));
+        return exchange.getResponse().getBodyAsString().block(Duration.ofSeconds(5));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum Errors implements ErxingExceptionAssert {
+        GATEWAY_TIMEOUT("E50101", "网关超时"),
+        ACCOUNT_NOT_EXISTS("E50102", "账套【{0}】不存在");
+
+        private final String code;
+
+        private final String message;
+    }
+}
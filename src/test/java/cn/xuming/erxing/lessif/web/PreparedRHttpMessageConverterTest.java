@@ -0,0 +1,106 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.R;
+import cn.xuming.erxing.lessif.core.ErxingExceptionAssert;
+import cn.xuming.erxing.lessif.core.ErxingExceptionHandler;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-06-12 21:40:05
+ **/
+public class PreparedRHttpMessageConverterTest extends TestCase {
+
+    private final ErxingExceptionHandler handler = new ErxingExceptionHandler();
+
+    public void testHandlerReturnsPreparedOnlyForConstantMessages() {
+        R<Void> constant = handler.handleCustomException(Errors.REQUEST_FAILED.newException());
+        assertTrue(constant instanceof PreparedR);
+        assertEquals(R.fail("E50001", "请求失败\"网关\"超时"), constant);
+        assertFalse(handler.handleCustomException(Errors.ACCOUNT_NOT_EXISTS.newException("kis001")) instanceof PreparedR);
+    }
+
+    public void testByteCompatible() throws IOException {
+        ObjectMapper[] mappers = {
+                Jackson2ObjectMapperBuilder.json().build(),
+                Jackson2ObjectMapperBuilder.json().serializationInclusion(JsonInclude.Include.NON_NULL).build(),
+                Jackson2ObjectMapperBuilder.json().indentOutput(true).build()
+        };
+        for (ObjectMapper mapper : mappers) {
+            PreparedRHttpMessageConverter converter = new PreparedRHttpMessageConverter(mapper);
+            for (int variant = 0; variant < 8; variant++) {
+                R<Void> r = handler.handleCustomException(Errors.REQUEST_FAILED.newException());
+                if ((variant & 1) != 0) {
+                    r.setTimestamp(LocalDateTime.of(2024, 6, 12, 21, 40, 5));
+                }
+                if ((variant & 2) != 0) {
+                    r.setElapsed("耗时:\"12ms\"");
+                }
+                if ((variant & 4) != 0) {
+                    r.setElapsedMillis(12L);
+                }
+                // 两次输出分别覆盖生成模板和使用模板
+                assertSameJson(mapper, converter, r);
+                assertSameJson(mapper, converter, r);
+            }
+        }
+    }
+
+    public void testModifiedResponseFallsBack() throws IOException {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        PreparedRHttpMessageConverter converter = new PreparedRHttpMessageConverter(mapper);
+        R<Void> r = handler.handleCustomException(Errors.REQUEST_FAILED.newException());
+        r.setMsg("已修改");
+        assertSameJson(mapper, converter, r);
+        assertTrue(new String(write(converter, r), "UTF-8").contains("已修改"));
+    }
+
+    private static void assertSameJson(ObjectMapper mapper, PreparedRHttpMessageConverter converter, R<Void> r) throws IOException {
+        R<Void> plain = new R<>(r.getTimestamp(), r.getElapsed(), r.getElapsedMillis(), r.isSuccess(), r.getCode(), r.getMsg(), r.getData());
+        byte[] expected = mapper.writeValueAsBytes(plain);
+        byte[] actual = write(converter, r);
+        assertTrue(new String(actual, "UTF-8"), Arrays.equals(expected, actual));
+    }
+
+    private static byte[] write(PreparedRHttpMessageConverter converter, R<Void> r) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HttpHeaders headers = new HttpHeaders();
+        converter.write((PreparedR) r, MediaType.APPLICATION_JSON, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return out;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        });
+        return out.toByteArray();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum Errors implements ErxingExceptionAssert {
+        REQUEST_FAILED("E50001", "请求失败\"网关\"超时"),
+        ACCOUNT_NOT_EXISTS("E50002", "账套【{0}】不存在");
+
+        private final String code;
+
+        private final String message;
+    }
+}
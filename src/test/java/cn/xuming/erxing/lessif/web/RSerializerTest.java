@@ -0,0 +1,88 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.R;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import junit.framework.TestCase;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-06-14 20:51:17
+ **/
+public class RSerializerTest extends TestCase {
+
+    public void testSameAsBeanSerializer() throws Exception {
+        LocalDateTime time = LocalDateTime.of(2024, 6, 14, 20, 51, 17, 123_000_000);
+        List<R<?>> responses = Arrays.asList(
+                R.ok(),
+                R.ok(new Item("kis001", "金蝶\"KIS\"", 99.9d)),
+                R.okList(Arrays.asList(new Item("a", null, 1), new Item("b", "", 2))),
+                R.okList(Collections.emptyList()),
+                R.fail("E10001", "账套【kis001】不存在"),
+                R.fail("E10001", "", Collections.singletonMap("key", time)),
+                new R<>(time, "耗时:12ms", true, "0", "请求成功", 1L),
+                new R<>(time, null, 12L, true, "0", "请求成功", null));
+        JsonInclude.Include[] inclusions = {JsonInclude.Include.ALWAYS, JsonInclude.Include.NON_NULL, JsonInclude.Include.NON_EMPTY};
+        for (JsonInclude.Include inclusion : inclusions) {
+            ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().serializationInclusion(inclusion).build();
+            ObjectMapper beanMapper = mapper.copy().addMixIn(R.class, BeanSerialization.class);
+            for (R<?> r : responses) {
+                assertEquals(inclusion + " " + r, beanMapper.writeValueAsString(r), mapper.writeValueAsString(r));
+            }
+        }
+    }
+
+    public void testSubclassKeepsOwnFields() throws Exception {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        PageR<Item> page = new PageR<>(Collections.singletonList(new Item("a", "金蝶", 1)), 25L);
+        String json = mapper.writeValueAsString(page);
+        assertTrue(json, json.contains("\"total\":25"));
+        assertTrue(json, json.contains("\"number\":\"a\""));
+        ObjectMapper beanMapper = mapper.copy().addMixIn(R.class, BeanSerialization.class);
+        assertEquals(beanMapper.writeValueAsString(page), json);
+        // 缓存的序列化器再次使用
+        assertEquals(json, mapper.writeValueAsString(page));
+        assertEquals(mapper.writeValueAsString(R.ok()), beanMapper.writeValueAsString(R.ok()));
+    }
+
+    public void testTimestampCachedPerSecond() {
+        LocalDateTime time = LocalDateTime.of(2024, 6, 14, 20, 51, 17);
+        String text = RSerializer.format(time);
+        assertEquals("2024-06-14 20:51:17", text);
+        assertSame(text, RSerializer.format(time.plusNanos(999_999_999)));
+        assertEquals("2024-06-14 20:51:18", RSerializer.format(time.plusSeconds(1)));
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    interface BeanSerialization {
+    }
+
+    @Getter
+    static class PageR<T> extends R<List<T>> {
+        private final long total;
+
+        PageR(List<T> rows, long total) {
+            super(rows);
+            this.total = total;
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class Item {
+        private String number;
+        private String name;
+        private double price;
+    }
+}
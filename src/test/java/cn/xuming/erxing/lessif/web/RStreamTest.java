@@ -0,0 +1,141 @@
+package cn.xuming.erxing.lessif.web;
+
+import cn.xuming.erxing.lessif.R;
+import cn.xuming.erxing.lessif.RStream;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junit.framework.TestCase;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * @author: 徐铭
+ * @since: 2024-06-18 20:48:06
+ **/
+public class RStreamTest extends TestCase {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+    public void testTrailingMsg() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        RStream<String> r = R.okStream(Stream.of("a", null, "c").onClose(() -> closed.set(true)));
+        assertEquals("{\"timestamp\":null,\"elapsed\":null,\"success\":true,\"code\":\"0\",\"data\":[\"a\",null,\"c\"],\"msg\":\"请求成功,数据共3行\"}",
+                mapper.writeValueAsString(r));
+        assertTrue(closed.get());
+        assertEquals(3, r.getCount());
+        assertEquals(R.okList(Arrays.asList("a", null, "c")).getMsg(), r.getMsg());
+        try {
+            mapper.writeValueAsString(r);
+            fail();
+        } catch (JsonMappingException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    public void testIteratorAndEmpty() throws IOException {
+        assertEquals("{\"timestamp\":null,\"elapsed\":null,\"success\":true,\"code\":\"0\",\"data\":[1,2],\"msg\":\"请求成功,数据共2行\"}",
+                mapper.writeValueAsString(R.okIterator(Arrays.asList(1, 2).iterator())));
+        assertEquals("{\"timestamp\":null,\"elapsed\":null,\"success\":true,\"code\":\"0\",\"data\":[],\"msg\":\"请求成功,数据共0行\"}",
+                mapper.writeValueAsString(R.okStream(null)));
+    }
+
+    public void testLargeStreamWrittenIncrementally() throws IOException {
+        int rows = 300_000;
+        CountingOutputStream out = new CountingOutputStream();
+        RStream<Row> r = R.okStream(IntStream.range(0, rows).mapToObj(i -> new Row(i, "商品" + i)));
+        mapper.writeValue(out, r);
+        assertEquals(rows, r.getCount());
+        assertTrue(out.writes > 1);
+        assertEquals("请求成功,数据共300,000行", r.getMsg());
+    }
+
+    public void testFailureClosesSource() {
+        AtomicBoolean closed = new AtomicBoolean();
+        RStream<Object> r = R.okStream(Stream.of(1, 2).map(i -> {
+            if (i == 2) {
+                throw new IllegalArgumentException("读取失败");
+            }
+            return i;
+        }).onClose(() -> closed.set(true)));
+        try {
+            mapper.writeValueAsString(r);
+            fail();
+        } catch (IOException | IllegalArgumentException e) {
+            assertTrue(closed.get());
+        }
+    }
+
+    public void testCloseWithoutSerializing() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        try (RStream<Integer> r = R.okStream(Stream.of(1, 2).onClose(() -> closed.set(true)))) {
+            assertEquals(0, r.getCount());
+        }
+        assertTrue(closed.get());
+
+        RStream<Integer> r = R.okIterator(new CloseFailingIterator());
+        try {
+            r.close();
+            fail();
+        } catch (IOException e) {
+            assertEquals("游标关闭失败", e.getCause().getMessage());
+        }
+    }
+
+    private static class CloseFailingIterator implements Iterator<Integer>, AutoCloseable {
+
+        @Override
+        public boolean hasNext() {
+            return false;
+        }
+
+        @Override
+        public Integer next() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void close() throws Exception {
+            throw new Exception("游标关闭失败");
+        }
+    }
+
+    public static class Row {
+        private final int id;
+        private final String name;
+
+        Row(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private int writes;
+
+        @Override
+        public void write(int b) {
+            writes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            writes++;
+        }
+    }
+}